@@ -27,9 +27,13 @@ CREATE TABLE Car (
     next_inspection_date DATE,
     car_status VARCHAR(20) NOT NULL CHECK (car_status IN ('Functional', 'OutOfService')),
     last_washing_date DATE,
-    next_washing_date DATE
+    next_washing_date DATE,
+    version INT NOT NULL DEFAULT 0
 );
 
+-- Databases created before the version column was added can be upgraded with:
+-- ALTER TABLE Car ADD version INT NOT NULL DEFAULT 0;
+
 CREATE SEQUENCE car_seq
     START WITH 1
     INCREMENT BY 1;
@@ -131,4 +135,24 @@ INSERT INTO booking (car_id, customer_id, employee_id, booking_date, return_date
 VALUES
 ('C0002', 'CUS0002', 'E0002', '2024-03-21', '2024-03-25', NULL);
 
-select * from Booking
\ No newline at end of file
+select * from Booking
+
+-- Row versions checked before the application reuses its saved cache snapshot. SQL Server stamps every
+-- inserted or updated row with a new database-wide rowversion, so the highest row version of a table together
+-- with its row count changes on every insert, update and delete, without writing to any shared row.
+
+ALTER TABLE Car ADD row_version ROWVERSION;
+CREATE INDEX IX_Car_row_version ON Car (row_version);
+
+ALTER TABLE Customer ADD row_version ROWVERSION;
+CREATE INDEX IX_Customer_row_version ON Customer (row_version);
+
+ALTER TABLE Employee ADD row_version ROWVERSION;
+CREATE INDEX IX_Employee_row_version ON Employee (row_version);
+
+ALTER TABLE booking ADD row_version ROWVERSION;
+CREATE INDEX IX_booking_row_version ON booking (row_version);
+
+-- Databases set up with the earlier change counters can drop them with:
+-- DROP TRIGGER TR_Car_Change; DROP TRIGGER TR_Customer_Change; DROP TRIGGER TR_Employee_Change;
+-- DROP TRIGGER TR_Booking_Change; DROP TABLE TableChange;
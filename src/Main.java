@@ -1,4 +1,6 @@
+import services.database.CacheDiagnostics;
 import services.menu.LoginMenu;
+import services.repository.Repositories;
 
 /**
  * Main class to start the application.
@@ -10,6 +12,9 @@ public class Main {
      * @param args Command-line arguments.
      */
     public static void main(String[] args) {
+        // Warm the caches in the background so the login prompt appears straight away
+        Repositories.warmUpInBackground();
+        CacheDiagnostics.registerMBeans();
         LoginMenu.login();
     }
 }
@@ -0,0 +1,86 @@
+package benchmarks;
+
+import entities.Booking;
+import services.database.BookingDAO;
+import services.database.CarDAO;
+import services.database.ConnectionManager;
+import services.database.CustomerDAO;
+import services.database.EmployeeDAO;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static constants.CarRentalManagementSystemConstants.BOOKING.*;
+
+/**
+ * Compares database round-trips per booking between the old per-row lookup path and the joined booking loader.
+ * Run against a populated database: java benchmarks.BookingLoadBenchmark [iterations]
+ * Author: Amisha Nakrani
+ */
+public class BookingLoadBenchmark {
+
+    /**
+     * Runs both loading paths and prints round-trips and elapsed time per booking.
+     *
+     * @param args Optional number of iterations per path (default 3).
+     */
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+
+        // Warm up the pool and the JIT so the first measured run is not penalized
+        loadPerRow();
+        BookingDAO.displayBookings();
+
+        for (int i = 1; i <= iterations; i++) {
+            long borrowsBefore = ConnectionManager.getPoolStats().getTotalBorrows();
+            long start = System.nanoTime();
+            int perRowCount = loadPerRow();
+            report("per-row lookups (before)", i, perRowCount, borrowsBefore, start);
+
+            borrowsBefore = ConnectionManager.getPoolStats().getTotalBorrows();
+            start = System.nanoTime();
+            int joinedCount = BookingDAO.displayBookings().size();
+            report("joined loader   (after) ", i, joinedCount, borrowsBefore, start);
+        }
+
+        System.out.println(ConnectionManager.getPoolStats());
+        ConnectionManager.shutdown();
+    }
+
+    /**
+     * Reproduces the previous loading path: one query for the bookings, then one query each
+     * for the car, customer and employee of every booking.
+     *
+     * @return The number of bookings loaded.
+     */
+    private static int loadPerRow() {
+        int count = 0;
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT * FROM Booking");
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                CarDAO.getCarById(resultSet.getString(CAR_ID_COLUMN));
+                CustomerDAO.getCustomerById(resultSet.getString(CUSTOMER_ID_COLUMN));
+                EmployeeDAO.getEmployeeById(resultSet.getString(EMPLOYEE_ID_COLUMN));
+                count++;
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return count;
+    }
+
+    /**
+     * Prints the round-trips (one query per pooled connection borrow) and time spent per booking.
+     */
+    private static void report(String label, int iteration, int bookings, long borrowsBefore, long startNanos) {
+        double elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000.0;
+        long roundTrips = ConnectionManager.getPoolStats().getTotalBorrows() - borrowsBefore;
+        System.out.printf("%s run %d: %d bookings, %d round-trips (%.3f per booking), %.1f ms (%.4f ms per booking)%n",
+                label, iteration, bookings, roundTrips, bookings == 0 ? 0.0 : (double) roundTrips / bookings,
+                elapsedMillis, bookings == 0 ? 0.0 : elapsedMillis / bookings);
+    }
+}
@@ -1,5 +1,8 @@
 package constants;
 
+import java.nio.file.Paths;
+import java.util.List;
+
 /**
  * Constants class for Car Rental Management System.
  * Contains static final inner classes for defining column names in database tables.
@@ -32,6 +35,17 @@ public final class CarRentalManagementSystemConstants {
         public static final String CAR_STATUS_COLUMN = "car_status";
         public static final String LAST_WASHING_DATE_COLUMN = "last_washing_date";
         public static final String NEXT_WASHING_DATE_COLUMN = "next_washing_date";
+
+        // All columns of the 'CAR' table, in table order
+        public static final List<String> COLUMNS = List.of(CAR_ID_COLUMN, BRAND_COLUMN, MODEL_COLUMN, COLOR_COLUMN,
+                NO_OF_PASSENGERS_COLUMN, FUEL_TYPE_COLUMN, PURCHASE_DATE_COLUMN, TRANSMISSION_TYPE_COLUMN,
+                IS_AVAILABLE_COLUMN, CAR_PRICE_COLUMN, RENTAL_PRICE_COLUMN, IS_REMOVED_COLUMN, LAST_OIL_CHANGE_COLUMN,
+                NEXT_OIL_CHANGE_COLUMN, LAST_INSPECTION_DATE_COLUMN, NEXT_INSPECTION_DATE_COLUMN, CAR_STATUS_COLUMN,
+                LAST_WASHING_DATE_COLUMN, NEXT_WASHING_DATE_COLUMN);
+
+        // Columns read for the fleet maintenance view
+        public static final List<String> MAINTENANCE_VIEW_COLUMNS = List.of(CAR_ID_COLUMN, BRAND_COLUMN, MODEL_COLUMN,
+                COLOR_COLUMN, CAR_STATUS_COLUMN, LAST_OIL_CHANGE_COLUMN, NEXT_OIL_CHANGE_COLUMN, LAST_INSPECTION_DATE_COLUMN);
     }
 
     /**
@@ -46,6 +60,15 @@ public final class CarRentalManagementSystemConstants {
         public static final String BOOKING_DATE_COLUMN = "booking_date";
         public static final String RETURN_DATE_COLUMN = "return_date";
         public static final String CANCELLATION_DATE_COLUMN = "cancellation_date";
+
+        // All columns of the 'BOOKING' table, in table order
+        public static final List<String> COLUMNS = List.of(BOOKING_ID_COLUMN, CAR_ID_COLUMN, CUSTOMER_ID_COLUMN,
+                EMPLOYEE_ID_COLUMN, BOOKING_DATE_COLUMN, RETURN_DATE_COLUMN, CANCELLATION_DATE_COLUMN);
+
+        // Column alias prefixes used when bookings are loaded together with their car, customer and employee
+        public static final String CAR_COLUMN_PREFIX = "car_";
+        public static final String CUSTOMER_COLUMN_PREFIX = "customer_";
+        public static final String EMPLOYEE_COLUMN_PREFIX = "employee_";
     }
 
     /**
@@ -61,6 +84,10 @@ public final class CarRentalManagementSystemConstants {
         public static final String CONTACT_NO_COLUMN = "contact_no";
         public static final String IS_REMOVED_COLUMN = "is_removed";
         public static final String PASSWORD_COLUMN = "password";
+
+        // All columns of the 'CUSTOMER' table, in table order
+        public static final List<String> COLUMNS = List.of(CUSTOMER_ID_COLUMN, FIRST_NAME_COLUMN, LAST_NAME_COLUMN,
+                ADDRESS_COLUMN, EMAIL_COLUMN, CONTACT_NO_COLUMN, IS_REMOVED_COLUMN, PASSWORD_COLUMN);
     }
 
     /**
@@ -79,6 +106,11 @@ public final class CarRentalManagementSystemConstants {
         public static final String IS_REMOVED_COLUMN = "is_removed";
         public static final String IS_MANAGER_COLUMN = "is_manager";
         public static final String PASSWORD_COLUMN = "password";
+
+        // All columns of the 'EMPLOYEE' table, in table order
+        public static final List<String> COLUMNS = List.of(EMPLOYEE_ID_COLUMN, FIRST_NAME_COLUMN, LAST_NAME_COLUMN,
+                ADDRESS_COLUMN, EMAIL_COLUMN, PHONE_NUMBER_COLUMN, DATE_OF_BIRTH_COLUMN, HIRE_DATE_COLUMN,
+                IS_REMOVED_COLUMN, IS_MANAGER_COLUMN, PASSWORD_COLUMN);
     }
 
     /**
@@ -90,7 +122,117 @@ public final class CarRentalManagementSystemConstants {
         public static final String DB_NAME = "db.name";
         public static final String DB_USERNAME = "db.username";
         public static final String DB_PASSWORD = "db.password";
-        public static final String DATABASE_PROPERTIES = "src\\services\\database\\database.properties";
+        public static final String DB_URL = "db.url";
+        public static final String DATABASE_PROPERTIES = "src/services/database/database.properties";
+
+        // Configuration overrides
+        public static final String PROPERTY_PREFIX = "db.";
+        public static final String ENVIRONMENT_PREFIX = "DB_";
+        public static final String DATABASE_PROPERTIES_FILE_PROPERTY = "db.properties.file";
+        public static final String DATABASE_PROPERTIES_FILE_ENVIRONMENT = "DB_PROPERTIES_FILE";
+        public static final String CONFIG_WATCH = "db.config.watch";
+
+        // Storage engine selection
+        public static final String ENGINE = "db.engine";
+        public static final String ENGINE_JDBC = "jdbc";
+        public static final String ENGINE_MEMORY = "memory";
+
+        // Streaming reads
+        public static final String FETCH_SIZE = "db.fetchSize";
+        public static final int DEFAULT_FETCH_SIZE = 500;
+
+        // Paginated listings
+        public static final String PAGE_SIZE = "db.pageSize";
+        public static final int DEFAULT_PAGE_SIZE = 20;
+
+        // Asynchronous data access
+        public static final String ASYNC_MAX_CONCURRENCY = "db.async.maxConcurrency";
+        public static final int DEFAULT_ASYNC_MAX_CONCURRENCY = 10;
+
+        // Startup warm-up
+        public static final String WARMUP_ENABLED = "db.warmup.enabled";
+        public static final boolean DEFAULT_WARMUP_ENABLED = true;
+    }
+
+    /**
+     * Inner class for defining constants related to the entity caches in front of the DAOs.
+     */
+    public static final class ENTITY_CACHE {
+        // Cache property names
+        public static final String CAR_MAX_SIZE = "db.cache.car.maxSize";
+        public static final String CAR_TTL_MS = "db.cache.car.ttlMs";
+        public static final String CUSTOMER_MAX_SIZE = "db.cache.customer.maxSize";
+        public static final String CUSTOMER_TTL_MS = "db.cache.customer.ttlMs";
+        public static final String EMPLOYEE_MAX_SIZE = "db.cache.employee.maxSize";
+        public static final String EMPLOYEE_TTL_MS = "db.cache.employee.ttlMs";
+        public static final String FLEET_MAX_AGE_MS = "db.cache.fleet.maxAgeMs";
+        public static final String BOOKING_SUMMARY_MAX_SIZE = "db.cache.bookingSummary.maxSize";
+        public static final String BOOKING_SUMMARY_TTL_MS = "db.cache.bookingSummary.ttlMs";
+        public static final String SNAPSHOT_FILE = "db.cache.snapshot.file";
+
+        // Cache defaults
+        public static final int DEFAULT_CAR_MAX_SIZE = 1000;
+        public static final long DEFAULT_CAR_TTL_MS = 300_000;
+        public static final int DEFAULT_CUSTOMER_MAX_SIZE = 1000;
+        public static final long DEFAULT_CUSTOMER_TTL_MS = 600_000;
+        public static final int DEFAULT_EMPLOYEE_MAX_SIZE = 200;
+        public static final long DEFAULT_EMPLOYEE_TTL_MS = 600_000;
+        public static final long DEFAULT_FLEET_MAX_AGE_MS = 600_000;
+        public static final int DEFAULT_BOOKING_SUMMARY_MAX_SIZE = 500;
+        public static final long DEFAULT_BOOKING_SUMMARY_TTL_MS = 300_000;
+        // Kept in the user's home directory rather than the working directory, as it holds password hashes
+        public static final String DEFAULT_SNAPSHOT_FILE = Paths.get(System.getProperty("user.home"), ".satoshi", "cache-snapshot.bin").toString();
+
+        // Tables whose row versions are checked before a saved snapshot is used
+        public static final String ROW_VERSION_COLUMN = "row_version";
+        public static final String CAR_TABLE = "Car";
+        public static final String CUSTOMER_TABLE = "Customer";
+        public static final String EMPLOYEE_TABLE = "Employee";
+        public static final String BOOKING_TABLE = "Booking";
+    }
+
+    /**
+     * Inner class for defining constants related to the in-memory search indexes and fleet facets.
+     */
+    public static final class SEARCH {
+        // Search property names
+        public static final String EMPLOYEE_RESULT_LIMIT = "db.search.employee.resultLimit";
+        public static final String APPROXIMATE_RESULT_LIMIT = "db.search.approximate.resultLimit";
+        public static final String APPROXIMATE_VISIT_BUDGET = "db.search.approximate.visitBudget";
+
+        // Search defaults
+        public static final int DEFAULT_EMPLOYEE_RESULT_LIMIT = 20;
+        public static final int DEFAULT_APPROXIMATE_RESULT_LIMIT = 20;
+        public static final int DEFAULT_APPROXIMATE_VISIT_BUDGET = 20000;
+
+        // Width of the rental price bands the fleet is faceted by
+        public static final double RENTAL_PRICE_BAND_WIDTH = 20.0;
+    }
+
+    /**
+     * Inner class for defining constants related to the database connection pool.
+     */
+    public static final class CONNECTION_POOL {
+        // Connection pool property names
+        public static final String MIN_SIZE = "db.pool.minSize";
+        public static final String MAX_SIZE = "db.pool.maxSize";
+        public static final String IDLE_TIMEOUT_MS = "db.pool.idleTimeoutMs";
+        public static final String BORROW_TIMEOUT_MS = "db.pool.borrowTimeoutMs";
+        public static final String VALIDATION_INTERVAL_MS = "db.pool.validationIntervalMs";
+        public static final String VALIDATION_TIMEOUT_SECONDS = "db.pool.validationTimeoutSeconds";
+        public static final String LEAK_DETECTION_THRESHOLD_MS = "db.pool.leakDetectionThresholdMs";
+        public static final String STATEMENT_CACHE_SIZE = "db.pool.statementCacheSize";
+
+        // Connection pool defaults
+        public static final int DEFAULT_MIN_SIZE = 1;
+        public static final int DEFAULT_MAX_SIZE = 10;
+        public static final long DEFAULT_IDLE_TIMEOUT_MS = 300_000;
+        public static final long DEFAULT_BORROW_TIMEOUT_MS = 30_000;
+        public static final long DEFAULT_VALIDATION_INTERVAL_MS = 500;
+        public static final int DEFAULT_VALIDATION_TIMEOUT_SECONDS = 5;
+        public static final long DEFAULT_LEAK_DETECTION_THRESHOLD_MS = 0; // Off, since every borrow would capture a stack trace
+        public static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+        public static final long HOUSEKEEPING_INTERVAL_MS = 30_000;
     }
 
 }
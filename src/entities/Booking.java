@@ -38,6 +38,18 @@ public class Booking {
         this.cancellationDate = cancellationDate;
     }
 
+    /**
+     * Copy constructor for the Booking class. The car, customer and employee are copied as well.
+     * @param other The booking to copy.
+     */
+    public Booking(Booking other) {
+        this(other.bookingId, other.car == null ? null : new Car(other.car),
+                other.customer == null ? null : new Customer(other.customer),
+                other.employee == null ? null : new Employee(other.employee),
+                other.bookingDate, other.returnDate, other.cancellationDate);
+        this.invoiceAmount = other.invoiceAmount;
+    }
+
     // Getters and Setters
 
     /**
@@ -0,0 +1,20 @@
+package entities;
+
+import java.sql.Date;
+
+/**
+ * Read-only view of the booking columns shown in rental history listings, read without joining
+ * the car, customer and employee tables.
+ * Author: Amisha Nakrani
+ *
+ * @param bookingId        The unique identifier for the booking.
+ * @param carId            The ID of the booked car.
+ * @param customerId       The ID of the customer who made the booking.
+ * @param employeeId       The ID of the employee responsible for the booking.
+ * @param bookingDate      The date when the booking was made.
+ * @param returnDate       The date when the car was returned, or null.
+ * @param cancellationDate The date when the booking was cancelled, or null.
+ */
+public record BookingListingView(String bookingId, String carId, String customerId, String employeeId,
+                                 Date bookingDate, Date returnDate, Date cancellationDate) {
+}
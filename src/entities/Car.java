@@ -87,6 +87,18 @@ public class Car {
         this.nextWashingDate = nextWashingDate;
     }
 
+    /**
+     * Copy constructor for the Car class.
+     * @param other The car to copy.
+     */
+
+    public Car(Car other) {
+        this(other.carId, other.brand, other.model, other.color, other.noOfPassengers, other.fuelType,
+                other.purchaseDate, other.transmissionType, other.available, other.carPrice, other.rentalPrice,
+                other.removed, other.lastOilChange, other.nextOilChange, other.lastInspectionDate,
+                other.nextInspectionDate, other.carStatus, other.lastWashingDate, other.nextWashingDate);
+    }
+
     // Getters and setters
 
     public String getCarId() {
@@ -38,6 +38,16 @@ public class Customer {
         this.password = password;
     }
 
+    /**
+     * Copy constructor for the Customer class.
+     * @param other The customer to copy.
+     */
+
+    public Customer(Customer other) {
+        this(other.customerId, other.firstName, other.lastName, other.address, other.email, other.contactNo,
+                other.isRemoved, other.password);
+    }
+
     // Getters and setters
 
     public String getCustomerId() {
@@ -51,6 +51,17 @@ public class Employee {
         this.password = password;
     }
 
+    /**
+     * Copy constructor for the Employee class.
+     *
+     * @param other The employee to copy.
+     */
+
+    public Employee(Employee other) {
+        this(other.employeeId, other.firstName, other.lastName, other.address, other.email, other.phoneNumber,
+                other.dateOfBirth, other.hireDate, other.removed, other.manager, other.password);
+    }
+
     // Getters and setters
 
     public String getEmployeeId() {
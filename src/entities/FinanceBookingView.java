@@ -0,0 +1,36 @@
+package entities;
+
+import services.calculation.InvoiceCalculationService;
+
+import java.sql.Date;
+
+/**
+ * Read-only view of a booking with just what the finance reports print and need to price it.
+ * Author: Aashika Vachhani
+ *
+ * @param bookingId   The unique identifier for the booking.
+ * @param carModel    The model of the booked car.
+ * @param customerId  The ID of the customer who made the booking.
+ * @param bookingDate The date when the booking was made.
+ * @param returnDate  The date when the car was returned.
+ * @param rentalPrice The rental price per day of the booked car.
+ */
+public record FinanceBookingView(String bookingId, String carModel, String customerId, Date bookingDate,
+                                 Date returnDate, double rentalPrice) {
+
+    /**
+     * Get the invoice amount for the booking.
+     * @return The invoice amount, calculated the same way as for a full booking.
+     */
+    public double invoiceAmount() {
+        return InvoiceCalculationService.calculateInvoice(bookingDate, returnDate, rentalPrice);
+    }
+
+    /**
+     * Get the number of days charged for the booking.
+     * @return The number of whole days between the booking and return dates.
+     */
+    public long rentalDays() {
+        return InvoiceCalculationService.calculateRentalDays(bookingDate, returnDate);
+    }
+}
@@ -0,0 +1,12 @@
+package entities;
+
+/**
+ * Totals of a finance report, aggregated by the database instead of summed booking by booking.
+ * Author: Aashika Vachhani
+ *
+ * @param bookingCount The number of bookings in the report.
+ * @param rentalDays   The number of days the cars were rented over those bookings.
+ * @param revenue      The total invoice amount of those bookings.
+ */
+public record FinanceSummary(int bookingCount, long rentalDays, double revenue) {
+}
@@ -0,0 +1,20 @@
+package entities;
+
+import java.sql.Date;
+
+/**
+ * Read-only view of the car columns shown on the fleet maintenance screens.
+ * Author: Ghazala Anjum
+ *
+ * @param carId              The unique identifier for the car.
+ * @param brand              The brand of the car.
+ * @param model              The model of the car.
+ * @param color              The color of the car.
+ * @param carStatus          The status of the car.
+ * @param lastOilChange      The date of the last oil change for the car.
+ * @param nextOilChange      The date of the next scheduled oil change for the car.
+ * @param lastInspectionDate The date of the last inspection for the car.
+ */
+public record FleetMaintenanceView(String carId, String brand, String model, String color, CarStatus carStatus,
+                                   Date lastOilChange, Date nextOilChange, Date lastInspectionDate) {
+}
@@ -4,14 +4,12 @@ import entities.Booking;
 import entities.Car;
 import entities.Customer;
 import entities.Employee;
-import services.database.BookingDAO;
-import services.database.CarDAO;
-import services.database.CustomerDAO;
-import services.database.EmployeeDAO;
+import services.repository.AsyncRepositories;
+import services.repository.Repositories;
 
 import java.sql.Date;
-import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service class for input and validation related to booking and returning cars in the Car Rental Management System.
@@ -150,7 +148,7 @@ public class BookingAndReturnInputAndValidationService {
             employeeId = scanner.nextLine(); // Get user input for employee ID
 
             // Retrieve employee information from the database
-            employee = EmployeeDAO.getEmployeeById(employeeId);
+            employee = Repositories.employees().getEmployeeById(employeeId);
 
             // Check if the employee exists and is not removed
             if (employee != null && !employee.isRemoved()) {
@@ -184,7 +182,7 @@ public class BookingAndReturnInputAndValidationService {
             }
 
             // Retrieve customer information from the database
-            customer = CustomerDAO.getCustomerById(customerId);
+            customer = Repositories.customers().getCustomerById(customerId);
 
             // Check if the customer exists and is not removed
             if (customer != null && !customer.isRemoved()) {
@@ -217,7 +215,7 @@ public class BookingAndReturnInputAndValidationService {
             String carId = scanner.nextLine(); // Get user input for car ID
 
             // Retrieve car information from the database
-            car = CarDAO.getCarById(carId);
+            car = Repositories.cars().getCarById(carId);
 
             // Check if the car exists and is available for booking
             if (car != null && car.isAvailable() && !car.isRemoved()) {
@@ -230,6 +228,121 @@ public class BookingAndReturnInputAndValidationService {
         return car; // Return the retrieved car available for booking
     }
 
+    /**
+     * Prompts for a car ID until one matches a car, then starts loading the car in the background,
+     * so the next prompt can be answered while the load runs.
+     *
+     * @param scanner The Scanner object for user input.
+     * @return The pending car load.
+     */
+    public static CompletableFuture<Car> requestCar(Scanner scanner) {
+        String carId = null; // Variable to store car ID
+        boolean isKnownCar = false; // Flag to track input validity
+
+        // Check the ID as soon as it is entered, so a mistyped ID is asked for again straight away
+        while (!isKnownCar) {
+            System.out.print("Enter car ID: ");
+            carId = scanner.nextLine();
+            isKnownCar = Repositories.cars().carExists(carId);
+            if (!isKnownCar) {
+                System.out.println("Invalid car ID or the car is not available for booking. Please try again.");
+            }
+        }
+        return AsyncRepositories.getCarById(carId);
+    }
+
+    /**
+     * Prompts for a customer ID, unless a known one is given, until one matches a customer,
+     * then starts loading the customer in the background.
+     *
+     * @param cid     The customer ID, or null to prompt for one.
+     * @param scanner The Scanner object for user input.
+     * @return The pending customer load.
+     */
+    public static CompletableFuture<Customer> requestCustomer(String cid, Scanner scanner) {
+        String customerId = cid; // Variable to store customer ID
+
+        // Check the ID as soon as it is entered, so a mistyped ID is asked for again straight away
+        while (null == customerId || !Repositories.customers().customerExists(customerId)) {
+            if (null != customerId) {
+                System.out.println("Invalid customer ID or the customer is removed. Please try again.");
+            }
+            System.out.print("Enter customer ID: ");
+            customerId = scanner.nextLine();
+        }
+        return AsyncRepositories.getCustomerById(customerId);
+    }
+
+    /**
+     * Prompts for an employee ID until one matches an employee, then starts loading the employee in the background.
+     *
+     * @param scanner The Scanner object for user input.
+     * @return The pending employee load.
+     */
+    public static CompletableFuture<Employee> requestEmployee(Scanner scanner) {
+        String employeeId = null; // Variable to store employee ID
+        boolean isKnownEmployee = false; // Flag to track input validity
+
+        // Check the ID as soon as it is entered, so a mistyped ID is asked for again straight away
+        while (!isKnownEmployee) {
+            System.out.print("Enter employee ID: ");
+            employeeId = scanner.nextLine();
+            isKnownEmployee = Repositories.employees().employeeExists(employeeId);
+            if (!isKnownEmployee) {
+                System.out.println("Invalid employee ID or the employee is removed. Please try again.");
+            }
+        }
+        return AsyncRepositories.getEmployeeById(employeeId);
+    }
+
+    /**
+     * Waits for a background car load and checks the car can be booked, prompting for another car ID if not.
+     *
+     * @param lookup  The pending car load.
+     * @param scanner The Scanner object for user input.
+     * @return The Car object available for booking.
+     */
+    public static Car awaitCarForBooking(CompletableFuture<Car> lookup, Scanner scanner) {
+        Car car = lookup.join();
+        if (car != null && car.isAvailable() && !car.isRemoved()) {
+            return car;
+        }
+        System.out.println("Invalid car ID or the car is not available for booking. Please try again.");
+        return getCarForBooking(scanner);
+    }
+
+    /**
+     * Waits for a background customer load and checks the customer is active, prompting for another customer ID if not.
+     *
+     * @param lookup  The pending customer load.
+     * @param scanner The Scanner object for user input.
+     * @return The Customer object.
+     */
+    public static Customer awaitCustomer(CompletableFuture<Customer> lookup, Scanner scanner) {
+        Customer customer = lookup.join();
+        if (customer != null && !customer.isRemoved()) {
+            return customer;
+        }
+        System.out.println("Invalid customer ID or the customer is removed. Please try again.");
+        return getCustomer(null, scanner);
+    }
+
+    /**
+     * Waits for a background employee load and checks the employee is active, prompting for another employee ID if not.
+     *
+     * @param lookup  The pending employee load.
+     * @param scanner The Scanner object for user input.
+     * @return The Employee object.
+     */
+    public static Employee awaitEmployee(CompletableFuture<Employee> lookup, Scanner scanner) {
+        Employee employee = lookup.join();
+        if (employee != null && !employee.isRemoved()) {
+            return employee;
+        }
+        System.out.println("Invalid employee ID or the employee is removed. Please try again.");
+        return getEmployee(scanner);
+    }
+
     /**
      * Retrieves a unique booking ID based on user input.
      *
@@ -240,16 +353,13 @@ public class BookingAndReturnInputAndValidationService {
         String bookingId = ""; // Initialize booking ID
         boolean isValidId = false; // Flag to track input validity
 
-        // Retrieve existing booking IDs from the database
-        List<String> existingBookingIds = BookingDAO.getAllBookingIds();
-
         // Continue until a unique booking ID is obtained
         while (!isValidId) {
             System.out.print("Enter booking ID: ");
             bookingId = scanner.nextLine(); // Get user input for booking ID
 
             // Check if the entered booking ID is unique
-            if (!existingBookingIds.contains(bookingId)) {
+            if (!Repositories.bookings().bookingExists(bookingId)) {
                 isValidId = true; // Set flag to true to exit the loop
             } else {
                 System.out.println("Booking ID already exists. Please enter a different one.");
@@ -288,8 +398,6 @@ public class BookingAndReturnInputAndValidationService {
      * @return The entered booking ID.
      */
     public static String getBookingIdForReturnOrCancel(Scanner scanner) {
-        // Retrieve all existing booking IDs
-        List<String> allBookingIds = BookingDAO.getAllBookingIds();
         String bookingId = "";
         boolean isValidId = false;
 
@@ -298,8 +406,8 @@ public class BookingAndReturnInputAndValidationService {
             System.out.print("Enter booking ID of the car: ");
             bookingId = scanner.nextLine();
 
-            // Check if the entered booking ID exists in the list of all booking IDs
-            if (allBookingIds.contains(bookingId)) {
+            // Check if the entered booking ID exists
+            if (Repositories.bookings().bookingExists(bookingId)) {
                 isValidId = true; // Set isValidId to true to exit the loop
             } else {
                 // Print an error message if the entered booking ID is invalid
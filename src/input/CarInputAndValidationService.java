@@ -3,10 +3,10 @@ package input;
 import entities.CarStatus;
 import entities.FuelType;
 import entities.TransmissionType;
-import services.database.CarDAO;
+import services.repository.Repositories;
 
 import java.sql.Date;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Scanner;
 
 /**
@@ -562,13 +562,13 @@ public class CarInputAndValidationService {
     }
 
     /**
-     * Retrieves the search term for a car (car_id, brand, or model) based on user input.
+     * Retrieves the search term for a car (car_id, brand, model, or color) based on user input.
      *
      * @param scanner The Scanner object to read user input from.
      * @return The search term as a String.
      */
     public static String getSearchTermForCar(Scanner scanner) {
-        System.out.print("Enter search term (car_id, brand, or model): ");
+        System.out.print("Enter search term (car_id, brand, model, or color): ");
         String searchTerm = scanner.nextLine();
         return searchTerm;
     }
@@ -580,14 +580,13 @@ public class CarInputAndValidationService {
      * @return The car ID as a String.
      */
     public static String getCarIdForUpdate(Scanner scanner) {
-        List<String> allCarIds = CarDAO.getAllCarIds();
         boolean validInput = false;
         String carId = "";
 
         while (!validInput) {
             System.out.print("Enter car ID: ");
             carId = scanner.nextLine();
-            if (allCarIds.contains(carId)) {
+            if (Repositories.cars().carExists(carId)) {
                 validInput = true;
             } else {
                 System.out.println("The entered car ID does not exist. Please enter a valid car ID.");
@@ -609,7 +608,7 @@ public class CarInputAndValidationService {
         while (!validInput) {
             System.out.print("Enter car ID: ");
             carId = scanner.nextLine();
-            if (CarDAO.getAllCarIds().contains(carId)) {
+            if (Repositories.cars().carExists(carId)) {
                 System.out.println("This car ID is not unique. Please enter a unique car ID.");
             } else {
                 validInput = true;
@@ -620,4 +619,121 @@ public class CarInputAndValidationService {
     }
 
 
+
+    /**
+     * Retrieves the fuel type to filter cars by, or none.
+     *
+     * @param scanner The Scanner object to read user input from.
+     * @return The fuel type, or null if left blank.
+     */
+    public static FuelType getFuelTypeFilter(Scanner scanner) {
+        return getOptionalChoice(scanner, "Fuel type", FuelType.class);
+    }
+
+    /**
+     * Retrieves the transmission type to filter cars by, or none.
+     *
+     * @param scanner The Scanner object to read user input from.
+     * @return The transmission type, or null if left blank.
+     */
+    public static TransmissionType getTransmissionTypeFilter(Scanner scanner) {
+        return getOptionalChoice(scanner, "Transmission type", TransmissionType.class);
+    }
+
+    /**
+     * Retrieves the car status to filter cars by, or none.
+     *
+     * @param scanner The Scanner object to read user input from.
+     * @return The car status, or null if left blank.
+     */
+    public static CarStatus getCarStatusFilter(Scanner scanner) {
+        return getOptionalChoice(scanner, "Car status", CarStatus.class);
+    }
+
+    /**
+     * Retrieves the number of seats to filter cars by, or none.
+     *
+     * @param scanner The Scanner object to read user input from.
+     * @return The number of seats, or null if left blank.
+     */
+    public static Integer getNoOfPassengersFilter(Scanner scanner) {
+        while (true) {
+            System.out.print("Number of passengers (leave blank for any): ");
+            String input = scanner.nextLine().trim();
+            if (input.isEmpty()) {
+                return null;
+            }
+            try {
+                int noOfPassengers = Integer.parseInt(input);
+                if (noOfPassengers > 0) {
+                    return noOfPassengers;
+                }
+                System.out.println("The number of passengers cannot be negative or zero.");
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid input. Please enter a valid integer or leave it blank.");
+            }
+        }
+    }
+
+    /**
+     * Retrieves the highest rental price to filter cars by, or none.
+     *
+     * @param scanner The Scanner object to read user input from.
+     * @return The highest rental price, or null if left blank.
+     */
+    public static Double getMaxRentalPriceFilter(Scanner scanner) {
+        while (true) {
+            System.out.print("Maximum rental price (leave blank for any): ");
+            String input = scanner.nextLine().trim();
+            if (input.isEmpty()) {
+                return null;
+            }
+            try {
+                double maxRentalPrice = Double.parseDouble(input);
+                if (maxRentalPrice > 0) {
+                    return maxRentalPrice;
+                }
+                System.out.println("Invalid input. Please enter a positive value.");
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid input. Please enter a numeric value or leave it blank.");
+            }
+        }
+    }
+
+    /**
+     * Asks whether only available cars should be shown.
+     *
+     * @param scanner The Scanner object to read user input from.
+     * @return True unless the user answers no.
+     */
+    public static boolean isAvailableOnlyFilter(Scanner scanner) {
+        while (true) {
+            System.out.print("Only available cars? (yes/no, leave blank for yes): ");
+            String input = scanner.nextLine().trim();
+            if (input.isEmpty() || input.equalsIgnoreCase("yes")) {
+                return true;
+            } else if (input.equalsIgnoreCase("no")) {
+                return false;
+            }
+            System.out.println("Invalid input. Please enter either 'yes' or 'no'.");
+        }
+    }
+
+    /**
+     * Reads one of an enumeration's values, case-insensitively, or none when the input is left blank.
+     */
+    private static <E extends Enum<E>> E getOptionalChoice(Scanner scanner, String label, Class<E> type) {
+        while (true) {
+            System.out.print(label + " " + Arrays.toString(type.getEnumConstants()) + " (leave blank for any): ");
+            String input = scanner.nextLine().trim();
+            if (input.isEmpty()) {
+                return null;
+            }
+            try {
+                return Enum.valueOf(type, input.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                System.out.println("Invalid input. Please enter one of the listed values or leave it blank.");
+            }
+        }
+    }
 }
@@ -1,8 +1,7 @@
 package input;
 
-import services.database.CustomerDAO;
+import services.repository.Repositories;
 
-import java.util.List;
 import java.util.Scanner;
 
 /**
@@ -52,12 +51,13 @@ public class CustomerInputAndValidationService {
     }
 
     /**
-     * Retrieves the contact number of a customer based on user input.
+     * Retrieves the contact number of a customer based on user input, rejecting numbers held by another customer.
      *
-     * @param scanner The Scanner object to read user input from.
+     * @param scanner    The Scanner object to read user input from.
+     * @param customerId The customer being edited, or null when adding a customer.
      * @return The contact number of the customer as a long.
      */
-    public static long getContactNo(Scanner scanner) {
+    public static long getContactNo(Scanner scanner, String customerId) {
         boolean validInput = false;
         long contactNo = 0;
 
@@ -85,6 +85,12 @@ public class CustomerInputAndValidationService {
                 continue;
             }
 
+            // Check if the contact number belongs to another customer
+            if (Repositories.customers().isContactNoInUse(contactNo, customerId)) {
+                System.out.println("This contact number is already registered to another customer. Please enter a different one.");
+                continue;
+            }
+
             // Validation passed, set validInput to true to exit the loop
             validInput = true;
         }
@@ -94,15 +100,21 @@ public class CustomerInputAndValidationService {
     }
 
     /**
-     * Retrieves the email of a customer based on user input.
+     * Retrieves the email of a customer based on user input, rejecting emails held by another customer.
      *
-     * @param scanner The Scanner object to read user input from.
+     * @param scanner    The Scanner object to read user input from.
+     * @param customerId The customer being edited, or null when adding a customer.
      * @return The email of the customer as a String.
      */
-    public static String getEmail(Scanner scanner) {
-        System.out.print("Enter customer email: ");
-        String email = scanner.nextLine();
-        return email;
+    public static String getEmail(Scanner scanner, String customerId) {
+        while (true) {
+            System.out.print("Enter customer email: ");
+            String email = scanner.nextLine();
+            if (!Repositories.customers().isEmailInUse(email, customerId)) {
+                return email;
+            }
+            System.out.println("This email is already registered to another customer. Please enter a different one.");
+        }
     }
 
     /**
@@ -153,8 +165,7 @@ public class CustomerInputAndValidationService {
         while (!validInput) {
             System.out.print("Enter customer ID: ");
             customerId = scanner.nextLine();
-            List<String> existingIds = CustomerDAO.getAllCustomerIds();
-            if (existingIds.contains(customerId)) {
+            if (Repositories.customers().customerExists(customerId)) {
                 System.out.println("The entered customer ID already exists. Please enter a unique ID.");
             } else {
                 validInput = true;
@@ -172,11 +183,10 @@ public class CustomerInputAndValidationService {
     public static String getCustomerIdForUpdate(Scanner scanner) {
         boolean validInput = false;
         String customerId = null;
-        List<String> existingIds = CustomerDAO.getAllCustomerIds();
         while (!validInput) {
             System.out.print("Enter customer ID: ");
             customerId = scanner.nextLine();
-            if (!existingIds.contains(customerId)) {
+            if (!Repositories.customers().customerExists(customerId)) {
                 System.out.println("The entered customer ID does not exist. Please enter a valid ID.");
             } else {
                 validInput = true;
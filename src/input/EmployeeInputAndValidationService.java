@@ -1,11 +1,10 @@
 package input;
 
-import services.database.EmployeeDAO;
+import services.repository.Repositories;
 
 import java.sql.Date;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.List;
 import java.util.Scanner;
 
 /**
@@ -229,15 +228,12 @@ public class EmployeeInputAndValidationService {
         boolean isValidId = false;
         String employeeId = "";
 
-        // Retrieve the list of existing employee IDs
-        List<String> existingEmployeeIds = EmployeeDAO.getAllEmployeeIds();
-
         while (!isValidId) {
             System.out.print("Enter employee ID: ");
             employeeId = scanner.nextLine();
 
             // Check if the entered employee ID already exists
-            if (!existingEmployeeIds.contains(employeeId)) {
+            if (!Repositories.employees().employeeExists(employeeId)) {
                 isValidId = true;
             } else {
                 System.out.println("Employee ID already exists. Please enter a different one.");
@@ -257,15 +253,12 @@ public class EmployeeInputAndValidationService {
         boolean isValidId = false;
         String employeeId = "";
 
-        // Retrieve the list of existing employee IDs
-        List<String> existingEmployeeIds = EmployeeDAO.getAllEmployeeIds();
-
         while (!isValidId) {
             System.out.print("Enter employee ID: ");
             employeeId = scanner.nextLine();
 
             // Check if the entered employee ID exists
-            if (existingEmployeeIds.contains(employeeId)) {
+            if (Repositories.employees().employeeExists(employeeId)) {
                 isValidId = true;
             } else {
                 System.out.println("Employee ID does not exist. Please enter a valid one.");
@@ -282,7 +275,7 @@ public class EmployeeInputAndValidationService {
      * @return The search term as a String.
      */
     public static String getSearchTermForEmployee(Scanner scanner) {
-        System.out.print("Enter search term (employee_id, email, or phone number): ");
+        System.out.print("Enter search term (start of name, email, employee_id, or phone number): ");
         String searchTerm = scanner.nextLine();
         return searchTerm;
     }
@@ -51,4 +51,23 @@ public class FinanceDashboardInputAndValidationService {
         return startDate;
     }
 
+    /**
+     * Asks whether the bookings behind a finance report should be listed after its totals.
+     *
+     * @param scanner The Scanner object to read user input from.
+     * @return True if the user answers yes.
+     */
+    public static boolean isBookingDetailsRequested(Scanner scanner) {
+        while (true) {
+            System.out.print("Show booking details? (yes/no, leave blank for no): ");
+            String input = scanner.nextLine().trim();
+            if (input.isEmpty() || input.equalsIgnoreCase("no")) {
+                return false;
+            } else if (input.equalsIgnoreCase("yes")) {
+                return true;
+            }
+            System.out.println("Invalid input. Please enter either 'yes' or 'no'.");
+        }
+    }
+
 }
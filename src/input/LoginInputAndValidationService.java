@@ -1,9 +1,7 @@
 package input;
 
-import services.database.CustomerDAO;
-import services.database.EmployeeDAO;
+import services.repository.Repositories;
 
-import java.util.List;
 import java.util.Scanner;
 
 /**
@@ -60,8 +58,6 @@ public class LoginInputAndValidationService {
      * @return The validated customer ID.
      */
     public static String getCustomerId(Scanner scanner) {
-        List<String> existingCustomerIds = CustomerDAO.getAllCustomerIds();
-
         String id = "";
         boolean isValidId = false;
 
@@ -69,8 +65,8 @@ public class LoginInputAndValidationService {
             System.out.print("Please enter your customer ID: ");
             id = scanner.nextLine();
 
-            // Check if the entered customer ID exists in the list of existing customer IDs
-            if (existingCustomerIds.contains(id)) {
+            // Check if the entered customer ID exists
+            if (Repositories.customers().customerExists(id)) {
                 isValidId = true;
             } else {
                 System.out.println("Invalid customer ID. Please enter a valid ID.");
@@ -99,8 +95,6 @@ public class LoginInputAndValidationService {
      * @return The validated employee ID.
      */
     public static String getEmployeeId(Scanner scanner) {
-        List<String> existingEmployeeIds = EmployeeDAO.getAllEmployeeIds();
-
         String id = "";
         boolean isValidId = false;
 
@@ -108,8 +102,8 @@ public class LoginInputAndValidationService {
             System.out.print("Please enter your employee ID: ");
             id = scanner.nextLine();
 
-            // Check if the entered employee ID exists in the list of existing employee IDs
-            if (existingEmployeeIds.contains(id)) {
+            // Check if the entered employee ID exists
+            if (Repositories.employees().employeeExists(id)) {
                 isValidId = true;
             } else {
                 System.out.println("Invalid employee ID. Please enter a valid ID.");
@@ -0,0 +1,22 @@
+package input;
+
+import java.util.Scanner;
+
+/**
+ * Service class for input related to paging through listings in the Car Rental Management System.
+ * Author: Ghazala Anjum
+ */
+public class PaginationInputAndValidationService {
+
+    /**
+     * Asks the user whether to show the next page of a listing.
+     *
+     * @param scanner The Scanner object to read user input from.
+     * @return True to show the next page, false to stop.
+     */
+    public static boolean continueToNextPage(Scanner scanner) {
+        System.out.print("Press Enter for the next page, or type Q to stop: ");
+        String input = scanner.nextLine().trim();
+        return !input.equalsIgnoreCase("q");
+    }
+}
@@ -0,0 +1,33 @@
+package populators;
+
+import entities.BookingListingView;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static constants.CarRentalManagementSystemConstants.BOOKING.*;
+
+/**
+ * Utility class to populate BookingListingView records from ResultSet data.
+ * Author: Amisha Nakrani
+ */
+public class BookingListingViewPopulator {
+
+    /**
+     * Populates a BookingListingView from a row of the Booking table.
+     *
+     * @param rs The ResultSet containing booking data.
+     * @return A populated BookingListingView.
+     * @throws SQLException if there is an error accessing the ResultSet data.
+     */
+    public static BookingListingView populateFromResultSet(ResultSet rs) throws SQLException {
+        return new BookingListingView(
+                rs.getString(BOOKING_ID_COLUMN),
+                rs.getString(CAR_ID_COLUMN),
+                rs.getString(CUSTOMER_ID_COLUMN),
+                rs.getString(EMPLOYEE_ID_COLUMN),
+                rs.getDate(BOOKING_DATE_COLUMN),
+                rs.getDate(RETURN_DATE_COLUMN),
+                rs.getDate(CANCELLATION_DATE_COLUMN));
+    }
+}
@@ -4,13 +4,12 @@ import entities.Booking;
 import entities.Car;
 import entities.Customer;
 import entities.Employee;
-import services.database.CarDAO;
-import services.database.CustomerDAO;
-import services.database.EmployeeDAO;
 
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
 
 import static constants.CarRentalManagementSystemConstants.BOOKING.*;
 
@@ -21,13 +20,32 @@ import static constants.CarRentalManagementSystemConstants.BOOKING.*;
 public class BookingPopulator {
 
     /**
-     * Populates a Booking object from ResultSet data.
+     * Populates a Booking object from a row of the joined booking query without sharing entities
+     * with other rows, for reads that stream rows one at a time.
      *
-     * @param rs The ResultSet containing booking data.
+     * @param rs The ResultSet containing joined booking data.
      * @return A populated Booking object.
      * @throws SQLException if there is an error accessing the ResultSet data.
      */
     public static Booking populateBooking(ResultSet rs) throws SQLException {
+        return populateBooking(rs, new HashMap<>(), new HashMap<>(), new HashMap<>());
+    }
+
+    /**
+     * Populates a Booking object from a row of the joined booking query, which carries the booking
+     * columns followed by the prefixed columns of its car, customer and employee.
+     * The identity maps make every booking in one result set that refers to the same car, customer
+     * or employee share a single instance, so each entity is only read from the row once.
+     *
+     * @param rs        The ResultSet containing joined booking data.
+     * @param cars      Cars already read from this result set, keyed by car ID.
+     * @param customers Customers already read from this result set, keyed by customer ID.
+     * @param employees Employees already read from this result set, keyed by employee ID.
+     * @return A populated Booking object.
+     * @throws SQLException if there is an error accessing the ResultSet data.
+     */
+    public static Booking populateBooking(ResultSet rs, Map<String, Car> cars, Map<String, Customer> customers,
+                                          Map<String, Employee> employees) throws SQLException {
         String bookingId = rs.getString(BOOKING_ID_COLUMN);
         String carId = rs.getString(CAR_ID_COLUMN);
         String customerId = rs.getString(CUSTOMER_ID_COLUMN);
@@ -36,9 +54,23 @@ public class BookingPopulator {
         Date returnDate = rs.getDate(RETURN_DATE_COLUMN);
         Date cancellationDate = rs.getDate(CANCELLATION_DATE_COLUMN);
 
-        Car car = CarDAO.getCarById(carId);
-        Customer customer = CustomerDAO.getCustomerById(customerId);
-        Employee employee = EmployeeDAO.getEmployeeById(employeeId);
+        Car car = cars.get(carId);
+        if (car == null && rs.getString(CAR_COLUMN_PREFIX + CAR_ID_COLUMN) != null) {
+            car = CarPopulator.populateFromResultSet(rs, CAR_COLUMN_PREFIX);
+            cars.put(carId, car);
+        }
+
+        Customer customer = customers.get(customerId);
+        if (customer == null && rs.getString(CUSTOMER_COLUMN_PREFIX + CUSTOMER_ID_COLUMN) != null) {
+            customer = CustomerPopulator.populateFromResultSet(rs, CUSTOMER_COLUMN_PREFIX);
+            customers.put(customerId, customer);
+        }
+
+        Employee employee = employees.get(employeeId);
+        if (employee == null && rs.getString(EMPLOYEE_COLUMN_PREFIX + EMPLOYEE_ID_COLUMN) != null) {
+            employee = EmployeePopulator.populateFromResultSet(rs, EMPLOYEE_COLUMN_PREFIX);
+            employees.put(employeeId, employee);
+        }
 
         return new Booking(bookingId, car, customer, employee, bookingDate, returnDate, cancellationDate);
     }
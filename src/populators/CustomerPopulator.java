@@ -21,14 +21,27 @@ public class CustomerPopulator {
      * @throws SQLException if there is an error accessing the ResultSet data.
      */
     public static Customer populateFromResultSet(ResultSet rs) throws SQLException {
-        String customerId = rs.getString(CUSTOMER_ID_COLUMN);
-        String firstName = rs.getString(FIRST_NAME_COLUMN);
-        String lastName = rs.getString(LAST_NAME_COLUMN);
-        String address = rs.getString(ADDRESS_COLUMN);
-        String email = rs.getString(EMAIL_COLUMN);
-        long contactNo = rs.getLong(CONTACT_NO_COLUMN);
-        boolean isRemoved = rs.getBoolean(IS_REMOVED_COLUMN);
-        String password = rs.getString(PASSWORD_COLUMN);
+        return populateFromResultSet(rs, "");
+    }
+
+    /**
+     * Populates a Customer object from ResultSet columns whose labels carry a common prefix,
+     * as produced by queries that join several tables and alias their columns.
+     *
+     * @param rs           The ResultSet containing customer data.
+     * @param columnPrefix The prefix of the column labels, or an empty string for plain column names.
+     * @return A populated Customer object.
+     * @throws SQLException if there is an error accessing the ResultSet data.
+     */
+    public static Customer populateFromResultSet(ResultSet rs, String columnPrefix) throws SQLException {
+        String customerId = rs.getString(columnPrefix + CUSTOMER_ID_COLUMN);
+        String firstName = rs.getString(columnPrefix + FIRST_NAME_COLUMN);
+        String lastName = rs.getString(columnPrefix + LAST_NAME_COLUMN);
+        String address = rs.getString(columnPrefix + ADDRESS_COLUMN);
+        String email = rs.getString(columnPrefix + EMAIL_COLUMN);
+        long contactNo = rs.getLong(columnPrefix + CONTACT_NO_COLUMN);
+        boolean isRemoved = rs.getBoolean(columnPrefix + IS_REMOVED_COLUMN);
+        String password = rs.getString(columnPrefix + PASSWORD_COLUMN);
 
         return new Customer(customerId, firstName, lastName, address, email, contactNo, isRemoved, password);
     }
@@ -22,17 +22,30 @@ public class EmployeePopulator {
      * @throws SQLException if there is an error accessing the ResultSet data.
      */
     public static Employee populateFromResultSet(ResultSet rs) throws SQLException {
-        String employeeId = rs.getString(EMPLOYEE_ID_COLUMN);
-        String firstName = rs.getString(FIRST_NAME_COLUMN);
-        String lastName = rs.getString(LAST_NAME_COLUMN);
-        String address = rs.getString(ADDRESS_COLUMN);
-        String email = rs.getString(EMAIL_COLUMN);
-        long phoneNumber = rs.getLong(PHONE_NUMBER_COLUMN);
-        Date dateOfBirth = rs.getDate(DATE_OF_BIRTH_COLUMN);
-        Date hireDate = rs.getDate(HIRE_DATE_COLUMN);
-        boolean isRemoved = rs.getBoolean(IS_REMOVED_COLUMN);
-        boolean isManager = rs.getBoolean(IS_MANAGER_COLUMN);
-        String password = rs.getString(PASSWORD_COLUMN);
+        return populateFromResultSet(rs, "");
+    }
+
+    /**
+     * Populates an Employee object from ResultSet columns whose labels carry a common prefix,
+     * as produced by queries that join several tables and alias their columns.
+     *
+     * @param rs           The ResultSet containing employee data.
+     * @param columnPrefix The prefix of the column labels, or an empty string for plain column names.
+     * @return A populated Employee object.
+     * @throws SQLException if there is an error accessing the ResultSet data.
+     */
+    public static Employee populateFromResultSet(ResultSet rs, String columnPrefix) throws SQLException {
+        String employeeId = rs.getString(columnPrefix + EMPLOYEE_ID_COLUMN);
+        String firstName = rs.getString(columnPrefix + FIRST_NAME_COLUMN);
+        String lastName = rs.getString(columnPrefix + LAST_NAME_COLUMN);
+        String address = rs.getString(columnPrefix + ADDRESS_COLUMN);
+        String email = rs.getString(columnPrefix + EMAIL_COLUMN);
+        long phoneNumber = rs.getLong(columnPrefix + PHONE_NUMBER_COLUMN);
+        Date dateOfBirth = rs.getDate(columnPrefix + DATE_OF_BIRTH_COLUMN);
+        Date hireDate = rs.getDate(columnPrefix + HIRE_DATE_COLUMN);
+        boolean isRemoved = rs.getBoolean(columnPrefix + IS_REMOVED_COLUMN);
+        boolean isManager = rs.getBoolean(columnPrefix + IS_MANAGER_COLUMN);
+        String password = rs.getString(columnPrefix + PASSWORD_COLUMN);
 
         return new Employee(employeeId, firstName, lastName, address, email, phoneNumber, dateOfBirth, hireDate, isRemoved, isManager, password);
     }
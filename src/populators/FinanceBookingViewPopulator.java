@@ -0,0 +1,35 @@
+package populators;
+
+import entities.FinanceBookingView;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static constants.CarRentalManagementSystemConstants.BOOKING.*;
+import static constants.CarRentalManagementSystemConstants.CAR.MODEL_COLUMN;
+import static constants.CarRentalManagementSystemConstants.CAR.RENTAL_PRICE_COLUMN;
+
+/**
+ * Utility class to populate FinanceBookingView records from ResultSet data.
+ * Author: Aashika Vachhani
+ */
+public class FinanceBookingViewPopulator {
+
+    /**
+     * Populates a FinanceBookingView from a row holding the booking columns and the car model and
+     * rental price aliased with the car column prefix.
+     *
+     * @param rs The ResultSet containing the finance view columns.
+     * @return A populated FinanceBookingView.
+     * @throws SQLException if there is an error accessing the ResultSet data.
+     */
+    public static FinanceBookingView populateFromResultSet(ResultSet rs) throws SQLException {
+        return new FinanceBookingView(
+                rs.getString(BOOKING_ID_COLUMN),
+                rs.getString(CAR_COLUMN_PREFIX + MODEL_COLUMN),
+                rs.getString(CUSTOMER_ID_COLUMN),
+                rs.getDate(BOOKING_DATE_COLUMN),
+                rs.getDate(RETURN_DATE_COLUMN),
+                rs.getDouble(CAR_COLUMN_PREFIX + RENTAL_PRICE_COLUMN));
+    }
+}
@@ -0,0 +1,35 @@
+package populators;
+
+import entities.CarStatus;
+import entities.FleetMaintenanceView;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static constants.CarRentalManagementSystemConstants.CAR.*;
+
+/**
+ * Utility class to populate FleetMaintenanceView records from ResultSet data.
+ * Author: Ghazala Anjum
+ */
+public class FleetMaintenanceViewPopulator {
+
+    /**
+     * Populates a FleetMaintenanceView from a row holding the car maintenance view columns.
+     *
+     * @param rs The ResultSet containing the maintenance view columns.
+     * @return A populated FleetMaintenanceView.
+     * @throws SQLException if there is an error accessing the ResultSet data.
+     */
+    public static FleetMaintenanceView populateFromResultSet(ResultSet rs) throws SQLException {
+        return new FleetMaintenanceView(
+                rs.getString(CAR_ID_COLUMN),
+                rs.getString(BRAND_COLUMN),
+                rs.getString(MODEL_COLUMN),
+                rs.getString(COLOR_COLUMN),
+                CarStatus.valueOf(rs.getString(CAR_STATUS_COLUMN)),
+                rs.getDate(LAST_OIL_CHANGE_COLUMN),
+                rs.getDate(NEXT_OIL_CHANGE_COLUMN),
+                rs.getDate(LAST_INSPECTION_DATE_COLUMN));
+    }
+}
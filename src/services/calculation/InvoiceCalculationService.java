@@ -2,6 +2,9 @@ package services.calculation;
 
 import entities.Booking;
 
+import java.sql.Date;
+import java.time.temporal.ChronoUnit;
+
 /**
  * Service class to calculate the invoice amount for a booking.
  * Author: Arshdeep Singh
@@ -15,16 +18,34 @@ public class InvoiceCalculationService {
      * @return The calculated invoice amount.
      */
     public static double calculateInvoice(Booking booking) {
-        // Calculate the number of days between booking and return dates
-        long diffInMillies = Math.abs(booking.getReturnDate().getTime() - booking.getBookingDate().getTime());
-        long diffInDays = diffInMillies / (1000 * 60 * 60 * 24);
-
-        // Get the rental price per day from the car object
-        double rentalPricePerDay = booking.getCar().getRentalPrice();
+        return calculateInvoice(booking.getBookingDate(), booking.getReturnDate(), booking.getCar().getRentalPrice());
+    }
 
+    /**
+     * Calculates the invoice amount from the booking and return dates and the daily rental price.
+     *
+     * @param bookingDate       The date when the booking was made.
+     * @param returnDate        The date when the car was returned.
+     * @param rentalPricePerDay The rental price per day of the car.
+     * @return The calculated invoice amount.
+     */
+    public static double calculateInvoice(Date bookingDate, Date returnDate, double rentalPricePerDay) {
         // Calculate the invoice amount
-        double invoiceAmount = diffInDays * rentalPricePerDay;
+        double invoiceAmount = calculateRentalDays(bookingDate, returnDate) * rentalPricePerDay;
 
         return invoiceAmount;
     }
+
+    /**
+     * Calculates the number of days charged for a booking. Calendar days are counted, the way SQL Server's
+     * DATEDIFF(day, ...) counts them, so a booking spanning a daylight saving change is not a day short.
+     *
+     * @param bookingDate The date when the booking was made.
+     * @param returnDate  The date when the car was returned.
+     * @return The number of calendar days between the booking and return dates.
+     */
+    public static long calculateRentalDays(Date bookingDate, Date returnDate) {
+        // Calculate the number of days between booking and return dates
+        return Math.abs(ChronoUnit.DAYS.between(bookingDate.toLocalDate(), returnDate.toLocalDate()));
+    }
 }
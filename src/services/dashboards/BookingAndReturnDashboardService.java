@@ -1,11 +1,9 @@
 package services.dashboards;
 
 import entities.Booking;
-import entities.Car;
 import input.BookingAndReturnInputAndValidationService;
 import resource.ScannerManager;
-import services.database.BookingDAO;
-import services.database.CarDAO;
+import services.repository.Repositories;
 
 import java.sql.Date;
 import java.util.Scanner;
@@ -26,14 +24,16 @@ public class BookingAndReturnDashboardService {
     public static void addBooking(String cid) {
         boolean isValidInput = false;
         while (!isValidInput) {
-            // Prompt for car details
-            var car = BookingAndReturnInputAndValidationService.getCarForBooking(scanner);
+            // Prompt for the car, customer and employee IDs, each checked as it is entered; the records
+            // are then loaded in the background while the next ID is being entered, so the loads overlap
+            var carLookup = BookingAndReturnInputAndValidationService.requestCar(scanner);
+            var customerLookup = BookingAndReturnInputAndValidationService.requestCustomer(cid, scanner);
+            var employeeLookup = BookingAndReturnInputAndValidationService.requestEmployee(scanner);
 
-            // Prompt for customer details
-            var customer = BookingAndReturnInputAndValidationService.getCustomer(cid, scanner);
-
-            // Prompt for employee details
-            var employee = BookingAndReturnInputAndValidationService.getEmployee(scanner);
+            // Wait for the loads, prompting again only for a car that is not available or a removed customer or employee
+            var car = BookingAndReturnInputAndValidationService.awaitCarForBooking(carLookup, scanner);
+            var customer = BookingAndReturnInputAndValidationService.awaitCustomer(customerLookup, scanner);
+            var employee = BookingAndReturnInputAndValidationService.awaitEmployee(employeeLookup, scanner);
 
             // Prompt for booking date
             var bookingDate = BookingAndReturnInputAndValidationService.getBookingDate(scanner);
@@ -51,14 +51,10 @@ public class BookingAndReturnDashboardService {
                 // Create the Booking object
                 Booking booking = new Booking(null, car, customer, employee, bookingDate, returnDate, cancellationDate);
 
-                // Add the booking
-                BookingDAO.addBooking(booking);
-
-                // Set the car's availability to false
-                car.setAvailable(false);
-
-                // Update car availability
-                CarDAO.updateCar(car);
+                // Add the booking, reserving the car in the same transaction
+                if (Repositories.bookings().addBooking(booking)) {
+                    car.setAvailable(false);
+                }
 
                 isValidInput = true; // Break the loop if input is valid
             }
@@ -73,7 +69,7 @@ public class BookingAndReturnDashboardService {
         var bookingId = BookingAndReturnInputAndValidationService.getBookingIdForReturnOrCancel(scanner);
 
         // Fetch booking details
-        Booking booking = BookingDAO.getBookingById(bookingId);
+        Booking booking = Repositories.bookings().getBookingById(bookingId);
 
         // Prompt for return date
         var returnDate = BookingAndReturnInputAndValidationService.getReturnOrCancelDate(scanner, booking);
@@ -81,15 +77,10 @@ public class BookingAndReturnDashboardService {
         // Set the return date
         booking.setReturnDate(returnDate);
 
-        // Update the booking with the return date
-        BookingDAO.returnCar(booking, returnDate);
-
-        // Update the car's availability
-        Car car = booking.getCar();
-        car.setAvailable(true);
-        CarDAO.updateCar(car);
-
-        System.out.println("Car returned successfully.");
+        // Update the booking with the return date, releasing the car in the same transaction
+        if (Repositories.bookings().returnCar(booking, returnDate)) {
+            booking.getCar().setAvailable(true);
+        }
     }
 
     /**
@@ -100,7 +91,7 @@ public class BookingAndReturnDashboardService {
         var bookingId = BookingAndReturnInputAndValidationService.getBookingIdForReturnOrCancel(scanner);
 
         // Fetch booking details
-        Booking booking = BookingDAO.getBookingById(bookingId);
+        Booking booking = Repositories.bookings().getBookingById(bookingId);
 
         // Prompt for cancellation date
         Date cancellationDate = BookingAndReturnInputAndValidationService.getReturnOrCancelDate(scanner, booking);
@@ -108,14 +99,9 @@ public class BookingAndReturnDashboardService {
         // Set the cancellation date
         booking.setCancellationDate(cancellationDate);
 
-        // Update the booking with the cancellation date
-        BookingDAO.cancelBooking(booking, cancellationDate);
-
-        // Update car availability
-        Car car = booking.getCar();
-        car.setAvailable(true);
-        CarDAO.updateCar(car);
-
-        System.out.println("Booking canceled successfully.");
+        // Update the booking with the cancellation date, releasing the car in the same transaction
+        if (Repositories.bookings().cancelBooking(booking, cancellationDate)) {
+            booking.getCar().setAvailable(true);
+        }
     }
 }
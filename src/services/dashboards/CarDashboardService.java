@@ -2,13 +2,22 @@ package services.dashboards;
 
 import entities.Car;
 import input.CarInputAndValidationService;
+import input.PaginationInputAndValidationService;
 import resource.ScannerManager;
-import services.database.CarDAO;
+import services.database.CarFilter;
+import services.database.CarFilterResult;
+import services.database.DatabasePropertiesLoader;
+import services.database.FleetSnapshot;
+import services.database.Page;
+import services.repository.Repositories;
 
 import java.text.SimpleDateFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
 
+import static constants.CarRentalManagementSystemConstants.SEARCH.RENTAL_PRICE_BAND_WIDTH;
+
 /**
  * Dashboard service for managing cars.
  * Author: Aashika Vachhani
@@ -19,7 +28,7 @@ public class CarDashboardService {
     static Scanner scanner = ScannerManager.getScanner();
 
     /**
-     * Displays all cars.
+     * Displays all cars, one page at a time in car ID order.
      */
     public static void displayCars() {
         SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
@@ -28,8 +37,59 @@ public class CarDashboardService {
         System.out.printf("%-8s  %-10s  %-10s  %-12s  %-11s  %-9s  %-14s  %-13s  %-10s  %-11s  %-8s  %-8s  %-14s  %-17s  %-20s  %-21s  %-13s  %-17s  %-18s%n",
                 "ID", "Brand", "Model", "Color", "Passengers", "Fuel Type", "Purchase Date", "Transmission", "Available", "Car Price", "Rental", "Removed", "Last Oil Chg", "Next Oil Chg", "Last Inspection", "Next Inspection", "Status", "Last Washing", "Next Washing");
 
-        for (Car car : CarDAO.getAllCars()) {
-            System.out.printf("%-8s  %-10s  %-10s  %-12s  %-11d  %-9s  %-14s  %-13s  %-10b  %-11.2f  %-8.2f  %-8b  %-14s  %-17s  %-20s  %-21s  %-13s  %-17s  %-18s%n",
+        // Page through one snapshot, so the listing is consistent even if the fleet changes while it is shown
+        FleetSnapshot fleet = Repositories.cars().getFleetSnapshot();
+        int pageSize = DatabasePropertiesLoader.getConfiguration().getPageSize();
+        Page<Car> page;
+        String lastCarId = null;
+        do {
+            page = fleet.page(lastCarId, pageSize);
+            for (Car car : page.getItems()) {
+                System.out.printf("%-8s  %-10s  %-10s  %-12s  %-11d  %-9s  %-14s  %-13s  %-10b  %-11.2f  %-8.2f  %-8b  %-14s  %-17s  %-20s  %-21s  %-13s  %-17s  %-18s%n",
+                        car.getCarId(), car.getBrand(), car.getModel(), car.getColor(), car.getNoOfPassengers(), car.getFuelType().name(),
+                        car.getPurchaseDate() != null ? dateFormat.format(car.getPurchaseDate()) : "N/A", car.getTransmissionType().name(), car.isAvailable(), car.getCarPrice(),
+                        car.getRentalPrice(), car.isRemoved(), car.getLastOilChange() != null ? dateFormat.format(car.getLastOilChange()) : "N/A",
+                        car.getNextOilChange() != null ? dateFormat.format(car.getNextOilChange()) : "N/A",
+                        car.getLastInspectionDate() != null ? dateFormat.format(car.getLastInspectionDate()) : "N/A",
+                        car.getNextInspectionDate() != null ? dateFormat.format(car.getNextInspectionDate()) : "N/A",
+                        car.getCarStatus().name(),
+                        car.getLastWashingDate() != null ? dateFormat.format(car.getLastWashingDate()) : "N/A",
+                        car.getNextWashingDate() != null ? dateFormat.format(car.getNextWashingDate()) : "N/A");
+            }
+            lastCarId = page.getLastKey();
+        } while (page.hasNext() && PaginationInputAndValidationService.continueToNextPage(scanner));
+    }
+
+    /**
+     * Searches for cars, falling back to close matches when a mistyped term finds nothing.
+     */
+    public static void searchCar() {
+        var searchTerm = CarInputAndValidationService.getSearchTermForCar(scanner);
+
+        List<Car> searchResults = Repositories.cars().searchCar(searchTerm);
+        if (!searchResults.isEmpty()) {
+            System.out.println("Search Results:");
+            printSearchResults(searchResults);
+            return;
+        }
+
+        List<Car> closeMatches = Repositories.cars().searchCarApproximate(searchTerm);
+        if (closeMatches.isEmpty()) {
+            System.out.println("No cars found matching the search term: " + searchTerm);
+        } else {
+            System.out.println("No cars found matching the search term: " + searchTerm + ". Did you mean:");
+            printSearchResults(closeMatches);
+        }
+    }
+
+    private static void printSearchResults(List<Car> searchResults) {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+        System.out.printf("%-10s %-15s %-15s %-15s %-10s %-10s %-15s %-15s %-10s %-10s %-10s %-15s %-15s %-15s %-15s %-15s %-15s %-15s %-15s%n",
+                "ID", "Brand", "Model", "Color", "Passengers", "Fuel Type", "Purchase Date",
+                "Transmission", "Available", "Car Price", "Rental", "Removed", "Last Oil Chg",
+                "Next Oil Chg", "Last Inspection", "Next Inspection", "Status", "Last Washing", "Next Washing");
+        for (Car car : searchResults) {
+            System.out.printf("%-10s %-15s %-15s %-15s %-10s %-10s %-15s %-15s %-10s %-10s %-10s %-15s %-15s %-15s %-15s %-15s %-15s %-15s %-15s%n",
                     car.getCarId(), car.getBrand(), car.getModel(), car.getColor(), car.getNoOfPassengers(), car.getFuelType().name(),
                     car.getPurchaseDate() != null ? dateFormat.format(car.getPurchaseDate()) : "N/A", car.getTransmissionType().name(), car.isAvailable(), car.getCarPrice(),
                     car.getRentalPrice(), car.isRemoved(), car.getLastOilChange() != null ? dateFormat.format(car.getLastOilChange()) : "N/A",
@@ -43,35 +103,59 @@ public class CarDashboardService {
     }
 
     /**
-     * Searches for cars.
+     * Filters the fleet by fuel type, transmission, status, seats, price and availability, showing how many
+     * cars each other choice would give next to the matching cars.
      */
-    public static void searchCar() {
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-        var searchTerm = CarInputAndValidationService.getSearchTermForCar(scanner);
+    public static void filterCars() {
+        CarFilter filter = new CarFilter();
+        filter.setFuelType(CarInputAndValidationService.getFuelTypeFilter(scanner));
+        filter.setTransmissionType(CarInputAndValidationService.getTransmissionTypeFilter(scanner));
+        filter.setCarStatus(CarInputAndValidationService.getCarStatusFilter(scanner));
+        filter.setNoOfPassengers(CarInputAndValidationService.getNoOfPassengersFilter(scanner));
+        filter.setMaxRentalPrice(CarInputAndValidationService.getMaxRentalPriceFilter(scanner));
+        filter.setAvailableOnly(CarInputAndValidationService.isAvailableOnlyFilter(scanner));
+
+        CarFilterResult result = Repositories.cars().getFleetSnapshot().filter(filter);
+
+        System.out.println("Matching cars by each choice, keeping the other filters:");
+        System.out.println("  Fuel type:    " + formatCounts(result.getFuelTypeCounts()));
+        System.out.println("  Transmission: " + formatCounts(result.getTransmissionTypeCounts()));
+        System.out.println("  Status:       " + formatCounts(result.getCarStatusCounts()));
+        System.out.println("  Passengers:   " + formatCounts(result.getSeatCounts()));
+        StringBuilder priceBands = new StringBuilder();
+        for (Map.Entry<Double, Integer> band : result.getPriceBandCounts().entrySet()) {
+            if (priceBands.length() > 0) {
+                priceBands.append(", ");
+            }
+            priceBands.append(String.format("%.0f-%.0f (%d)", band.getKey(), band.getKey() + RENTAL_PRICE_BAND_WIDTH, band.getValue()));
+        }
+        System.out.println("  Rental price: " + priceBands);
+        System.out.println("  Available:    " + result.getAvailableCount());
 
-        List<Car> searchResults = CarDAO.searchCar(searchTerm);
+        if (result.getCars().isEmpty()) {
+            System.out.println("No cars match the selected filters.");
+            return;
+        }
+        System.out.println(result.getCars().size() + " matching cars:");
+        System.out.printf("%-10s %-15s %-15s %-15s %-10s %-10s %-15s %-10s %-10s %-15s%n",
+                "ID", "Brand", "Model", "Color", "Passengers", "Fuel Type", "Transmission", "Available", "Rental", "Status");
+        for (Car car : result.getCars()) {
+            System.out.printf("%-10s %-15s %-15s %-15s %-10s %-10s %-15s %-10s %-10.2f %-15s%n",
+                    car.getCarId(), car.getBrand(), car.getModel(), car.getColor(), car.getNoOfPassengers(),
+                    car.getFuelType().name(), car.getTransmissionType().name(), car.isAvailable(), car.getRentalPrice(),
+                    car.getCarStatus().name());
+        }
+    }
 
-        if (searchResults.isEmpty()) {
-            System.out.println("No cars found matching the search term: " + searchTerm);
-        } else {
-            System.out.println("Search Results:");
-            System.out.printf("%-10s %-15s %-15s %-15s %-10s %-10s %-15s %-15s %-10s %-10s %-10s %-15s %-15s %-15s %-15s %-15s %-15s %-15s %-15s%n",
-                    "ID", "Brand", "Model", "Color", "Passengers", "Fuel Type", "Purchase Date",
-                    "Transmission", "Available", "Car Price", "Rental", "Removed", "Last Oil Chg",
-                    "Next Oil Chg", "Last Inspection", "Next Inspection", "Status", "Last Washing", "Next Washing");
-            for (Car car : searchResults) {
-                System.out.printf("%-10s %-15s %-15s %-15s %-10s %-10s %-15s %-15s %-10s %-10s %-10s %-15s %-15s %-15s %-15s %-15s %-15s %-15s %-15s%n",
-                        car.getCarId(), car.getBrand(), car.getModel(), car.getColor(), car.getNoOfPassengers(), car.getFuelType().name(),
-                        car.getPurchaseDate() != null ? dateFormat.format(car.getPurchaseDate()) : "N/A", car.getTransmissionType().name(), car.isAvailable(), car.getCarPrice(),
-                        car.getRentalPrice(), car.isRemoved(), car.getLastOilChange() != null ? dateFormat.format(car.getLastOilChange()) : "N/A",
-                        car.getNextOilChange() != null ? dateFormat.format(car.getNextOilChange()) : "N/A",
-                        car.getLastInspectionDate() != null ? dateFormat.format(car.getLastInspectionDate()) : "N/A",
-                        car.getNextInspectionDate() != null ? dateFormat.format(car.getNextInspectionDate()) : "N/A",
-                        car.getCarStatus().name(),
-                        car.getLastWashingDate() != null ? dateFormat.format(car.getLastWashingDate()) : "N/A",
-                        car.getNextWashingDate() != null ? dateFormat.format(car.getNextWashingDate()) : "N/A");
+    private static String formatCounts(Map<?, Integer> counts) {
+        StringBuilder formatted = new StringBuilder();
+        for (Map.Entry<?, Integer> count : counts.entrySet()) {
+            if (formatted.length() > 0) {
+                formatted.append(", ");
             }
+            formatted.append(count.getKey()).append(" (").append(count.getValue()).append(")");
         }
+        return formatted.toString();
     }
 
     /**
@@ -80,9 +164,9 @@ public class CarDashboardService {
     public void removeCar() {
         String carId = CarInputAndValidationService.getCarIdForUpdate(scanner);
 
-        Car carToRemove = CarDAO.getCarById(carId);
+        Car carToRemove = Repositories.cars().getCarById(carId);
         if (carToRemove != null) {
-            CarDAO.deleteCar(carId);
+            Repositories.cars().deleteCar(carId);
             System.out.println("Car with ID " + carId + " removed successfully.");
         } else {
             System.out.println("No car found with the given ID: " + carId);
@@ -120,7 +204,7 @@ public class CarDashboardService {
                 isAvailable, carPrice, rentalPrice, isRemoved, lastOilChange, nextOilChange, lastInspectionDate,
                 nextInspectionDate, carStatus, lastWashingDate, nextWashingDate);
 
-        CarDAO.addNewCar(car);
+        Repositories.cars().addNewCar(car);
     }
 
     /**
@@ -153,6 +237,6 @@ public class CarDashboardService {
                 isAvailable, carPrice, rentalPrice, isRemoved, lastOilChange, nextOilChange, lastInspectionDate,
                 nextInspectionDate, carStatus, lastWashingDate, nextWashingDate);
 
-        CarDAO.updateCar(car);
+        Repositories.cars().updateCar(car);
     }
 }
@@ -2,9 +2,12 @@ package services.dashboards;
 
 import entities.Customer;
 import input.CustomerInputAndValidationService;
+import input.PaginationInputAndValidationService;
 import resource.ScannerManager;
-import services.database.CustomerDAO;
+import services.database.DatabasePropertiesLoader;
+import services.database.Page;
 import services.password.PasswordHasher;
+import services.repository.Repositories;
 
 import java.util.List;
 import java.util.Scanner;
@@ -18,18 +21,25 @@ public class CustomerDashboardService {
     static Scanner scanner = ScannerManager.getScanner();
 
     /**
-     * Displays all customers.
+     * Displays all customers, one page at a time in customer ID order.
      */
     public static void displayCustomers() {
-        List<Customer> customers = CustomerDAO.getAllCustomers();
+        int pageSize = DatabasePropertiesLoader.getConfiguration().getPageSize();
+        Page<Customer> page = Repositories.customers().getCustomersPage(null, pageSize);
 
-        if (customers.isEmpty()) {
+        if (page.isEmpty()) {
             System.out.println("No customers found.");
         } else {
             System.out.println("List of Customers:");
             System.out.printf("%-12s%-15s%-15s%-25s%-15s%-10s\n", "Customer ID", "First Name", "Last Name", "Email", "Contact No", "Is Removed");
-            for (Customer customer : customers) {
-                System.out.printf("%-12s%-15s%-15s%-25s%-15s%-10s\n", customer.getCustomerId(), customer.getFirstName(), customer.getLastName(), customer.getEmail(), customer.getContactNo(), customer.isRemoved());
+            while (true) {
+                for (Customer customer : page.getItems()) {
+                    System.out.printf("%-12s%-15s%-15s%-25s%-15s%-10s\n", customer.getCustomerId(), customer.getFirstName(), customer.getLastName(), customer.getEmail(), customer.getContactNo(), customer.isRemoved());
+                }
+                if (!page.hasNext() || !PaginationInputAndValidationService.continueToNextPage(scanner)) {
+                    break;
+                }
+                page = Repositories.customers().getCustomersPage(page.getLastKey(), pageSize);
             }
         }
     }
@@ -41,14 +51,14 @@ public class CustomerDashboardService {
         String firstName = CustomerInputAndValidationService.getFirstName(scanner);
         String lastName = CustomerInputAndValidationService.getLastName(scanner);
         String address = CustomerInputAndValidationService.getAddress(scanner);
-        String email = CustomerInputAndValidationService.getEmail(scanner);
-        long contactNo = CustomerInputAndValidationService.getContactNo(scanner);
+        String email = CustomerInputAndValidationService.getEmail(scanner, null);
+        long contactNo = CustomerInputAndValidationService.getContactNo(scanner, null);
         String password = CustomerInputAndValidationService.getPassword(scanner);
         boolean isRemoved = CustomerInputAndValidationService.isRemoved(scanner);
 
         Customer customer = new Customer(null, firstName, lastName, address, email, contactNo, isRemoved, PasswordHasher.hashPassword(password));
 
-        CustomerDAO.addCustomer(customer);
+        Repositories.customers().addCustomer(customer);
     }
 
     /**
@@ -56,7 +66,7 @@ public class CustomerDashboardService {
      */
     public static void removeCustomer() {
         String customerId = CustomerInputAndValidationService.getCustomerIdForUpdate(scanner);
-        CustomerDAO.removeCustomer(customerId);
+        Repositories.customers().removeCustomer(customerId);
     }
 
     /**
@@ -71,31 +81,42 @@ public class CustomerDashboardService {
         String firstName = CustomerInputAndValidationService.getFirstName(scanner);
         String lastName = CustomerInputAndValidationService.getLastName(scanner);
         String address = CustomerInputAndValidationService.getAddress(scanner);
-        String email = CustomerInputAndValidationService.getEmail(scanner);
-        long contactNo = CustomerInputAndValidationService.getContactNo(scanner);
+        String email = CustomerInputAndValidationService.getEmail(scanner, customerId);
+        long contactNo = CustomerInputAndValidationService.getContactNo(scanner, customerId);
         String password = CustomerInputAndValidationService.getPassword(scanner);
         boolean isRemoved = CustomerInputAndValidationService.isRemoved(scanner);
 
         Customer customer = new Customer(customerId, firstName, lastName, address, email, contactNo, isRemoved, PasswordHasher.hashPassword(password));
 
-        CustomerDAO.editCustomer(customer);
+        Repositories.customers().editCustomer(customer);
     }
 
     /**
-     * Searches for customers.
+     * Searches for customers, falling back to close matches when a mistyped keyword finds nothing.
      */
     public static void searchCustomer() {
         String keyword = CustomerInputAndValidationService.getSearchTermForCustomer(scanner);
 
-        List<Customer> foundCustomers = CustomerDAO.searchCustomer(keyword);
-        if (foundCustomers.isEmpty()) {
+        List<Customer> foundCustomers = Repositories.customers().searchCustomer(keyword);
+        if (!foundCustomers.isEmpty()) {
+            System.out.println("Found customers:");
+            printCustomers(foundCustomers);
+            return;
+        }
+
+        List<Customer> closeMatches = Repositories.customers().searchCustomerApproximate(keyword);
+        if (closeMatches.isEmpty()) {
             System.out.println("No customers found matching the keyword.");
         } else {
-            System.out.println("Found customers:");
-            System.out.printf("%-12s%-15s%-15s%-25s%-15s%-10s\n", "Customer ID", "First Name", "Last Name", "Email", "Contact No", "Is Removed");
-            for (Customer customer : foundCustomers) {
-                System.out.printf("%-12s%-15s%-15s%-25s%-15s%-10s\n", customer.getCustomerId(), customer.getFirstName(), customer.getLastName(), customer.getEmail(), customer.getContactNo(), customer.isRemoved());
-            }
+            System.out.println("No customers found matching the keyword. Did you mean:");
+            printCustomers(closeMatches);
+        }
+    }
+
+    private static void printCustomers(List<Customer> customers) {
+        System.out.printf("%-12s%-15s%-15s%-25s%-15s%-10s\n", "Customer ID", "First Name", "Last Name", "Email", "Contact No", "Is Removed");
+        for (Customer customer : customers) {
+            System.out.printf("%-12s%-15s%-15s%-25s%-15s%-10s\n", customer.getCustomerId(), customer.getFirstName(), customer.getLastName(), customer.getEmail(), customer.getContactNo(), customer.isRemoved());
         }
     }
 }
@@ -2,9 +2,12 @@ package services.dashboards;
 
 import entities.Employee;
 import input.EmployeeInputAndValidationService;
+import input.PaginationInputAndValidationService;
 import resource.ScannerManager;
-import services.database.EmployeeDAO;
+import services.database.DatabasePropertiesLoader;
+import services.database.Page;
 import services.password.PasswordHasher;
+import services.repository.Repositories;
 
 import java.sql.Date;
 import java.util.List;
@@ -19,23 +22,30 @@ public class EmployeeDashboardService {
     static Scanner scanner = ScannerManager.getScanner();
 
     /**
-     * Displays all employees.
+     * Displays all employees, one page at a time in employee ID order.
      */
     public static void displayEmployees() {
-        List<Employee> employees = EmployeeDAO.getAllEmployees();
-        if (employees.isEmpty()) {
+        int pageSize = DatabasePropertiesLoader.getConfiguration().getPageSize();
+        Page<Employee> page = Repositories.employees().getEmployeesPage(null, pageSize);
+        if (page.isEmpty()) {
             System.out.println("No employees found.");
         } else {
             System.out.println("List of Employees:");
             System.out.printf("%-12s %-15s %-15s %-30s %-25s %-15s %-15s %-12s %-10s%n",
                     "Employee ID", "First Name", "Last Name", "Address", "Email", "Phone Number",
                     "Date of Birth", "Hire Date", "Manager");
-            for (Employee employee : employees) {
-                System.out.printf("%-12s %-15s %-15s %-30s %-25s %-15s %-15s %-12s %-10s%n",
-                        employee.getEmployeeId(), employee.getFirstName(), employee.getLastName(),
-                        employee.getAddress(), employee.getEmail(), employee.getPhoneNumber(),
-                        employee.getDateOfBirth(), employee.getHireDate(),
-                        employee.isManager() ? "Yes" : "No");
+            while (true) {
+                for (Employee employee : page.getItems()) {
+                    System.out.printf("%-12s %-15s %-15s %-30s %-25s %-15s %-15s %-12s %-10s%n",
+                            employee.getEmployeeId(), employee.getFirstName(), employee.getLastName(),
+                            employee.getAddress(), employee.getEmail(), employee.getPhoneNumber(),
+                            employee.getDateOfBirth(), employee.getHireDate(),
+                            employee.isManager() ? "Yes" : "No");
+                }
+                if (!page.hasNext() || !PaginationInputAndValidationService.continueToNextPage(scanner)) {
+                    break;
+                }
+                page = Repositories.employees().getEmployeesPage(page.getLastKey(), pageSize);
             }
         }
     }
@@ -46,7 +56,7 @@ public class EmployeeDashboardService {
     public static void searchEmployee() {
         String searchTerm = EmployeeInputAndValidationService.getSearchTermForEmployee(scanner);
 
-        List<Employee> searchResults = EmployeeDAO.searchEmployee(searchTerm);
+        List<Employee> searchResults = Repositories.employees().searchEmployee(searchTerm);
 
         if (searchResults.isEmpty()) {
             System.out.println("No employees found matching the search term: " + searchTerm);
@@ -71,9 +81,9 @@ public class EmployeeDashboardService {
     public static void removeEmployee() {
         String employeeId = EmployeeInputAndValidationService.getEmployeeIdForUpdateOrRemove(scanner);
 
-        Employee employeeToRemove = EmployeeDAO.getEmployeeById(employeeId);
+        Employee employeeToRemove = Repositories.employees().getEmployeeById(employeeId);
         if (employeeToRemove != null) {
-            EmployeeDAO.removeEmployee(employeeId);
+            Repositories.employees().removeEmployee(employeeId);
             System.out.println("Employee with ID " + employeeId + " removed successfully.");
         } else {
             System.out.println("No employee found with the given ID: " + employeeId);
@@ -98,7 +108,7 @@ public class EmployeeDashboardService {
         Employee newEmployee = new Employee(null, firstName, lastName, address, email, phoneNumber, dateOfBirth, hireDate,
                 isRemoved, isManager, PasswordHasher.hashPassword(password));
 
-        EmployeeDAO.addEmployee(newEmployee);
+        Repositories.employees().addEmployee(newEmployee);
     }
 
     /**
@@ -124,7 +134,7 @@ public class EmployeeDashboardService {
         Employee updatedEmployee = new Employee(employeeId, firstName, lastName, address, email, phoneNumber, dateOfBirth, hireDate,
                 isRemoved, isManager, PasswordHasher.hashPassword(password));
 
-        EmployeeDAO.editEmployee(updatedEmployee);
+        Repositories.employees().editEmployee(updatedEmployee);
         System.out.println("Employee information updated successfully.");
     }
 }
@@ -1,15 +1,17 @@
 package services.dashboards;
 
-import entities.Booking;
+import entities.FinanceBookingView;
+import entities.FinanceSummary;
 import input.CarInputAndValidationService;
 import input.CustomerInputAndValidationService;
 import input.FinanceDashboardInputAndValidationService;
 import resource.ScannerManager;
-import services.database.BookingDAO;
+import services.repository.AsyncRepositories;
+import services.repository.Repositories;
 
 import java.sql.Date;
-import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Dashboard service for finance-related operations.
@@ -38,11 +40,12 @@ public class FinanceDashboardService {
             }
         } while (startDate.compareTo(endDate) > 0);
 
-        // Call the method from BookingDAO to get bookings within the date range
-        List<Booking> bookingsInRange = BookingDAO.getBookingsByReturnDateRange(startDate, endDate);
-
-        // Display the retrieved bookings and perform calculations
-        displayBookings(bookingsInRange);
+        // Total the bookings within the date range in the database, then list them only if asked
+        FinanceSummary summary = Repositories.bookings().getFinanceSummaryByReturnDateRange(startDate, endDate);
+        printSummary(null, summary);
+        if (summary.bookingCount() > 0 && FinanceDashboardInputAndValidationService.isBookingDetailsRequested(scanner)) {
+            Repositories.bookings().forEachFinanceViewByReturnDateRange(startDate, endDate, FinanceDashboardService::printBookingDetails);
+        }
     }
 
     /**
@@ -53,11 +56,15 @@ public class FinanceDashboardService {
         scanner.nextLine();
         String carId = CarInputAndValidationService.getCarIdForUpdate(scanner);
 
-        // Call the method from BookingDAO to get bookings for the specified car
-        List<Booking> bookingsForCar = BookingDAO.getBookingsByCarId(carId);
-
-        // Display the retrieved bookings and perform calculations
-        displayBookings(bookingsForCar);
+        // Look the car up in the background while its bookings are totalled
+        CompletableFuture<String> heading = AsyncRepositories.getCarById(carId)
+                .thenApply(car -> car == null ? null : "Finance report for car " + car.getCarId() + " - "
+                        + car.getBrand() + " " + car.getModel());
+        FinanceSummary summary = Repositories.bookings().getReturnedFinanceSummaryByCarId(carId);
+        printSummary(heading.join(), summary);
+        if (summary.bookingCount() > 0 && FinanceDashboardInputAndValidationService.isBookingDetailsRequested(scanner)) {
+            Repositories.bookings().forEachReturnedFinanceViewByCarId(carId, FinanceDashboardService::printBookingDetails);
+        }
     }
 
     /**
@@ -68,45 +75,52 @@ public class FinanceDashboardService {
         scanner.nextLine();
         String customerId = CustomerInputAndValidationService.getCustomerIdForUpdate(scanner);
 
-        // Call the method from BookingDAO to get bookings for the specified customer
-        List<Booking> bookingsForCustomer = BookingDAO.getBookingsByCustomerId(customerId);
-
-        // Display the retrieved bookings and perform calculations
-        displayBookings(bookingsForCustomer);
+        // Look the customer up in the background while their bookings are totalled
+        CompletableFuture<String> heading = AsyncRepositories.getCustomerById(customerId)
+                .thenApply(customer -> customer == null ? null : "Finance report for customer "
+                        + customer.getCustomerId() + " - " + customer.getFirstName() + " " + customer.getLastName());
+        FinanceSummary summary = Repositories.bookings().getReturnedFinanceSummaryByCustomerId(customerId);
+        printSummary(heading.join(), summary);
+        if (summary.bookingCount() > 0 && FinanceDashboardInputAndValidationService.isBookingDetailsRequested(scanner)) {
+            Repositories.bookings().forEachReturnedFinanceViewByCustomerId(customerId, FinanceDashboardService::printBookingDetails);
+        }
     }
 
     /**
-     * Displays booking details and calculates total invoice amount.
+     * Prints the heading, if any, and the totals of a finance report.
      */
-    private static void displayBookings(List<Booking> bookings) {
-        if (bookings.isEmpty()) {
+    private static void printSummary(String heading, FinanceSummary summary) {
+        if (heading != null) {
+            System.out.println(heading);
+            System.out.println("=============================");
+        }
+        if (summary.bookingCount() == 0) {
             System.out.println("No bookings found.");
             return;
         }
+        System.out.println("Bookings: " + summary.bookingCount());
+        System.out.println("Rental Days: " + summary.rentalDays());
+        System.out.println("Total Invoice Amount: $" + summary.revenue());
+    }
 
-        double totalInvoiceAmount = 0.0;
-
-        for (Booking booking : bookings) {
-            double invoiceAmount = booking.getInvoiceAmount();
-            totalInvoiceAmount += invoiceAmount;
-
-            System.out.println(formatBookingDetails(booking, invoiceAmount));
-            System.out.println("-----------------------------");
-        }
-
-        System.out.println("Total Invoice Amount: $" + totalInvoiceAmount);
+    /**
+     * Prints one streamed booking of a finance report.
+     */
+    private static void printBookingDetails(FinanceBookingView booking) {
+        System.out.println(formatBookingDetails(booking, booking.invoiceAmount()));
+        System.out.println("-----------------------------");
     }
 
     /**
      * Formats booking details into a string.
      */
-    private static String formatBookingDetails(Booking booking, double invoiceAmount) {
+    private static String formatBookingDetails(FinanceBookingView booking, double invoiceAmount) {
         StringBuilder sb = new StringBuilder();
-        sb.append("Booking ID: ").append(booking.getBookingId()).append("\n");
-        sb.append("Car: ").append(booking.getCar().getModel()).append("\n");
-        sb.append("Customer: ").append(booking.getCustomer().getCustomerId()).append("\n");
-        sb.append("Booking Date: ").append(booking.getBookingDate()).append("\n");
-        sb.append("Return Date: ").append(booking.getReturnDate()).append("\n");
+        sb.append("Booking ID: ").append(booking.bookingId()).append("\n");
+        sb.append("Car: ").append(booking.carModel()).append("\n");
+        sb.append("Customer: ").append(booking.customerId()).append("\n");
+        sb.append("Booking Date: ").append(booking.bookingDate()).append("\n");
+        sb.append("Return Date: ").append(booking.returnDate()).append("\n");
         sb.append("Invoice Amount: $").append(invoiceAmount).append("\n");
         return sb.toString();
     }
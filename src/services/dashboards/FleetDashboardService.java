@@ -1,7 +1,7 @@
 package services.dashboards;
 
-import entities.Car;
-import services.database.CarDAO;
+import entities.FleetMaintenanceView;
+import services.repository.Repositories;
 
 import java.sql.Date;
 import java.util.List;
@@ -16,7 +16,7 @@ public class FleetDashboardService {
      * Displays cars due for an oil change within the next week.
      */
     public static void displayCarsDueForOilChange() {
-        List<Car> carsDueForOilChange = CarDAO.getCarsDueForOilChange();
+        List<FleetMaintenanceView> carsDueForOilChange = Repositories.cars().getMaintenanceViewsDueForOilChange();
         if (carsDueForOilChange.isEmpty()) {
             System.out.println("No cars are due for an oil change in the next week.");
         } else {
@@ -29,7 +29,7 @@ public class FleetDashboardService {
      * Displays cars due for washing within the next week.
      */
     public static void displayCarsDueForWashing() {
-        List<Car> carsDueForWashing = CarDAO.getCarsDueForWashing();
+        List<FleetMaintenanceView> carsDueForWashing = Repositories.cars().getMaintenanceViewsDueForWashing();
         if (carsDueForWashing.isEmpty()) {
             System.out.println("No cars are due for washing in the next week.");
         } else {
@@ -42,7 +42,7 @@ public class FleetDashboardService {
      * Displays cars due for inspection within the next week.
      */
     public static void displayCarsDueForInspection() {
-        List<Car> carsDueForInspection = CarDAO.getCarsDueForInspection();
+        List<FleetMaintenanceView> carsDueForInspection = Repositories.cars().getMaintenanceViewsDueForInspection();
         if (carsDueForInspection.isEmpty()) {
             System.out.println("No cars are due for inspection in the next week.");
         } else {
@@ -55,7 +55,7 @@ public class FleetDashboardService {
      * Displays cars that are currently out of service.
      */
     public static void displayOutOfServiceCars() {
-        List<Car> outOfServiceCars = CarDAO.getOutOfServiceCars();
+        List<FleetMaintenanceView> outOfServiceCars = Repositories.cars().getOutOfServiceMaintenanceViews();
         if (outOfServiceCars.isEmpty()) {
             System.out.println("No cars are currently out of service.");
         } else {
@@ -67,14 +67,14 @@ public class FleetDashboardService {
     /**
      * Displays the details of cars in the list.
      */
-    private static void displayCars(List<Car> cars) {
+    private static void displayCars(List<FleetMaintenanceView> cars) {
         System.out.printf("%-10s | %-15s | %-15s | %-15s | %-10s | %-15s | %-15s | %-15s%n",
                 "Car ID", "Brand", "Model", "Color", "Status", "Last Oil Change", "Next Oil Change", "Last Inspection");
-        for (Car car : cars) {
+        for (FleetMaintenanceView car : cars) {
             System.out.printf("%-10s | %-15s | %-15s | %-15s | %-10s | %-15s | %-15s | %-15s%n",
-                    car.getCarId(), car.getBrand(), car.getModel(), car.getColor(),
-                    car.getCarStatus(), formatDate(car.getLastOilChange()),
-                    formatDate(car.getNextOilChange()), formatDate(car.getLastInspectionDate()));
+                    car.carId(), car.brand(), car.model(), car.color(),
+                    car.carStatus(), formatDate(car.lastOilChange()),
+                    formatDate(car.nextOilChange()), formatDate(car.lastInspectionDate()));
         }
     }
 
@@ -1,13 +1,18 @@
 package services.dashboards;
 
 import entities.Booking;
+import entities.BookingListingView;
 import entities.Car;
 import entities.Customer;
-import services.database.BookingDAO;
+import input.PaginationInputAndValidationService;
+import resource.ScannerManager;
+import services.database.DatabasePropertiesLoader;
+import services.database.Page;
+import services.repository.Repositories;
 
 import java.text.SimpleDateFormat;
-import java.util.List;
 import java.util.Scanner;
+import java.util.function.Consumer;
 
 /**
  * Dashboard service for rental history-related operations.
@@ -16,59 +21,35 @@ import java.util.Scanner;
 public class RentalHistoryDashboardService {
 
     /**
-     * Displays the rental history of all bookings.
+     * Displays the rental history of all bookings, one page at a time in booking ID order.
      */
     public static void displayRentalHistory() {
-        List<Booking> bookings = BookingDAO.displayBookings();
+        int pageSize = DatabasePropertiesLoader.getConfiguration().getPageSize();
+        Page<BookingListingView> page = Repositories.bookings().getBookingListingsPage(null, pageSize);
 
-        if (bookings.isEmpty()) {
+        if (page.isEmpty()) {
             System.out.println("No rental history found.");
-        } else {
-            System.out.println("Rental History:");
-            System.out.printf("%-15s %-15s %-15s %-15s %-15s %-15s %-15s%n",
-                    "Booking ID", "Car ID", "Customer ID", "Employee ID", "Booking Date", "Return Date", "Cancellation Date");
-            SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-            for (Booking booking : bookings) {
-                String bookingId = booking.getBookingId();
-                String carId = booking.getCar() != null ? booking.getCar().getCarId() : "N/A";
-                String customerId = booking.getCustomer() != null ? booking.getCustomer().getCustomerId() : "N/A";
-                String employeeId = booking.getEmployee() != null ? booking.getEmployee().getEmployeeId() : "N/A";
-                String bookingDate = booking.getBookingDate() != null ? dateFormat.format(booking.getBookingDate()) : "N/A";
-                String returnDate = booking.getReturnDate() != null ? dateFormat.format(booking.getReturnDate()) : "N/A";
-                String cancellationDate = booking.getCancellationDate() != null ? dateFormat.format(booking.getCancellationDate()) : "N/A";
-
-                System.out.printf("%-15s %-15s %-15s %-15s %-15s %-15s %-15s%n",
-                        bookingId, carId, customerId, employeeId, bookingDate, returnDate, cancellationDate);
+            return;
+        }
+        RentalHistoryPrinter printer = new RentalHistoryPrinter("Rental History:", true);
+        while (true) {
+            page.getItems().forEach(printer);
+            if (!page.hasNext() || !PaginationInputAndValidationService.continueToNextPage(ScannerManager.getScanner())) {
+                break;
             }
+            page = Repositories.bookings().getBookingListingsPage(page.getLastKey(), pageSize);
         }
     }
 
     /**
-     * Displays the rental history of a specific customer.
+     * Displays the rental history of a specific customer, printing each booking as it is read.
      * @param customer The customer whose rental history is to be displayed.
      */
     public static void displayRentalHistoryByCustomerId(Customer customer) {
         String customerId = customer.getCustomerId();
-        List<Booking> bookings = BookingDAO.displayBookingsByCustomerId(customerId);
-
-        if (bookings.isEmpty()) {
+        RentalHistoryPrinter printer = new RentalHistoryPrinter("Rental History for Customer ID " + customerId + ":", false);
+        if (Repositories.bookings().forEachBookingListingByCustomerId(customerId, printer) == 0) {
             System.out.println("No rental history found for customer with ID: " + customerId);
-        } else {
-            System.out.println("Rental History for Customer ID " + customerId + ":");
-            System.out.printf("%-15s %-15s %-15s %-15s %-15s %-15s%n",
-                    "Booking ID", "Car ID", "Employee ID", "Booking Date", "Return Date", "Cancellation Date");
-            SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-            for (Booking booking : bookings) {
-                String bookingId = booking.getBookingId();
-                String carId = booking.getCar() != null ? booking.getCar().getCarId() : "N/A";
-                String employeeId = booking.getEmployee() != null ? booking.getEmployee().getEmployeeId() : "N/A";
-                String bookingDate = booking.getBookingDate() != null ? dateFormat.format(booking.getBookingDate()) : "N/A";
-                String returnDate = booking.getReturnDate() != null ? dateFormat.format(booking.getReturnDate()) : "N/A";
-                String cancellationDate = booking.getCancellationDate() != null ? dateFormat.format(booking.getCancellationDate()) : "N/A";
-
-                System.out.printf("%-15s %-15s %-15s %-15s %-15s %-15s%n",
-                        bookingId, carId, employeeId, bookingDate, returnDate, cancellationDate);
-            }
         }
     }
 
@@ -80,7 +61,7 @@ public class RentalHistoryDashboardService {
         System.out.print("Enter Booking ID: ");
         String bookingId = scanner.nextLine();
 
-        Booking booking = BookingDAO.getBookingById(bookingId);
+        Booking booking = Repositories.bookings().getBookingById(bookingId);
         if (booking != null) {
             // Check if the booking is cancelled
             if (booking.getCancellationDate() != null) {
@@ -108,4 +89,51 @@ public class RentalHistoryDashboardService {
             System.out.println("Booking not found.");
         }
     }
+
+    /**
+     * Prints rental history rows as bookings are streamed, printing the title and column headers
+     * just before the first row.
+     */
+    private static class RentalHistoryPrinter implements Consumer<BookingListingView> {
+        private final String title; // Title printed above the table
+        private final boolean showCustomer; // Whether the customer ID column is included
+        private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+        private boolean headerPrinted;
+
+        private RentalHistoryPrinter(String title, boolean showCustomer) {
+            this.title = title;
+            this.showCustomer = showCustomer;
+        }
+
+        @Override
+        public void accept(BookingListingView booking) {
+            if (!headerPrinted) {
+                System.out.println(title);
+                if (showCustomer) {
+                    System.out.printf("%-15s %-15s %-15s %-15s %-15s %-15s %-15s%n",
+                            "Booking ID", "Car ID", "Customer ID", "Employee ID", "Booking Date", "Return Date", "Cancellation Date");
+                } else {
+                    System.out.printf("%-15s %-15s %-15s %-15s %-15s %-15s%n",
+                            "Booking ID", "Car ID", "Employee ID", "Booking Date", "Return Date", "Cancellation Date");
+                }
+                headerPrinted = true;
+            }
+
+            String bookingId = booking.bookingId();
+            String carId = booking.carId() != null ? booking.carId() : "N/A";
+            String customerId = booking.customerId() != null ? booking.customerId() : "N/A";
+            String employeeId = booking.employeeId() != null ? booking.employeeId() : "N/A";
+            String bookingDate = booking.bookingDate() != null ? dateFormat.format(booking.bookingDate()) : "N/A";
+            String returnDate = booking.returnDate() != null ? dateFormat.format(booking.returnDate()) : "N/A";
+            String cancellationDate = booking.cancellationDate() != null ? dateFormat.format(booking.cancellationDate()) : "N/A";
+
+            if (showCustomer) {
+                System.out.printf("%-15s %-15s %-15s %-15s %-15s %-15s %-15s%n",
+                        bookingId, carId, customerId, employeeId, bookingDate, returnDate, cancellationDate);
+            } else {
+                System.out.printf("%-15s %-15s %-15s %-15s %-15s %-15s%n",
+                        bookingId, carId, employeeId, bookingDate, returnDate, cancellationDate);
+            }
+        }
+    }
 }
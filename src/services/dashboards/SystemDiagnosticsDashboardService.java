@@ -0,0 +1,42 @@
+package services.dashboards;
+
+import services.database.CacheDiagnostics;
+import services.database.CacheWarmUp;
+import services.database.ConnectionManager;
+import services.database.EntityCacheStats;
+import services.repository.Repositories;
+
+import static constants.CarRentalManagementSystemConstants.DATABASE.ENGINE_MEMORY;
+
+/**
+ * Dashboard service showing how the data access layer is performing, for managers.
+ * Author: Ghazala Anjum
+ */
+public class SystemDiagnosticsDashboardService {
+
+    /**
+     * Displays the statistics of every cache, the connection pool and the startup warm-up.
+     */
+    public static void displayDiagnostics() {
+        System.out.println("System Diagnostics");
+        System.out.println("Storage engine: " + Repositories.getEngine());
+        if (ENGINE_MEMORY.equals(Repositories.getEngine())) {
+            System.out.println("The in-memory engine keeps all data in memory and uses no database caches.");
+            return;
+        }
+
+        System.out.printf("%-18s %-8s %-8s %-10s %-10s %-10s %-8s %-8s %-8s %-10s %-10s %-10s%n", "Cache", "Size", "Max Size",
+                "Hit Ratio", "Evictions", "Expired", "Stale", "Shared", "Loads", "p50 (ms)", "p95 (ms)", "p99 (ms)");
+        for (EntityCacheStats stats : CacheDiagnostics.getCacheStats()) {
+            System.out.printf("%-18s %-8d %-8s %-10s %-10d %-10d %-8d %-8d %-8d %-10.3f %-10.3f %-10.3f%n", stats.getName(),
+                    stats.getSize(), stats.getMaxSize() < 0 ? "-" : String.valueOf(stats.getMaxSize()),
+                    String.format("%.1f%%", stats.getHitRatio() * 100), stats.getEvictions(), stats.getExpirations(),
+                    stats.getStaleReads(), stats.getCoalesced(), stats.getLoads(), stats.getLoadP50Millis(), stats.getLoadP95Millis(),
+                    stats.getLoadP99Millis());
+        }
+
+        System.out.println("Connection pool: " + ConnectionManager.getPoolStats());
+        String warmUpReport = CacheWarmUp.getLastReport();
+        System.out.println(warmUpReport == null ? "Warm-up: not run or still running." : warmUpReport);
+    }
+}
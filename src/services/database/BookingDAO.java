@@ -1,11 +1,19 @@
 package services.database;
 
 import entities.Booking;
+import entities.BookingListingView;
+import entities.FinanceBookingView;
+import entities.FinanceSummary;
+import populators.BookingListingViewPopulator;
 import populators.BookingPopulator;
+import populators.FinanceBookingViewPopulator;
 
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+
+import static constants.CarRentalManagementSystemConstants.ENTITY_CACHE.*;
 
 /**
  * Data access object for managing booking-related operations in the database.
@@ -13,49 +21,43 @@ import java.util.List;
  */
 
 public class BookingDAO {
+    // Booking summaries of each customer behind the rental history screen, dropped whenever one of their bookings changes
+    private static final EntityCache<List<BookingListingView>> SUMMARY_CACHE = new EntityCache<>("booking summaries",
+            DatabasePropertiesLoader.getConfiguration().getInt(BOOKING_SUMMARY_MAX_SIZE, DEFAULT_BOOKING_SUMMARY_MAX_SIZE),
+            DatabasePropertiesLoader.getConfiguration().getLong(BOOKING_SUMMARY_TTL_MS, DEFAULT_BOOKING_SUMMARY_TTL_MS),
+            List::copyOf);
+
+    // Bookings are not cached, but concurrent lookups of the same booking share one query
+    private static final CacheMetrics LOOKUP_METRICS = new CacheMetrics();
+    private static final SingleFlight<Booking> LOOKUPS = new SingleFlight<>(Booking::new, LOOKUP_METRICS);
 
     /**
-     * Retrieves all bookings from the database.
-     *
-     * @return A list of all bookings.
+     * Reads one row of a result set into an object, for the streaming reads.
      */
-    public static List<Booking> displayBookings() {
-        List<Booking> bookings = new ArrayList<>();
-
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword())) {
-            String query = "SELECT * FROM Booking";
-            PreparedStatement statement = connection.prepareStatement(query);
-            ResultSet resultSet = statement.executeQuery();
-
-            while (resultSet.next()) {
-                Booking booking = BookingPopulator.populateBooking(resultSet);
-                bookings.add(booking);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+    private interface RowReader<T> {
+        T read(ResultSet resultSet) throws SQLException;
+    }
 
-        return bookings;
+    /**
+     * Statements run together in one transaction; returning false rolls the transaction back.
+     */
+    private interface TransactionWork {
+        boolean run(Connection connection) throws SQLException;
     }
 
     /**
-     * Retrieves all bookings associated with a specific customer from the database.
+     * Retrieves all bookings from the database.
      *
-     * @param customerId The ID of the customer for whom bookings are retrieved.
-     * @return A list of bookings associated with the specified customer.
+     * @return A list of all bookings.
      */
-    public static List<Booking> displayBookingsByCustomerId(String customerId) {
+    public static List<Booking> displayBookings() {
         List<Booking> bookings = new ArrayList<>();
 
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword())) {
-            String query = "SELECT * FROM Booking WHERE customer_id = ?";
-            PreparedStatement statement = connection.prepareStatement(query);
-            statement.setString(1, customerId);
-            ResultSet resultSet = statement.executeQuery();
-
-            while (resultSet.next()) {
-                Booking booking = BookingPopulator.populateBooking(resultSet);
-                bookings.add(booking);
+        String query = BookingLoader.SELECT_BOOKINGS;
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            try (ResultSet resultSet = statement.executeQuery()) {
+                bookings = BookingLoader.readAll(resultSet);
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -65,207 +67,388 @@ public class BookingDAO {
     }
 
     /**
-     * Adds a new booking to the database.
+     * Adds a new booking to the database and marks its car as unavailable in the same transaction.
+     * The car is only reserved while it is still available, so two bookings racing for the same car
+     * cannot both succeed.
      *
      * @param booking The booking object to be added.
+     * @return true if the booking was added, false if the car was no longer available or the write failed.
      */
-    public static void addBooking(Booking booking) {
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword())) {
-            String query = "INSERT INTO Booking (car_id, customer_id, employee_id, booking_date, return_date, cancellation_date) VALUES (?, ?, ?, ?, ?, ?)";
-            PreparedStatement statement = connection.prepareStatement(query);
-            statement.setString(1, booking.getCar().getCarId());
-            statement.setString(2, booking.getCustomer().getCustomerId());
-            statement.setString(3, booking.getEmployee().getEmployeeId());
-            statement.setDate(4, booking.getBookingDate());
-            statement.setDate(5, booking.getReturnDate());
-            statement.setDate(6, booking.getCancellationDate());
-
-            statement.executeUpdate();
+    public static boolean addBooking(Booking booking) {
+        String query = "INSERT INTO Booking (car_id, customer_id, employee_id, booking_date, return_date, cancellation_date) VALUES (?, ?, ?, ?, ?, ?)";
+        boolean added = inTransaction(connection -> {
+            if (!CarDAO.updateAvailability(connection, booking.getCar().getCarId(), true, false)) {
+                System.out.println("The car is no longer available for booking.");
+                return false;
+            }
+            try (PreparedStatement statement = connection.prepareStatement(query)) {
+                statement.setString(1, booking.getCar().getCarId());
+                statement.setString(2, booking.getCustomer().getCustomerId());
+                statement.setString(3, booking.getEmployee().getEmployeeId());
+                statement.setDate(4, booking.getBookingDate());
+                statement.setDate(5, booking.getReturnDate());
+                statement.setDate(6, booking.getCancellationDate());
+
+                return statement.executeUpdate() > 0;
+            }
+        });
+        CarDAO.availabilityChanged(booking.getCar().getCarId(), added, false);
+        SUMMARY_CACHE.invalidate(booking.getCustomer().getCustomerId());
+        if (added) {
             System.out.println("Booking added successfully.");
-        } catch (SQLException e) {
-            e.printStackTrace();
         }
+        return added;
     }
 
     /**
-     * Updates the return date of a booking in the database when the car is returned.
+     * Updates the return date of a booking in the database when the car is returned,
+     * and marks the car as available again in the same transaction.
      *
      * @param booking    The booking for which the return date is to be updated.
      * @param returnDate The date the car was returned.
+     * @return true if the return date was updated.
      */
-
-    public static void returnCar(Booking booking, Date returnDate) {
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             PreparedStatement statement = connection.prepareStatement(
-                     "UPDATE Booking SET return_date = ? WHERE booking_id = ?")) {
-
-            statement.setDate(1, returnDate);
-            statement.setString(2, booking.getBookingId());
-
-            int rowsUpdated = statement.executeUpdate();
-            if (rowsUpdated > 0) {
-                System.out.println("Car returned successfully.");
-            } else {
-                System.out.println("Failed to update return date.");
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+    public static boolean returnCar(Booking booking, Date returnDate) {
+        boolean returned = inTransaction(connection ->
+                updateBookingAndReleaseCar(connection, "UPDATE Booking SET return_date = ? WHERE booking_id = ?",
+                        booking, returnDate));
+        CarDAO.availabilityChanged(booking.getCar().getCarId(), returned, true);
+        SUMMARY_CACHE.invalidate(booking.getCustomer().getCustomerId());
+        LOOKUPS.forget(booking.getBookingId());
+        System.out.println(returned ? "Car returned successfully." : "Failed to update return date.");
+        return returned;
     }
 
     /**
-     * Cancels a booking by updating the cancellation date in the database.
+     * Cancels a booking by updating the cancellation date in the database,
+     * and marks the car as available again in the same transaction.
      *
      * @param booking          The booking to be canceled.
      * @param cancellationDate The date when the booking was canceled.
+     * @return true if the cancellation date was updated.
      */
-    public static void cancelBooking(Booking booking, Date cancellationDate) {
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             PreparedStatement statement = connection.prepareStatement(
-                     "UPDATE Booking SET cancellation_date = ? WHERE booking_id = ?")) {
+    public static boolean cancelBooking(Booking booking, Date cancellationDate) {
+        boolean canceled = inTransaction(connection ->
+                updateBookingAndReleaseCar(connection, "UPDATE Booking SET cancellation_date = ? WHERE booking_id = ?",
+                        booking, cancellationDate));
+        CarDAO.availabilityChanged(booking.getCar().getCarId(), canceled, true);
+        SUMMARY_CACHE.invalidate(booking.getCustomer().getCustomerId());
+        LOOKUPS.forget(booking.getBookingId());
+        System.out.println(canceled ? "Booking canceled successfully." : "Failed to update cancellation date.");
+        return canceled;
+    }
 
-            statement.setDate(1, cancellationDate);
+    /**
+     * Sets one date column of a booking and releases its car.
+     */
+    private static boolean updateBookingAndReleaseCar(Connection connection, String query, Booking booking,
+                                                      Date date) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setDate(1, date);
             statement.setString(2, booking.getBookingId());
+            if (statement.executeUpdate() == 0) {
+                return false;
+            }
+        }
+        // A car that is already available needs no change, so the transition result is not checked
+        CarDAO.updateAvailability(connection, booking.getCar().getCarId(), false, true);
+        return true;
+    }
 
-            int rowsUpdated = statement.executeUpdate();
-            if (rowsUpdated > 0) {
-                System.out.println("Booking canceled successfully.");
-            } else {
-                System.out.println("Failed to update cancellation date.");
+    /**
+     * Runs a unit of work in a single transaction, committing it only if the work reports success.
+     *
+     * @param work The statements to run on the transaction's connection.
+     * @return true if the work succeeded and was committed, false if it was rolled back.
+     */
+    private static boolean inTransaction(TransactionWork work) {
+        try (Connection connection = ConnectionManager.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                if (work.run(connection)) {
+                    connection.commit();
+                    return true;
+                }
+                connection.rollback();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
+        return false;
     }
 
     /**
      * Retrieves a booking by its unique identifier (booking ID) from the database.
+     * Concurrent lookups of the same booking share one query.
      *
      * @param bookingId The unique identifier of the booking to retrieve.
      * @return The booking object if found, or null if not found.
      */
 
     public static Booking getBookingById(String bookingId) {
+        LOOKUP_METRICS.recordMiss();
+        return LOOKUPS.load(bookingId, BookingDAO::loadBookingById);
+    }
+
+    /**
+     * Reads a booking for {@link #getBookingById}, recording how long the query took.
+     */
+    private static Booking loadBookingById(String bookingId) {
+        long loadStartedAt = System.nanoTime();
         Booking booking = null;
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             PreparedStatement statement = connection.prepareStatement("SELECT * FROM Booking WHERE booking_id = ?")) {
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(BookingLoader.SELECT_BOOKINGS + " WHERE b.booking_id = ?")) {
 
             statement.setString(1, bookingId);
-            ResultSet resultSet = statement.executeQuery();
-
-            if (resultSet.next()) {
-                booking = BookingPopulator.populateBooking(resultSet);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                List<Booking> bookings = BookingLoader.readAll(resultSet);
+                if (!bookings.isEmpty()) {
+                    booking = bookings.get(0);
+                }
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
+        LOOKUP_METRICS.recordLoad(loadStartedAt);
         return booking;
     }
 
     /**
-     * Retrieves a list of all booking IDs from the database.
+     * Checks whether a booking with the given ID exists, using a primary key lookup instead of reading every ID.
      *
-     * @return A list containing all booking IDs retrieved from the database.
+     * @param bookingId The ID to look for.
+     * @return true if a booking with the ID exists.
      */
-    public static List<String> getAllBookingIds() {
-        List<String> bookingIds = new ArrayList<>();
-
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             PreparedStatement statement = connection.prepareStatement("SELECT booking_id FROM Booking");
-             ResultSet resultSet = statement.executeQuery()) {
-
-            while (resultSet.next()) {
-                String bookingId = resultSet.getString("booking_id");
-                bookingIds.add(bookingId);
+    public static boolean bookingExists(String bookingId) {
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT TOP (1) 1 FROM Booking WHERE booking_id = ?")) {
+            statement.setString(1, bookingId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-
-        return bookingIds;
+        return false;
     }
 
     /**
-     * Retrieves a list of bookings within a specified return date range from the database.
+     * Reads the open bookings, those neither returned nor canceled, for the startup warm-up. Bookings are not
+     * cached, so this only primes the connection pool, the statement cache and the database's own buffers
+     * for the booking join the return and cancel screens run.
      *
-     * @param startDate The start date of the return date range.
-     * @param endDate   The end date of the return date range.
-     * @return A list containing bookings that have return dates falling within the specified range.
+     * @return The number of open bookings read.
      */
-    public static List<Booking> getBookingsByReturnDateRange(Date startDate, Date endDate) {
-        List<Booking> bookings = new ArrayList<>();
-
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword())) {
-            String query = "SELECT * FROM Booking WHERE return_date BETWEEN ? AND ?";
-            PreparedStatement statement = connection.prepareStatement(query);
-            statement.setDate(1, startDate);
-            statement.setDate(2, endDate);
-            ResultSet resultSet = statement.executeQuery();
+    public static int warmUpOpenBookings() {
+        return forEach(BookingLoader.SELECT_BOOKINGS + " WHERE b.return_date IS NULL AND b.cancellation_date IS NULL",
+                BookingPopulator::populateBooking, booking -> { });
+    }
 
-            while (resultSet.next()) {
-                Booking booking = BookingPopulator.populateBooking(resultSet);
-                bookings.add(booking);
+    /**
+     * Runs a query and streams its rows to the action, fetching db.fetchSize rows per round trip.
+     * The statement, result set and connection are closed when the query completes, fails, or the action throws.
+     */
+    private static <T> int forEach(String query, RowReader<T> reader, Consumer<T> action, Object... parameters) {
+        int count = 0;
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            statement.setFetchSize(DatabasePropertiesLoader.getConfiguration().getFetchSize());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    action.accept(reader.read(resultSet));
+                    count++;
+                }
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-
-        return bookings;
+        return count;
     }
 
     /**
-     * Retrieves a list of bookings associated with a specific car ID from the database.
-     * Only bookings with a return date are included in the result.
+     * Retrieves one page of the booking listing view ordered by booking ID, starting after the given booking ID.
+     * Only the booking columns are read; the car, customer and employee tables are not joined.
      *
-     * @param carId The ID of the car for which bookings are to be retrieved.
-     * @return A list of bookings associated with the specified car ID.
+     * @param afterBookingId The last booking ID of the previous page, or null for the first page.
+     * @param pageSize       The maximum number of bookings on the page.
+     * @return The page of booking listings.
      */
-    public static List<Booking> getBookingsByCarId(String carId) {
-        List<Booking> bookings = new ArrayList<>();
+    public static Page<BookingListingView> getBookingListingsPage(String afterBookingId, int pageSize) {
+        List<BookingListingView> listings = new ArrayList<>();
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(BookingLoader.SELECT_BOOKING_LISTINGS_PAGE)) {
+            statement.setInt(1, pageSize + 1);
+            statement.setString(2, afterBookingId == null ? "" : afterBookingId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    listings.add(BookingListingViewPopulator.populateFromResultSet(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return Page.of(listings, pageSize, BookingListingView::bookingId);
+    }
 
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword())) {
-            String query = "SELECT * FROM Booking WHERE car_id = ? AND return_date IS NOT NULL";
-            PreparedStatement statement = connection.prepareStatement(query);
-            statement.setString(1, carId);
-            ResultSet resultSet = statement.executeQuery();
+    /**
+     * Passes the booking listing view of all bookings associated with a specific customer to an action.
+     * The listings are served from the booking summary cache, read from the database on a miss.
+     *
+     * @param customerId The ID of the customer for whom bookings are listed.
+     * @param action     The action to perform on each booking listing.
+     * @return The number of bookings listed.
+     */
+    public static int forEachBookingListingByCustomerId(String customerId, Consumer<BookingListingView> action) {
+        List<BookingListingView> listings = SUMMARY_CACHE.get(customerId, BookingDAO::loadBookingListings);
+        if (listings == null) {
+            return 0;
+        }
+        listings.forEach(action);
+        return listings.size();
+    }
 
-            while (resultSet.next()) {
-                Booking booking = BookingPopulator.populateBooking(resultSet);
-                bookings.add(booking);
+    /**
+     * Reads the booking listing view of a customer's bookings for the booking summary cache.
+     *
+     * @return The listings, or null if the query failed so that nothing is cached.
+     */
+    private static List<BookingListingView> loadBookingListings(String customerId) {
+        List<BookingListingView> listings = new ArrayList<>();
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(BookingLoader.SELECT_BOOKING_LISTINGS + " WHERE customer_id = ?")) {
+            statement.setString(1, customerId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    listings.add(BookingListingViewPopulator.populateFromResultSet(resultSet));
+                }
             }
         } catch (SQLException e) {
             e.printStackTrace();
+            return null;
         }
+        return listings;
+    }
 
-        return bookings;
+    /**
+     * Get the hit, miss and eviction counters of the booking summary cache.
+     *
+     * @return A snapshot of the booking summary cache statistics.
+     */
+    public static EntityCacheStats getCacheStats() {
+        return SUMMARY_CACHE.getStats();
     }
 
     /**
-     * Retrieves a list of bookings associated with a specific customer ID from the database.
-     * Only bookings with a return date are included in the result.
+     * Get the counters of the booking lookups, which are not cached, so every lookup counts as a miss;
+     * the coalesced count shows how many shared another lookup's query.
      *
-     * @param customerId The ID of the customer for which bookings are to be retrieved.
-     * @return A list of bookings associated with the specified customer ID.
+     * @return A snapshot of the booking lookup statistics.
      */
+    public static EntityCacheStats getLookupStats() {
+        return LOOKUP_METRICS.snapshot("booking lookups", 0, 0);
+    }
 
-    public static List<Booking> getBookingsByCustomerId(String customerId) {
-        List<Booking> bookings = new ArrayList<>();
+    static EntityCache<List<BookingListingView>> summaryCache() {
+        return SUMMARY_CACHE;
+    }
 
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword())) {
-            String query = "SELECT * FROM Booking WHERE customer_id = ? AND return_date IS NOT NULL";
-            PreparedStatement statement = connection.prepareStatement(query);
-            statement.setString(1, customerId);
-            ResultSet resultSet = statement.executeQuery();
+    /**
+     * Totals the bookings whose return date falls within a date range in one aggregate query.
+     *
+     * @param startDate The start date of the return date range.
+     * @param endDate   The end date of the return date range.
+     * @return The booking count, rental days and revenue of the bookings.
+     */
+    public static FinanceSummary getFinanceSummaryByReturnDateRange(Date startDate, Date endDate) {
+        return getFinanceSummary(" WHERE b.return_date BETWEEN ? AND ?", startDate, endDate);
+    }
 
-            while (resultSet.next()) {
-                Booking booking = BookingPopulator.populateBooking(resultSet);
-                bookings.add(booking);
+    /**
+     * Totals the bookings with a return date associated with a specific car in one aggregate query.
+     *
+     * @param carId The ID of the car whose bookings are totalled.
+     * @return The booking count, rental days and revenue of the bookings.
+     */
+    public static FinanceSummary getReturnedFinanceSummaryByCarId(String carId) {
+        return getFinanceSummary(" WHERE b.car_id = ? AND b.return_date IS NOT NULL", carId);
+    }
+
+    /**
+     * Totals the bookings with a return date associated with a specific customer in one aggregate query.
+     *
+     * @param customerId The ID of the customer whose bookings are totalled.
+     * @return The booking count, rental days and revenue of the bookings.
+     */
+    public static FinanceSummary getReturnedFinanceSummaryByCustomerId(String customerId) {
+        return getFinanceSummary(" WHERE b.customer_id = ? AND b.return_date IS NOT NULL", customerId);
+    }
+
+    /**
+     * Runs the finance summary query with a WHERE clause. Only the one row of totals crosses the network.
+     *
+     * @return The totals, or empty totals if the query failed.
+     */
+    private static FinanceSummary getFinanceSummary(String where, Object... parameters) {
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(BookingLoader.SELECT_FINANCE_SUMMARY + where)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    // SUM is NULL when no booking matches, which getLong and getDouble read as 0
+                    return new FinanceSummary(resultSet.getInt("booking_count"), resultSet.getLong("rental_days"),
+                            resultSet.getDouble("revenue"));
+                }
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
+        return new FinanceSummary(0, 0, 0.0);
+    }
 
-        return bookings;
+    /**
+     * Streams the finance view of the bookings whose return date falls within a date range.
+     *
+     * @param startDate The start date of the return date range.
+     * @param endDate   The end date of the return date range.
+     * @param action    The action to perform on each finance view.
+     * @return The number of bookings streamed.
+     */
+    public static int forEachFinanceViewByReturnDateRange(Date startDate, Date endDate, Consumer<FinanceBookingView> action) {
+        return forEach(BookingLoader.SELECT_FINANCE_VIEWS + " WHERE b.return_date BETWEEN ? AND ?",
+                FinanceBookingViewPopulator::populateFromResultSet, action, startDate, endDate);
     }
 
+    /**
+     * Streams the finance view of the bookings with a return date associated with a specific car.
+     *
+     * @param carId  The ID of the car for which bookings are streamed.
+     * @param action The action to perform on each finance view.
+     * @return The number of bookings streamed.
+     */
+    public static int forEachReturnedFinanceViewByCarId(String carId, Consumer<FinanceBookingView> action) {
+        return forEach(BookingLoader.SELECT_FINANCE_VIEWS + " WHERE b.car_id = ? AND b.return_date IS NOT NULL",
+                FinanceBookingViewPopulator::populateFromResultSet, action, carId);
+    }
+
+    /**
+     * Streams the finance view of the bookings with a return date associated with a specific customer.
+     *
+     * @param customerId The ID of the customer for which bookings are streamed.
+     * @param action     The action to perform on each finance view.
+     * @return The number of bookings streamed.
+     */
+    public static int forEachReturnedFinanceViewByCustomerId(String customerId, Consumer<FinanceBookingView> action) {
+        return forEach(BookingLoader.SELECT_FINANCE_VIEWS + " WHERE b.customer_id = ? AND b.return_date IS NOT NULL",
+                FinanceBookingViewPopulator::populateFromResultSet, action, customerId);
+    }
 }
@@ -0,0 +1,137 @@
+package services.database;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Single place listing every cache in front of the DAOs, for the diagnostics screen and for JMX.
+ * Each cache is registered as a {@link CacheStatsMXBean} named CarRentalManagementSystem:type=Cache,name=...
+ * Author: Ghazala Anjum
+ */
+public class CacheDiagnostics {
+    private static final String MBEAN_DOMAIN = "CarRentalManagementSystem";
+
+    private static final List<Supplier<EntityCacheStats>> CACHES = List.of(
+            CarDAO::getCacheStats,
+            CarDAO::getFleetCacheStats,
+            CustomerDAO::getCacheStats,
+            EmployeeDAO::getCacheStats,
+            BookingDAO::getCacheStats,
+            BookingDAO::getLookupStats);
+
+    /**
+     * Get the current statistics of every cache.
+     * @return One statistics snapshot per cache.
+     */
+    public static List<EntityCacheStats> getCacheStats() {
+        List<EntityCacheStats> stats = new ArrayList<>(CACHES.size());
+        for (Supplier<EntityCacheStats> cache : CACHES) {
+            stats.add(cache.get());
+        }
+        return stats;
+    }
+
+    /**
+     * Registers an MXBean per cache with the platform MBean server. Caches already registered are skipped,
+     * so calling this again is harmless.
+     */
+    public static synchronized void registerMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (Supplier<EntityCacheStats> cache : CACHES) {
+            try {
+                ObjectName name = new ObjectName(MBEAN_DOMAIN + ":type=Cache,name=" + ObjectName.quote(cache.get().getName()));
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(new CacheStats(cache), name);
+                }
+            } catch (JMException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * MXBean of one cache, reading a fresh snapshot for every attribute.
+     */
+    private static final class CacheStats implements CacheStatsMXBean {
+        private final Supplier<EntityCacheStats> stats;
+
+        private CacheStats(Supplier<EntityCacheStats> stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        public String getName() {
+            return stats.get().getName();
+        }
+
+        @Override
+        public int getSize() {
+            return stats.get().getSize();
+        }
+
+        @Override
+        public int getMaxSize() {
+            return stats.get().getMaxSize();
+        }
+
+        @Override
+        public long getHits() {
+            return stats.get().getHits();
+        }
+
+        @Override
+        public long getMisses() {
+            return stats.get().getMisses();
+        }
+
+        @Override
+        public double getHitRatio() {
+            return stats.get().getHitRatio();
+        }
+
+        @Override
+        public long getEvictions() {
+            return stats.get().getEvictions();
+        }
+
+        @Override
+        public long getExpirations() {
+            return stats.get().getExpirations();
+        }
+
+        @Override
+        public long getStaleReads() {
+            return stats.get().getStaleReads();
+        }
+
+        @Override
+        public long getCoalesced() {
+            return stats.get().getCoalesced();
+        }
+
+        @Override
+        public long getLoads() {
+            return stats.get().getLoads();
+        }
+
+        @Override
+        public double getLoadP50Millis() {
+            return stats.get().getLoadP50Millis();
+        }
+
+        @Override
+        public double getLoadP95Millis() {
+            return stats.get().getLoadP95Millis();
+        }
+
+        @Override
+        public double getLoadP99Millis() {
+            return stats.get().getLoadP99Millis();
+        }
+    }
+}
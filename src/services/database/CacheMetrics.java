@@ -0,0 +1,66 @@
+package services.database;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters shared by every cache in front of the DAOs, so that all of them report the same statistics.
+ * The counters are striped adders and the latencies go to a lock-free histogram, so recording never
+ * contends with the cache's own locks.
+ * Author: Ghazala Anjum
+ */
+public class CacheMetrics {
+    private final LongAdder hits = new LongAdder(); // Lookups served from the cache
+    private final LongAdder misses = new LongAdder(); // Lookups that went to the database
+    private final LongAdder evictions = new LongAdder(); // Entries dropped to make room or discarded as unusable
+    private final LongAdder expirations = new LongAdder(); // Entries dropped because they outlived their time-to-live
+    private final LongAdder staleReads = new LongAdder(); // Loads that raced with a write, so the caller may have seen the old value
+    private final LongAdder coalesced = new LongAdder(); // Lookups that shared another caller's load of the same key
+    private final LatencyHistogram loadLatency = new LatencyHistogram(); // Time taken by each database load
+
+    public void recordHit() {
+        hits.increment();
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public void recordEvictions(int count) {
+        evictions.add(count);
+    }
+
+    public void recordExpiration() {
+        expirations.increment();
+    }
+
+    public void recordStaleRead() {
+        staleReads.increment();
+    }
+
+    public void recordCoalesced() {
+        coalesced.increment();
+    }
+
+    /**
+     * Records how long a database load behind the cache took.
+     *
+     * @param startedAt The System.nanoTime() when the load started.
+     */
+    public void recordLoad(long startedAt) {
+        loadLatency.record(System.nanoTime() - startedAt);
+    }
+
+    /**
+     * Takes a point-in-time snapshot of the counters.
+     *
+     * @param name    The name of the cache.
+     * @param size    The number of entities the cache holds now.
+     * @param maxSize The most entities the cache keeps, or -1 if it is unbounded.
+     * @return The cache statistics.
+     */
+    public EntityCacheStats snapshot(String name, int size, int maxSize) {
+        return new EntityCacheStats(name, size, maxSize, hits.sum(), misses.sum(), evictions.sum(), expirations.sum(),
+                staleReads.sum(), coalesced.sum(), loadLatency.getCount(), loadLatency.getPercentileMillis(50),
+                loadLatency.getPercentileMillis(95), loadLatency.getPercentileMillis(99));
+    }
+}
@@ -0,0 +1,194 @@
+package services.database;
+
+import entities.BookingListingView;
+import entities.Car;
+import entities.CarStatus;
+import entities.Customer;
+import entities.Employee;
+import entities.FuelType;
+import entities.TransmissionType;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary encoding of the cached entities for the cache snapshot file. Fields are written in declaration
+ * order with no names or type tags; nullable strings, dates and enums carry a one-byte presence flag.
+ * Any change to an entity's fields needs a new snapshot format version.
+ * Author: Ghazala Anjum
+ */
+final class CacheSnapshotCodec {
+
+    /**
+     * Writes and reads one kind of cached value.
+     */
+    interface ValueCodec<V> {
+        void write(DataOutputStream out, V value) throws IOException;
+
+        V read(DataInputStream in) throws IOException;
+    }
+
+    static final ValueCodec<Car> CAR = new ValueCodec<>() {
+        @Override
+        public void write(DataOutputStream out, Car car) throws IOException {
+            writeString(out, car.getCarId());
+            writeString(out, car.getBrand());
+            writeString(out, car.getModel());
+            writeString(out, car.getColor());
+            out.writeInt(car.getNoOfPassengers());
+            writeEnum(out, car.getFuelType());
+            writeDate(out, car.getPurchaseDate());
+            writeEnum(out, car.getTransmissionType());
+            out.writeBoolean(car.isAvailable());
+            out.writeDouble(car.getCarPrice());
+            out.writeDouble(car.getRentalPrice());
+            out.writeBoolean(car.isRemoved());
+            writeDate(out, car.getLastOilChange());
+            writeDate(out, car.getNextOilChange());
+            writeDate(out, car.getLastInspectionDate());
+            writeDate(out, car.getNextInspectionDate());
+            writeEnum(out, car.getCarStatus());
+            writeDate(out, car.getLastWashingDate());
+            writeDate(out, car.getNextWashingDate());
+        }
+
+        @Override
+        public Car read(DataInputStream in) throws IOException {
+            return new Car(readString(in), readString(in), readString(in), readString(in), in.readInt(),
+                    readEnum(in, FuelType.class), readDate(in), readEnum(in, TransmissionType.class),
+                    in.readBoolean(), in.readDouble(), in.readDouble(), in.readBoolean(), readDate(in), readDate(in),
+                    readDate(in), readDate(in), readEnum(in, CarStatus.class), readDate(in), readDate(in));
+        }
+    };
+
+    static final ValueCodec<Customer> CUSTOMER = new ValueCodec<>() {
+        @Override
+        public void write(DataOutputStream out, Customer customer) throws IOException {
+            writeString(out, customer.getCustomerId());
+            writeString(out, customer.getFirstName());
+            writeString(out, customer.getLastName());
+            writeString(out, customer.getAddress());
+            writeString(out, customer.getEmail());
+            out.writeLong(customer.getContactNo());
+            out.writeBoolean(customer.isRemoved());
+            writeString(out, customer.getPassword());
+        }
+
+        @Override
+        public Customer read(DataInputStream in) throws IOException {
+            return new Customer(readString(in), readString(in), readString(in), readString(in), readString(in),
+                    in.readLong(), in.readBoolean(), readString(in));
+        }
+    };
+
+    static final ValueCodec<Employee> EMPLOYEE = new ValueCodec<>() {
+        @Override
+        public void write(DataOutputStream out, Employee employee) throws IOException {
+            writeString(out, employee.getEmployeeId());
+            writeString(out, employee.getFirstName());
+            writeString(out, employee.getLastName());
+            writeString(out, employee.getAddress());
+            writeString(out, employee.getEmail());
+            out.writeLong(employee.getPhoneNumber());
+            writeDate(out, employee.getDateOfBirth());
+            writeDate(out, employee.getHireDate());
+            out.writeBoolean(employee.isRemoved());
+            out.writeBoolean(employee.isManager());
+            writeString(out, employee.getPassword());
+        }
+
+        @Override
+        public Employee read(DataInputStream in) throws IOException {
+            return new Employee(readString(in), readString(in), readString(in), readString(in), readString(in),
+                    in.readLong(), readDate(in), readDate(in), in.readBoolean(), in.readBoolean(), readString(in));
+        }
+    };
+
+    static final ValueCodec<List<BookingListingView>> BOOKING_SUMMARIES = new ValueCodec<>() {
+        @Override
+        public void write(DataOutputStream out, List<BookingListingView> listings) throws IOException {
+            out.writeInt(listings.size());
+            for (BookingListingView listing : listings) {
+                writeString(out, listing.bookingId());
+                writeString(out, listing.carId());
+                writeString(out, listing.customerId());
+                writeString(out, listing.employeeId());
+                writeDate(out, listing.bookingDate());
+                writeDate(out, listing.returnDate());
+                writeDate(out, listing.cancellationDate());
+            }
+        }
+
+        @Override
+        public List<BookingListingView> read(DataInputStream in) throws IOException {
+            int count = in.readInt();
+            List<BookingListingView> listings = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                listings.add(new BookingListingView(readString(in), readString(in), readString(in), readString(in),
+                        readDate(in), readDate(in), readDate(in)));
+            }
+            return listings;
+        }
+    };
+
+    /**
+     * Writes a list of cars, such as the whole fleet.
+     */
+    static void writeCars(DataOutputStream out, List<Car> cars) throws IOException {
+        out.writeInt(cars.size());
+        for (Car car : cars) {
+            CAR.write(out, car);
+        }
+    }
+
+    static List<Car> readCars(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<Car> cars = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cars.add(CAR.read(in));
+        }
+        return cars;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeDate(DataOutputStream out, Date value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.getTime());
+        }
+    }
+
+    private static Date readDate(DataInputStream in) throws IOException {
+        return in.readBoolean() ? new Date(in.readLong()) : null;
+    }
+
+    private static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+        writeString(out, value == null ? null : value.name());
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInputStream in, Class<E> type) throws IOException {
+        String name = readString(in);
+        try {
+            return name == null ? null : Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown " + type.getSimpleName() + " '" + name + "' in cache snapshot", e);
+        }
+    }
+
+    private CacheSnapshotCodec() {
+    }
+}
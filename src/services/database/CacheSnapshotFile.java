@@ -0,0 +1,321 @@
+package services.database;
+
+import entities.Car;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static constants.CarRentalManagementSystemConstants.ENTITY_CACHE.*;
+
+/**
+ * Saves the entity caches to a local binary file when the application exits and puts them back at the next
+ * start, so the first screens after a restart are served from memory instead of SQL Server.
+ * Each section of the file records the version of its table: the highest rowversion of its rows, which SQL
+ * Server renews on every insert and update, and its row count, which every delete lowers. A section is only
+ * restored while that version is unchanged, so a write from this or any other client since the save discards
+ * it. Restored entries keep their original load time, so the caches' time-to-live still applies.
+ * The file holds customer and employee password hashes, so it is created readable by its owner only.
+ * Author: Ghazala Anjum
+ */
+public class CacheSnapshotFile {
+    private static final int MAGIC = 0x43534E50; // "CSNP"
+    private static final int FORMAT_VERSION = 2; // Bumped whenever the layout or an entity's fields change
+    private static final String END_OF_SECTIONS = "";
+
+    // Section names, also reported by the warm-up
+    static final String CARS = "cars";
+    static final String FLEET = "fleet";
+    static final String CUSTOMERS = "customers";
+    static final String EMPLOYEES = "employees";
+    static final String BOOKING_SUMMARIES = "booking summaries";
+
+    private static final List<Section> SECTIONS = List.of(
+            new CacheSection<>(CARS, CAR_TABLE, CarDAO.cache(), CacheSnapshotCodec.CAR),
+            new FleetSection(),
+            new CacheSection<>(CUSTOMERS, CUSTOMER_TABLE, CustomerDAO.cache(), CacheSnapshotCodec.CUSTOMER),
+            new CacheSection<>(EMPLOYEES, EMPLOYEE_TABLE, EmployeeDAO.cache(), CacheSnapshotCodec.EMPLOYEE),
+            new CacheSection<>(BOOKING_SUMMARIES, BOOKING_TABLE, BookingDAO.summaryCache(), CacheSnapshotCodec.BOOKING_SUMMARIES));
+
+    /**
+     * Get the location of the snapshot file from db.cache.snapshot.file.
+     * @return The path of the file, or null if the setting is blank and snapshots are disabled.
+     */
+    public static Path getFile() {
+        String file = DatabasePropertiesLoader.getConfiguration().getProperty(SNAPSHOT_FILE, DEFAULT_SNAPSHOT_FILE);
+        return file == null || file.trim().isEmpty() ? null : Paths.get(file.trim());
+    }
+
+    /**
+     * Saves the caches to the snapshot file when the application exits, whether or not they were warmed at startup.
+     */
+    public static void saveOnShutdown() {
+        ConnectionManager.runBeforeShutdown(CacheSnapshotFile::save);
+    }
+
+    /**
+     * Writes the entity caches to the snapshot file, replacing the previous one.
+     * The table versions are read before the caches, so an entry written in between is saved against an
+     * older version and discarded at the next start rather than trusted.
+     */
+    public static void save() {
+        Path file = getFile();
+        if (file == null) {
+            return;
+        }
+        Map<String, TableVersion> versions = readTableVersions();
+        if (versions == null) {
+            System.out.println("Cache snapshot not saved: the table versions could not be read.");
+            return;
+        }
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            if (file.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            createOwnerOnly(temporary);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                for (Section section : SECTIONS) {
+                    TableVersion version = versions.get(section.table);
+                    ByteArrayOutputStream body = new ByteArrayOutputStream();
+                    if (version == null || !section.write(new DataOutputStream(body))) {
+                        continue;
+                    }
+                    out.writeUTF(section.name);
+                    out.writeLong(version.maxRowVersion());
+                    out.writeLong(version.rowCount());
+                    out.writeInt(body.size());
+                    body.writeTo(out);
+                }
+                out.writeUTF(END_OF_SECTIONS);
+            }
+            // Replace the old file in one step, so a crash while writing never leaves a truncated snapshot
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Puts back the sections of the snapshot file whose tables have not changed since it was saved.
+     *
+     * @return The names of the restored sections; empty if there is no usable snapshot.
+     */
+    public static Set<String> restore() {
+        Set<String> restored = new LinkedHashSet<>();
+        Path file = getFile();
+        if (file == null || !Files.isRegularFile(file)) {
+            return restored;
+        }
+
+        // Mark the caches before reading the versions, so a write after the check also stops its section being restored
+        Map<String, SectionReader> readers = new HashMap<>();
+        for (Section section : SECTIONS) {
+            readers.put(section.name, section.prepareRestore());
+        }
+        Map<String, TableVersion> versions = readTableVersions();
+        if (versions == null) {
+            return restored;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                System.out.println("Cache snapshot ignored: it was written in a different format.");
+                return restored;
+            }
+            for (String name = in.readUTF(); !name.equals(END_OF_SECTIONS); name = in.readUTF()) {
+                TableVersion savedVersion = new TableVersion(in.readLong(), in.readLong());
+                byte[] body = new byte[in.readInt()];
+                in.readFully(body);
+
+                Section section = findSection(name);
+                if (section != null && savedVersion.equals(versions.get(section.table))
+                        && readers.get(name).read(new DataInputStream(new ByteArrayInputStream(body)))) {
+                    restored.add(name);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace(); // A damaged file only costs the sections not yet restored
+        }
+        return restored;
+    }
+
+    /**
+     * Reads the version of every table in one query. The highest row version is a seek on the row version index.
+     *
+     * @return The versions by table name, or null if they could not be read.
+     */
+    private static Map<String, TableVersion> readTableVersions() {
+        List<String> selects = new ArrayList<>();
+        for (String table : List.of(CAR_TABLE, CUSTOMER_TABLE, EMPLOYEE_TABLE, BOOKING_TABLE)) {
+            selects.add("SELECT '" + table + "' AS table_name, CAST(MAX(" + ROW_VERSION_COLUMN + ") AS BIGINT) AS max_row_version,"
+                    + " COUNT_BIG(*) AS row_count FROM " + table);
+        }
+        Map<String, TableVersion> versions = new HashMap<>();
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(String.join(" UNION ALL ", selects));
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                // MAX is NULL for an empty table, which getLong reads as 0
+                versions.put(resultSet.getString("table_name"),
+                        new TableVersion(resultSet.getLong("max_row_version"), resultSet.getLong("row_count")));
+            }
+        } catch (SQLException e) {
+            return null; // Databases created before the row_version columns were added simply get no snapshot
+        }
+        return versions;
+    }
+
+    private static Section findSection(String name) {
+        for (Section section : SECTIONS) {
+            if (section.name.equals(name)) {
+                return section;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates an empty file that only its owner can read, where the file system supports POSIX permissions.
+     */
+    private static void createOwnerOnly(Path path) throws IOException {
+        Files.deleteIfExists(path);
+        if (path.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        }
+    }
+
+    /**
+     * Version of a table: the highest row version of its rows and its row count.
+     */
+    private record TableVersion(long maxRowVersion, long rowCount) {
+    }
+
+    /**
+     * Reads one section's body into its cache, using the write marks taken before the table versions were checked.
+     */
+    private interface SectionReader {
+        boolean read(DataInputStream in) throws IOException;
+    }
+
+    /**
+     * One part of the snapshot file, backed by a cache and guarded by the version of one table.
+     */
+    private abstract static class Section {
+        private final String name;
+        private final String table;
+
+        private Section(String name, String table) {
+            this.name = name;
+            this.table = table;
+        }
+
+        /**
+         * Writes the section's body.
+         * @return false if there is nothing to save.
+         */
+        abstract boolean write(DataOutputStream out) throws IOException;
+
+        /**
+         * Marks the writes made to the backing cache so far.
+         * @return A reader that restores the section unless the cache was written after the mark.
+         */
+        abstract SectionReader prepareRestore();
+    }
+
+    /**
+     * Section holding the entries of an entity cache, with their keys and load times.
+     */
+    private static final class CacheSection<V> extends Section {
+        private final EntityCache<V> cache;
+        private final CacheSnapshotCodec.ValueCodec<V> codec;
+
+        private CacheSection(String name, String table, EntityCache<V> cache, CacheSnapshotCodec.ValueCodec<V> codec) {
+            super(name, table);
+            this.cache = cache;
+            this.codec = codec;
+        }
+
+        @Override
+        boolean write(DataOutputStream out) throws IOException {
+            List<EntityCache.CachedEntry<V>> entries = cache.entries();
+            if (entries.isEmpty()) {
+                return false;
+            }
+            out.writeInt(entries.size());
+            for (EntityCache.CachedEntry<V> entry : entries) {
+                out.writeUTF(entry.key());
+                out.writeLong(entry.loadedAt());
+                codec.write(out, entry.value());
+            }
+            return true;
+        }
+
+        @Override
+        SectionReader prepareRestore() {
+            EntityCache.WriteMark mark = cache.markWrites();
+            return in -> {
+                int count = in.readInt();
+                List<EntityCache.CachedEntry<V>> entries = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    String key = in.readUTF();
+                    long loadedAt = in.readLong();
+                    entries.add(new EntityCache.CachedEntry<>(key, codec.read(in), loadedAt));
+                }
+                return cache.restore(entries, mark) > 0;
+            };
+        }
+    }
+
+    /**
+     * Section holding the whole fleet snapshot behind the car listing and search.
+     */
+    private static final class FleetSection extends Section {
+        private FleetSection() {
+            super(FLEET, CAR_TABLE);
+        }
+
+        @Override
+        boolean write(DataOutputStream out) throws IOException {
+            FleetSnapshot fleet = CarDAO.currentFleet();
+            if (fleet == null) {
+                return false;
+            }
+            out.writeLong(fleet.getCreatedAt());
+            CacheSnapshotCodec.writeCars(out, fleet.getCars());
+            return true;
+        }
+
+        @Override
+        SectionReader prepareRestore() {
+            long mark = CarDAO.fleetWriteMark();
+            return in -> {
+                long createdAt = in.readLong();
+                List<Car> cars = CacheSnapshotCodec.readCars(in);
+                return CarDAO.restoreFleet(FleetSnapshot.of(1, createdAt, cars), mark);
+            };
+        }
+    }
+}
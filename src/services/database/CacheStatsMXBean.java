@@ -0,0 +1,37 @@
+package services.database;
+
+/**
+ * Management interface of one cache in front of the DAOs, registered with the platform MBean server so that
+ * JConsole, VisualVM or any JMX client can watch the caches of a running instance.
+ * Every attribute is read from a fresh statistics snapshot.
+ * Author: Ghazala Anjum
+ */
+public interface CacheStatsMXBean {
+    String getName();
+
+    int getSize();
+
+    int getMaxSize();
+
+    long getHits();
+
+    long getMisses();
+
+    double getHitRatio();
+
+    long getEvictions();
+
+    long getExpirations();
+
+    long getStaleReads();
+
+    long getCoalesced();
+
+    long getLoads();
+
+    double getLoadP50Millis();
+
+    double getLoadP95Millis();
+
+    double getLoadP99Millis();
+}
@@ -0,0 +1,111 @@
+package services.database;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntSupplier;
+
+/**
+ * Startup warm-up of the database caches. The caches saved by the previous run are restored from the
+ * {@link CacheSnapshotFile} first; cars, active customers, employees and open bookings not restored from it
+ * are then read in parallel, one pool thread per table, while the console is already waiting for the login.
+ * When all tables are done a single report of how many rows each read and how long it took is kept for the
+ * diagnostics screen rather than printed, since the console is by then waiting for the user's input.
+ * Author: Ghazala Anjum
+ */
+public class CacheWarmUp {
+    private static final int TABLE_COUNT = 4; // Cars, customers, employees and open bookings
+    private static volatile String lastReport; // Report of the last finished warm-up, shown on the diagnostics screen
+
+    /**
+     * Starts the warm-up in the background.
+     *
+     * @return A future completed with the timing report once every table has been read.
+     */
+    public static CompletableFuture<String> start() {
+        long startedAt = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(TABLE_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "cache-warm-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // The restore hands the table tasks off rather than waiting for them, so it never holds a pool thread
+        CompletableFuture<String> warmUp = CompletableFuture.supplyAsync(() -> {
+            long restoreStartedAt = System.nanoTime();
+            Set<String> restored = CacheSnapshotFile.restore();
+            String restoreReport = restored.isEmpty() ? "" : "restored " + String.join(", ", restored)
+                    + " from snapshot (" + elapsedMillis(restoreStartedAt) + " ms), ";
+            return new Restored(restored, restoreReport);
+        }, executor).thenCompose(snapshot -> {
+            Set<String> restored = snapshot.tables();
+            CompletableFuture<String> cars = restored.contains(CacheSnapshotFile.FLEET)
+                    ? CompletableFuture.completedFuture(null) : warm(executor, "cars", CarDAO::warmUp);
+            CompletableFuture<String> customers = restored.contains(CacheSnapshotFile.CUSTOMERS)
+                    ? CompletableFuture.completedFuture(null) : warm(executor, "customers", CustomerDAO::warmUp);
+            CompletableFuture<String> employees = restored.contains(CacheSnapshotFile.EMPLOYEES)
+                    ? CompletableFuture.completedFuture(null) : warm(executor, "employees", EmployeeDAO::warmUp);
+            CompletableFuture<String> openBookings = warm(executor, "open bookings", BookingDAO::warmUpOpenBookings);
+            return CompletableFuture.allOf(cars, customers, employees, openBookings).thenApply(ignored ->
+                    snapshot.report() + String.join(", ", joinReported(cars, customers, employees, openBookings)));
+        });
+
+        return warmUp.whenComplete((report, e) -> executor.shutdown()).thenApply(details -> {
+            String report = "Warm-up finished in " + elapsedMillis(startedAt) + " ms: " + details;
+            lastReport = report;
+            return report;
+        });
+    }
+
+    /**
+     * Get the report of the last finished warm-up.
+     * @return The timing report, or null if no warm-up has finished.
+     */
+    public static String getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * Tables restored from the snapshot and the restore's part of the report.
+     */
+    private record Restored(Set<String> tables, String report) {
+    }
+
+    /**
+     * Waits for the table tasks and collects the report of each one that ran.
+     */
+    @SafeVarargs
+    private static List<String> joinReported(CompletableFuture<String>... tasks) {
+        List<String> reports = new ArrayList<>();
+        for (CompletableFuture<String> task : tasks) {
+            String report = task.join();
+            if (report != null) {
+                reports.add(report);
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * Runs one table's warm-up on a pool thread and times it.
+     *
+     * @return A future completed with the table's part of the report; a failure is reported, not thrown.
+     */
+    private static CompletableFuture<String> warm(ExecutorService executor, String table, IntSupplier warmUp) {
+        return CompletableFuture.supplyAsync(() -> {
+            long startedAt = System.nanoTime();
+            int rows = warmUp.getAsInt();
+            return table + " " + rows + " rows (" + elapsedMillis(startedAt) + " ms)";
+        }, executor).exceptionally(e -> {
+            e.printStackTrace();
+            return table + " failed";
+        });
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+}
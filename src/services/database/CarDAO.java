@@ -2,40 +2,53 @@ package services.database;
 
 
 import entities.Car;
+import entities.FleetMaintenanceView;
 import populators.CarPopulator;
+import populators.FleetMaintenanceViewPopulator;
+import services.index.FuzzyIndex;
+import services.index.TrigramIndex;
 
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import static constants.CarRentalManagementSystemConstants.CAR.MAINTENANCE_VIEW_COLUMNS;
+import static constants.CarRentalManagementSystemConstants.ENTITY_CACHE.*;
+import static constants.CarRentalManagementSystemConstants.SEARCH.*;
 
 /**
  * Data access object for managing car-related operations in the database.
  * Author: Aashika Vachhani
  */
 public class CarDAO {
-
-    /**
-     * Retrieves a list of all cars from the database.
-     *
-     * @return A list of all cars in the database.
-     */
-    public static List<Car> getAllCars() {
-        List<Car> cars = new ArrayList<>();
-
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             PreparedStatement statement = connection.prepareStatement("SELECT * FROM Car");
-             ResultSet resultSet = statement.executeQuery()) {
-
-            while (resultSet.next()) {
-                Car car = CarPopulator.populateFromResultSet(resultSet);
-                cars.add(car);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-
-        return cars;
-    }
+    // Projection of just the columns shown on the fleet maintenance screens
+    private static final String SELECT_MAINTENANCE_VIEWS = "SELECT " + String.join(", ", MAINTENANCE_VIEW_COLUMNS) + " FROM Car";
+
+    // Read-through cache in front of getCarById, the most frequent query
+    private static final EntityCache<Car> CACHE = new EntityCache<>("cars",
+            DatabasePropertiesLoader.getConfiguration().getInt(CAR_MAX_SIZE, DEFAULT_CAR_MAX_SIZE),
+            DatabasePropertiesLoader.getConfiguration().getLong(CAR_TTL_MS, DEFAULT_CAR_TTL_MS),
+            Car::new);
+
+    // Fleet snapshot behind the car listing and search, patched on every write; null until first read
+    private static final AtomicReference<FleetSnapshot> FLEET = new AtomicReference<>();
+    private static final AtomicLong FLEET_CHANGES = new AtomicLong(); // Bumped by every write, so a rebuild that raced with one is not installed
+    private static final long FLEET_MAX_AGE = DatabasePropertiesLoader.getConfiguration()
+            .getLong(FLEET_MAX_AGE_MS, DEFAULT_FLEET_MAX_AGE_MS); // Rebuilt after this long to pick up changes made by other instances
+    private static final CacheMetrics FLEET_METRICS = new CacheMetrics(); // A rebuild counts as a miss
+
+    // Trigram index over car ID, brand, model and color behind searchCar, loaded from the fleet snapshot
+    private static final TrigramIndex SEARCH_INDEX = new TrigramIndex();
+    private static long searchIndexSource = -1; // createdAt of the fleet snapshot the index was loaded from; guarded by SEARCH_INDEX
+
+    // Typo-tolerant index over the same fields behind searchCarApproximate, loaded and patched with SEARCH_INDEX
+    private static final FuzzyIndex FUZZY_INDEX = new FuzzyIndex(DatabasePropertiesLoader.getConfiguration()
+            .getInt(APPROXIMATE_VISIT_BUDGET, DEFAULT_APPROXIMATE_VISIT_BUDGET));
+    private static final int APPROXIMATE_LIMIT = DatabasePropertiesLoader.getConfiguration()
+            .getInt(APPROXIMATE_RESULT_LIMIT, DEFAULT_APPROXIMATE_RESULT_LIMIT);
 
     /**
      * Retrieves a car from the database based on the provided car ID.
@@ -44,9 +57,16 @@ public class CarDAO {
      * @return The car with the specified ID, or null if not found.
      */
     public static Car getCarById(String carId) {
+        return CACHE.get(carId, CarDAO::loadCarById);
+    }
+
+    /**
+     * Reads a car from the database, bypassing the cache.
+     */
+    private static Car loadCarById(String carId) {
         Car car = null;
 
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
+        try (Connection connection = ConnectionManager.getConnection();
              PreparedStatement statement = connection.prepareStatement("SELECT * FROM Car WHERE car_id = ?");
         ) {
             statement.setString(1, carId);
@@ -63,38 +83,287 @@ public class CarDAO {
     }
 
     /**
-     * Searches for cars in the database based on a search term.
+     * Searches for cars based on a search term, answered by the trigram index over the fleet snapshot
+     * instead of a LIKE scan of the Car table.
      *
-     * @param searchTerm The term to search for in car IDs, brands, or models.
-     * @return A list of cars matching the search term.
+     * @param searchTerm The term to search for in car IDs, brands, models or colors.
+     * @return A list of cars matching the search term, exact matches first, then prefixes, then other substrings.
      */
     public static List<Car> searchCar(String searchTerm) {
+        FleetSnapshot fleet = getFleetSnapshot();
+        List<String> carIds;
+        synchronized (SEARCH_INDEX) {
+            fleet = syncSearchIndexes(fleet);
+            carIds = SEARCH_INDEX.search(searchTerm);
+        }
+        return carsOf(fleet, carIds);
+    }
+
+    /**
+     * Searches for cars with words close to the search term, for when the exact search finds nothing because
+     * of a typo. Each word of the term may be one edit off, or two for words longer than five characters.
+     *
+     * @param searchTerm The possibly mistyped words to search for in car IDs, brands, models or colors.
+     * @return The closest matching cars, closest first, at most the configured number of them.
+     */
+    public static List<Car> searchCarApproximate(String searchTerm) {
+        FleetSnapshot fleet = getFleetSnapshot();
+        List<String> carIds;
+        synchronized (SEARCH_INDEX) {
+            fleet = syncSearchIndexes(fleet);
+            carIds = FUZZY_INDEX.search(searchTerm, APPROXIMATE_LIMIT);
+        }
+        return carsOf(fleet, carIds);
+    }
+
+    private static List<Car> carsOf(FleetSnapshot fleet, List<String> carIds) {
+        List<Car> cars = new ArrayList<>(carIds.size());
+        for (String carId : carIds) {
+            Car car = fleet.getCar(carId);
+            if (car != null) {
+                cars.add(car);
+            }
+        }
+        return cars;
+    }
+
+    /**
+     * Reloads the search and fuzzy indexes when the fleet snapshot was rebuilt since they were loaded.
+     * Writes patched into the same snapshot are applied to the indexes as they happen, so only a rebuild,
+     * which may hold changes made by other instances, needs a reload. The reload reads the installed snapshot
+     * rather than the caller's, which may predate a write already applied to the indexes. Callers hold the
+     * SEARCH_INDEX lock.
+     *
+     * @param fleet The snapshot the caller read, used only if none is installed any more.
+     * @return The snapshot the indexes are in step with, to look the found car IDs up in.
+     */
+    private static FleetSnapshot syncSearchIndexes(FleetSnapshot fleet) {
+        FleetSnapshot current = FLEET.get();
+        if (current == null) {
+            current = fleet;
+        }
+        if (searchIndexSource != current.getCreatedAt()) {
+            SEARCH_INDEX.clear();
+            FUZZY_INDEX.clear();
+            for (Car car : current.getCars()) {
+                putInSearchIndexes(car);
+            }
+            searchIndexSource = current.getCreatedAt();
+        }
+        return current;
+    }
+
+    /**
+     * Applies a car written by this instance to the search indexes, under their lock so that it cannot be
+     * overwritten by a reload from an older snapshot.
+     */
+    private static void indexForSearch(Car car) {
+        synchronized (SEARCH_INDEX) {
+            putInSearchIndexes(car);
+        }
+    }
+
+    private static void putInSearchIndexes(Car car) {
+        SEARCH_INDEX.put(car.getCarId(), car.getCarId(), car.getBrand(), car.getModel(), car.getColor());
+        FUZZY_INDEX.put(car.getCarId(), car.getCarId(), car.getBrand(), car.getModel(), car.getColor());
+    }
+
+    /**
+     * Moves a car from one availability to another within the caller's transaction. Only is_available
+     * and the row version are written, and only while the car still has the expected availability,
+     * so a concurrent booking of the same car updates no row.
+     *
+     * @param connection The connection of the enclosing transaction.
+     * @param carId      The ID of the car.
+     * @param expected   The availability the car must currently have.
+     * @param available  The new availability.
+     * @return true if the car's availability changed, false if it did not have the expected availability.
+     * @throws SQLException if the update fails.
+     */
+    static boolean updateAvailability(Connection connection, String carId, boolean expected, boolean available)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE Car SET is_available = ?, version = version + 1 WHERE car_id = ? AND is_available = ?")) {
+            statement.setBoolean(1, available);
+            statement.setString(2, carId);
+            statement.setBoolean(3, expected);
+            return statement.executeUpdate() > 0;
+        }
+    }
+
+    /**
+     * Brings the car cache and fleet snapshot up to date after a booking transaction that may have changed
+     * a car's availability. Callers report once the transaction has ended, so neither can pick up uncommitted state.
+     *
+     * @param carId     The ID of the car.
+     * @param committed Whether the transaction committed.
+     * @param available The availability the transaction gave the car when it committed.
+     */
+    static void availabilityChanged(String carId, boolean committed, boolean available) {
+        CACHE.invalidate(carId);
+        // A rolled-back booking usually means the car was taken elsewhere, so the snapshot cannot be trusted for it
+        patchFleet(committed ? fleet -> fleet.withAvailability(carId, available) : null);
+    }
+
+    /**
+     * Returns the fleet snapshot, reading every car from the database when there is none yet or it has outlived
+     * its maximum age. Concurrent callers share one rebuild.
+     *
+     * @return A consistent point-in-time view of the fleet.
+     */
+    public static FleetSnapshot getFleetSnapshot() {
+        FleetSnapshot snapshot = FLEET.get();
+        if (isCurrent(snapshot)) {
+            FLEET_METRICS.recordHit();
+            return snapshot;
+        }
+        synchronized (FLEET) {
+            snapshot = FLEET.get();
+            if (isCurrent(snapshot)) {
+                FLEET_METRICS.recordHit();
+                return snapshot;
+            }
+            if (snapshot != null) {
+                FLEET_METRICS.recordExpiration();
+            }
+            FLEET_METRICS.recordMiss();
+            long changesBeforeLoad = FLEET_CHANGES.get();
+            long loadStartedAt = System.nanoTime();
+            List<Car> cars = loadAllCars();
+            FLEET_METRICS.recordLoad(loadStartedAt);
+            FleetSnapshot loaded = FleetSnapshot.of(snapshot == null ? 1 : snapshot.getVersion() + 1,
+                    cars == null ? List.of() : cars);
+            // Keep a failed or raced rebuild to this caller, so the next read tries again
+            if (cars != null && FLEET_CHANGES.get() == changesBeforeLoad) {
+                FLEET.compareAndSet(snapshot, loaded);
+            } else if (cars != null) {
+                FLEET_METRICS.recordStaleRead();
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * Builds the fleet snapshot and fills the car cache and search index from it, for the startup warm-up.
+     *
+     * @return The number of cars read.
+     */
+    public static int warmUp() {
+        FleetSnapshot fleet = getFleetSnapshot();
+        CACHE.warm(fleet::getCars, Car::getCarId);
+        synchronized (SEARCH_INDEX) {
+            syncSearchIndexes(fleet);
+        }
+        return fleet.size();
+    }
+
+    /**
+     * Returns the fleet snapshot if one is loaded and current, without reading the database, for saving it to a snapshot file.
+     *
+     * @return The current fleet snapshot, or null if there is none.
+     */
+    static FleetSnapshot currentFleet() {
+        FleetSnapshot snapshot = FLEET.get();
+        return isCurrent(snapshot) ? snapshot : null;
+    }
+
+    /**
+     * Returns the number of writes applied to the fleet snapshot so far, so that {@link #restoreFleet} can tell
+     * whether a car was written in the meantime.
+     *
+     * @return The fleet write count.
+     */
+    static long fleetWriteMark() {
+        return FLEET_CHANGES.get();
+    }
+
+    /**
+     * Installs a fleet snapshot restored from a snapshot file, unless a snapshot is already loaded, the restored one
+     * has outlived its maximum age, or a car was written since the mark was taken.
+     *
+     * @param snapshot  The restored snapshot.
+     * @param writeMark The fleet write count taken before the snapshot was checked against the database.
+     * @return true if the snapshot was installed.
+     */
+    static boolean restoreFleet(FleetSnapshot snapshot, long writeMark) {
+        synchronized (FLEET) {
+            return isCurrent(snapshot) && FLEET_CHANGES.get() == writeMark && FLEET.compareAndSet(null, snapshot);
+        }
+    }
+
+    private static boolean isCurrent(FleetSnapshot snapshot) {
+        return snapshot != null && System.currentTimeMillis() - snapshot.getCreatedAt() <= FLEET_MAX_AGE;
+    }
+
+    /**
+     * Applies a write to the fleet snapshot, or drops the snapshot so that it is rebuilt when the write
+     * cannot be patched in.
+     *
+     * @param patch The change to apply, or null to drop the snapshot.
+     */
+    private static void patchFleet(UnaryOperator<FleetSnapshot> patch) {
+        FLEET_CHANGES.incrementAndGet();
+        if (patch == null) {
+            if (FLEET.getAndSet(null) != null) {
+                FLEET_METRICS.recordEvictions(1);
+            }
+        } else {
+            FLEET.updateAndGet(fleet -> fleet == null ? null : patch.apply(fleet));
+        }
+    }
+
+    /**
+     * Reads every car for a snapshot rebuild.
+     *
+     * @return The cars, or null if the query failed.
+     */
+    private static List<Car> loadAllCars() {
         List<Car> cars = new ArrayList<>();
-        String query = "SELECT * FROM Car WHERE car_id LIKE ? OR brand LIKE ? OR model LIKE ?";
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, "%" + searchTerm + "%");
-            statement.setString(2, "%" + searchTerm + "%");
-            statement.setString(3, "%" + searchTerm + "%");
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT * FROM Car")) {
+            statement.setFetchSize(DatabasePropertiesLoader.getConfiguration().getFetchSize());
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
-                    Car car = CarPopulator.populateFromResultSet(resultSet);
-                    cars.add(car);
+                    cars.add(CarPopulator.populateFromResultSet(resultSet));
                 }
             }
         } catch (SQLException e) {
             e.printStackTrace();
+            return null;
         }
         return cars;
     }
 
+    /**
+     * Get the hit, miss and eviction counters of the car cache.
+     *
+     * @return A snapshot of the car cache statistics.
+     */
+    public static EntityCacheStats getCacheStats() {
+        return CACHE.getStats();
+    }
+
+    /**
+     * Get the hit, miss and rebuild counters of the fleet snapshot; a dropped snapshot counts as an eviction.
+     *
+     * @return A snapshot of the fleet snapshot statistics.
+     */
+    public static EntityCacheStats getFleetCacheStats() {
+        FleetSnapshot snapshot = FLEET.get();
+        return FLEET_METRICS.snapshot("fleet", snapshot == null ? 0 : snapshot.size(), -1);
+    }
+
+    static EntityCache<Car> cache() {
+        return CACHE;
+    }
+
     /**
      * Updates details of a car in the database.
      *
      * @param car The car object containing the updated details.
      */
     public static void updateCar(Car car) {
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
+        try (Connection connection = ConnectionManager.getConnection();
              PreparedStatement statement = connection.prepareStatement(
                      "UPDATE Car SET brand = ?, model = ?, color = ?, no_of_passengers = ?, " +
                              "fuel_type = ?, purchase_date = ?, transmission_type = ?, is_available = ?, " +
@@ -160,8 +429,18 @@ public class CarDAO {
 
             statement.setString(19, car.getCarId());
 
-            statement.executeUpdate();
+            if (statement.executeUpdate() > 0) {
+                // Every column was written, so the cached car can be refreshed instead of reloaded
+                CACHE.put(car.getCarId(), car);
+                patchFleet(fleet -> fleet.withCar(car));
+                indexForSearch(car);
+            } else {
+                CACHE.invalidate(car.getCarId());
+                patchFleet(null);
+            }
         } catch (SQLException e) {
+            CACHE.invalidate(car.getCarId());
+            patchFleet(null);
             e.printStackTrace();
         }
     }
@@ -173,14 +452,19 @@ public class CarDAO {
      * @param carId The ID of the car to delete.
      */
     public static void deleteCar(String carId) {
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
+        try (Connection connection = ConnectionManager.getConnection();
              PreparedStatement statement = connection.prepareStatement("UPDATE Car SET is_removed = ? WHERE car_id = ?")) {
 
             statement.setBoolean(1, true);
             statement.setString(2, carId);
-            statement.executeUpdate();
+            if (statement.executeUpdate() > 0) {
+                patchFleet(fleet -> fleet.withRemoved(carId));
+            }
         } catch (SQLException e) {
+            patchFleet(null);
             e.printStackTrace();
+        } finally {
+            CACHE.invalidate(carId);
         }
     }
 
@@ -191,7 +475,7 @@ public class CarDAO {
      */
 
     public static void addNewCar(Car car) {
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
+        try (Connection connection = ConnectionManager.getConnection();
              PreparedStatement statement = connection.prepareStatement(
                      "INSERT INTO Car (brand, model, color, no_of_passengers, fuel_type, purchase_date, " +
                              "transmission_type, is_available, car_price, rental_price, is_removed, last_oil_change, " +
@@ -255,7 +539,10 @@ public class CarDAO {
                 statement.setNull(18, Types.DATE);
             }
 
+            // The new car needs no cache invalidation: lookups that find nothing are never cached.
+            // Its ID is generated by the database, so the fleet snapshot is rebuilt instead of patched.
             int rowsInserted = statement.executeUpdate();
+            patchFleet(null);
             if (rowsInserted > 0) {
                 System.out.println("Car added successfully.");
             } else {
@@ -267,107 +554,74 @@ public class CarDAO {
     }
 
     /**
-     * Retrieves a list of all car IDs from the database.
+     * Checks whether a car with the given ID exists, using a primary key lookup instead of reading every ID.
      *
-     * @return A list of all car IDs in the database.
+     * @param carId The ID to look for.
+     * @return true if a car with the ID exists, whether or not it has been removed.
      */
-    public static List<String> getAllCarIds() {
-        List<String> carIds = new ArrayList<>();
-
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             Statement statement = connection.createStatement();
-             ResultSet resultSet = statement.executeQuery("SELECT car_id FROM Car")) {
-
-            while (resultSet.next()) {
-                carIds.add(resultSet.getString("car_id"));
+    public static boolean carExists(String carId) {
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT TOP (1) 1 FROM Car WHERE car_id = ?")) {
+            statement.setString(1, carId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-
-        return carIds;
+        return false;
     }
 
     /**
-     * Retrieves a list of cars due for an oil change within the next 7 days.
+     * Retrieves the maintenance view of cars due for an oil change within the next 7 days.
      *
-     * @return A list of cars due for an oil change.
+     * @return The maintenance views of the cars due for an oil change.
      */
-    public static List<Car> getCarsDueForOilChange() {
-        List<Car> carsDueForOilChange = new ArrayList<>();
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             PreparedStatement statement = connection.prepareStatement("SELECT * FROM Car WHERE next_oil_change <= DATEADD(DAY, 7, GETDATE()) AND is_removed = 0")) {
-            ResultSet resultSet = statement.executeQuery();
-            while (resultSet.next()) {
-                Car car = CarPopulator.populateFromResultSet(resultSet); // Assuming there's a method to populate Car objects
-                carsDueForOilChange.add(car);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return carsDueForOilChange;
+    public static List<FleetMaintenanceView> getMaintenanceViewsDueForOilChange() {
+        return getMaintenanceViews("next_oil_change <= DATEADD(DAY, 7, GETDATE()) AND is_removed = 0");
     }
 
     /**
-     * Retrieves a list of cars due for a washing within the next 7 days.
+     * Retrieves the maintenance view of cars due for a washing within the next 7 days.
      *
-     * @return A list of cars due for a washing.
+     * @return The maintenance views of the cars due for a washing.
      */
-
-    public static List<Car> getCarsDueForWashing() {
-        List<Car> carsDueForWashing = new ArrayList<>();
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             PreparedStatement statement = connection.prepareStatement("SELECT * FROM Car WHERE next_washing_date <= DATEADD(DAY, 7, GETDATE()) AND is_removed = 0")) {
-            ResultSet resultSet = statement.executeQuery();
-            while (resultSet.next()) {
-                Car car = CarPopulator.populateFromResultSet(resultSet); // Assuming there's a method to populate Car objects
-                carsDueForWashing.add(car);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return carsDueForWashing;
+    public static List<FleetMaintenanceView> getMaintenanceViewsDueForWashing() {
+        return getMaintenanceViews("next_washing_date <= DATEADD(DAY, 7, GETDATE()) AND is_removed = 0");
     }
 
     /**
-     * Retrieves a list of cars due for an inspection within the next 7 days.
+     * Retrieves the maintenance view of cars due for an inspection within the next 7 days.
      *
-     * @return A list of cars due for an inspection.
+     * @return The maintenance views of the cars due for an inspection.
      */
-    public static List<Car> getCarsDueForInspection() {
-        List<Car> carsDueForInspection = new ArrayList<>();
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             PreparedStatement statement = connection.prepareStatement("SELECT * FROM Car WHERE next_inspection_date <= DATEADD(DAY, 7, GETDATE()) AND is_removed = 0")) {
-            ResultSet resultSet = statement.executeQuery();
-            while (resultSet.next()) {
-                Car car = CarPopulator.populateFromResultSet(resultSet); // Assuming there's a method to populate Car objects
-                carsDueForInspection.add(car);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-        return carsDueForInspection;
+    public static List<FleetMaintenanceView> getMaintenanceViewsDueForInspection() {
+        return getMaintenanceViews("next_inspection_date <= DATEADD(DAY, 7, GETDATE()) AND is_removed = 0");
     }
 
     /**
-     * Retrieves a list of cars that are out of service.
+     * Retrieves the maintenance view of cars that are out of service.
      *
-     * @return A list of cars that are out of service.
+     * @return The maintenance views of the cars that are out of service.
      */
-    public static List<Car> getOutOfServiceCars() {
-        List<Car> outOfServiceCars = new ArrayList<>();
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             PreparedStatement statement = connection.prepareStatement("SELECT * FROM Car WHERE car_status = 'OUTOFSERVICE' AND is_removed = 0")) {
-            ResultSet resultSet = statement.executeQuery();
+    public static List<FleetMaintenanceView> getOutOfServiceMaintenanceViews() {
+        return getMaintenanceViews("car_status = 'OUTOFSERVICE' AND is_removed = 0");
+    }
+
+    /**
+     * Reads the maintenance view of the cars matching a condition, selecting only the view's columns.
+     */
+    private static List<FleetMaintenanceView> getMaintenanceViews(String condition) {
+        List<FleetMaintenanceView> views = new ArrayList<>();
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_MAINTENANCE_VIEWS + " WHERE " + condition);
+             ResultSet resultSet = statement.executeQuery()) {
             while (resultSet.next()) {
-                Car car = CarPopulator.populateFromResultSet(resultSet); // Assuming there's a method to populate Car objects
-                outOfServiceCars.add(car);
+                views.add(FleetMaintenanceViewPopulator.populateFromResultSet(resultSet));
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return outOfServiceCars;
+        return views;
     }
-
-
 }
@@ -0,0 +1,83 @@
+package services.database;
+
+import entities.CarStatus;
+import entities.FuelType;
+import entities.TransmissionType;
+
+/**
+ * Criteria for browsing the fleet by its facets. A criterion left null matches every car;
+ * removed cars never match.
+ * Author: Aashika Vachhani
+ */
+public class CarFilter {
+    private FuelType fuelType; // Required fuel type, or null for any
+    private TransmissionType transmissionType; // Required transmission type, or null for any
+    private CarStatus carStatus; // Required car status, or null for any
+    private Integer noOfPassengers; // Required number of seats, or null for any
+    private Double maxRentalPrice; // Highest acceptable rental price, or null for any
+    private boolean availableOnly; // Whether only available cars match
+
+    public FuelType getFuelType() {
+        return fuelType;
+    }
+
+    public void setFuelType(FuelType fuelType) {
+        this.fuelType = fuelType;
+    }
+
+    public TransmissionType getTransmissionType() {
+        return transmissionType;
+    }
+
+    public void setTransmissionType(TransmissionType transmissionType) {
+        this.transmissionType = transmissionType;
+    }
+
+    public CarStatus getCarStatus() {
+        return carStatus;
+    }
+
+    public void setCarStatus(CarStatus carStatus) {
+        this.carStatus = carStatus;
+    }
+
+    public Integer getNoOfPassengers() {
+        return noOfPassengers;
+    }
+
+    public void setNoOfPassengers(Integer noOfPassengers) {
+        this.noOfPassengers = noOfPassengers;
+    }
+
+    public Double getMaxRentalPrice() {
+        return maxRentalPrice;
+    }
+
+    public void setMaxRentalPrice(Double maxRentalPrice) {
+        this.maxRentalPrice = maxRentalPrice;
+    }
+
+    public boolean isAvailableOnly() {
+        return availableOnly;
+    }
+
+    public void setAvailableOnly(boolean availableOnly) {
+        this.availableOnly = availableOnly;
+    }
+
+    /**
+     * Override toString method to provide a string representation of the filter.
+     * @return A string representation of the CarFilter object.
+     */
+    @Override
+    public String toString() {
+        return "CarFilter{" +
+                "fuelType=" + fuelType +
+                ", transmissionType=" + transmissionType +
+                ", carStatus=" + carStatus +
+                ", noOfPassengers=" + noOfPassengers +
+                ", maxRentalPrice=" + maxRentalPrice +
+                ", availableOnly=" + availableOnly +
+                '}';
+    }
+}
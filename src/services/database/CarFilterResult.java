@@ -0,0 +1,78 @@
+package services.database;
+
+import entities.Car;
+import entities.CarStatus;
+import entities.FuelType;
+import entities.TransmissionType;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Cars matching a {@link CarFilter} together with the facet counts of the fleet. Each facet is counted
+ * under every criterion except its own, so the counts tell how many cars each choice of that facet would
+ * give while the other criteria stay as they are.
+ * Author: Aashika Vachhani
+ */
+public class CarFilterResult {
+    private final List<Car> cars; // Matching cars in car ID order
+    private final Map<FuelType, Integer> fuelTypeCounts; // Cars per fuel type
+    private final Map<TransmissionType, Integer> transmissionTypeCounts; // Cars per transmission type
+    private final Map<CarStatus, Integer> carStatusCounts; // Cars per car status
+    private final SortedMap<Integer, Integer> seatCounts; // Cars per number of seats
+    private final SortedMap<Double, Integer> priceBandCounts; // Cars per rental price band, by the band's lowest price
+    private final int availableCount; // Cars that are available
+
+    /**
+     * Constructor for CarFilterResult class.
+     * @param cars The matching cars in car ID order.
+     * @param fuelTypeCounts The number of cars per fuel type.
+     * @param transmissionTypeCounts The number of cars per transmission type.
+     * @param carStatusCounts The number of cars per car status.
+     * @param seatCounts The number of cars per number of seats.
+     * @param priceBandCounts The number of cars per rental price band, keyed by the band's lowest price.
+     * @param availableCount The number of available cars.
+     */
+    public CarFilterResult(List<Car> cars, Map<FuelType, Integer> fuelTypeCounts,
+                           Map<TransmissionType, Integer> transmissionTypeCounts, Map<CarStatus, Integer> carStatusCounts,
+                           SortedMap<Integer, Integer> seatCounts, SortedMap<Double, Integer> priceBandCounts,
+                           int availableCount) {
+        this.cars = Collections.unmodifiableList(cars);
+        this.fuelTypeCounts = Collections.unmodifiableMap(fuelTypeCounts);
+        this.transmissionTypeCounts = Collections.unmodifiableMap(transmissionTypeCounts);
+        this.carStatusCounts = Collections.unmodifiableMap(carStatusCounts);
+        this.seatCounts = Collections.unmodifiableSortedMap(seatCounts);
+        this.priceBandCounts = Collections.unmodifiableSortedMap(priceBandCounts);
+        this.availableCount = availableCount;
+    }
+
+    public List<Car> getCars() {
+        return cars;
+    }
+
+    public Map<FuelType, Integer> getFuelTypeCounts() {
+        return fuelTypeCounts;
+    }
+
+    public Map<TransmissionType, Integer> getTransmissionTypeCounts() {
+        return transmissionTypeCounts;
+    }
+
+    public Map<CarStatus, Integer> getCarStatusCounts() {
+        return carStatusCounts;
+    }
+
+    public SortedMap<Integer, Integer> getSeatCounts() {
+        return seatCounts;
+    }
+
+    public SortedMap<Double, Integer> getPriceBandCounts() {
+        return priceBandCounts;
+    }
+
+    public int getAvailableCount() {
+        return availableCount;
+    }
+}
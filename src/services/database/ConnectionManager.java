@@ -0,0 +1,89 @@
+package services.database;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Provides pooled database connections to all DAOs.
+ * The pool is created on first use from the settings in the database properties file
+ * and closed when the application exits.
+ * Author: Ghazala Anjum
+ */
+public class ConnectionManager {
+    private static volatile ConnectionPool pool;
+    private static final List<Runnable> SHUTDOWN_TASKS = new CopyOnWriteArrayList<>(); // Run at exit while the pool is still open
+
+    /**
+     * Borrows a connection from the shared pool. Closing the returned connection hands it back to the pool.
+     *
+     * @return A pooled database connection.
+     * @throws SQLException if no connection could be obtained.
+     */
+    public static Connection getConnection() throws SQLException {
+        return getPool().getConnection();
+    }
+
+    /**
+     * Retrieves the current usage statistics of the shared pool.
+     *
+     * @return The pool statistics.
+     */
+    public static ConnectionPoolStats getPoolStats() {
+        return getPool().getStats();
+    }
+
+    /**
+     * Registers a task to run when the application exits, before the pool is closed, so that it can still
+     * use the database. Shutdown hooks run in no particular order, so such tasks cannot use a hook of their own.
+     *
+     * @param task The task to run.
+     */
+    public static void runBeforeShutdown(Runnable task) {
+        SHUTDOWN_TASKS.add(task);
+    }
+
+    /**
+     * Runs the registered shutdown tasks, then closes the shared pool and all of its idle connections.
+     */
+    public static synchronized void shutdown() {
+        if (pool != null) {
+            for (Runnable task : SHUTDOWN_TASKS) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+            }
+            pool.close();
+            pool = null;
+        }
+    }
+
+    /**
+     * Returns the shared pool, creating it on first use.
+     */
+    private static ConnectionPool getPool() {
+        ConnectionPool current = pool;
+        if (current == null) {
+            synchronized (ConnectionManager.class) {
+                current = pool;
+                if (current == null) {
+                    current = new ConnectionPool(DatabasePropertiesLoader.getPoolConfig(), ConnectionManager::openPhysicalConnection);
+                    Runtime.getRuntime().addShutdownHook(new Thread(ConnectionManager::shutdown, "connection-pool-shutdown"));
+                    pool = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Opens a new physical connection using the current database properties.
+     */
+    private static Connection openPhysicalConnection() throws SQLException {
+        return DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
+    }
+}
@@ -0,0 +1,351 @@
+package services.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static constants.CarRentalManagementSystemConstants.CONNECTION_POOL.HOUSEKEEPING_INTERVAL_MS;
+
+/**
+ * Bounded pool of physical JDBC connections shared by the DAO layer.
+ * Callers borrow a connection with {@link #getConnection()} and hand it back by closing it,
+ * so the usual try-with-resources blocks in the DAOs keep working unchanged.
+ * Author: Ghazala Anjum
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    /**
+     * Opens a new physical connection to the database.
+     */
+    @FunctionalInterface
+    public interface ConnectionSource {
+        Connection open() throws SQLException;
+    }
+
+    private final ConnectionPoolConfig config;
+    private final ConnectionSource source;
+    private final Semaphore permits; // One permit per connection that may be borrowed at the same time
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>(); // Most recently used first
+    private final Set<PooledConnection> borrowed = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService housekeeper;
+
+    private final AtomicLong totalBorrows = new AtomicLong();
+    private final AtomicLong totalWaitMillis = new AtomicLong();
+    private final AtomicLong maxWaitMillis = new AtomicLong();
+    private final AtomicLong borrowTimeouts = new AtomicLong();
+    private final AtomicLong connectionsCreated = new AtomicLong();
+    private final AtomicLong connectionsClosed = new AtomicLong();
+    private final AtomicLong leaksDetected = new AtomicLong();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+    private final AtomicLong statementCacheEvictions = new AtomicLong();
+
+    private volatile boolean closed;
+
+    /**
+     * Constructor for ConnectionPool class.
+     * Opens the configured minimum number of connections and starts the housekeeping thread
+     * that evicts idle connections and reports leaks.
+     * @param config The sizing and timing settings of the pool.
+     * @param source The source used to open new physical connections.
+     */
+    public ConnectionPool(ConnectionPoolConfig config, ConnectionSource source) {
+        this.config = config;
+        this.source = source;
+        this.permits = new Semaphore(config.getMaxSize(), true);
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.housekeeper.scheduleWithFixedDelay(this::housekeep, HOUSEKEEPING_INTERVAL_MS, HOUSEKEEPING_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        fillToMinimum();
+    }
+
+    /**
+     * Borrows a connection from the pool, opening a new one if no idle connection is available
+     * and the pool has not reached its maximum size.
+     *
+     * @return A logical connection; closing it returns the underlying connection to the pool.
+     * @throws SQLException if the pool is closed, the borrow times out or a connection cannot be opened.
+     */
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed.");
+        }
+
+        long waitStart = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(config.getBorrowTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                borrowTimeouts.incrementAndGet();
+                throw new SQLTimeoutException("Timed out after " + config.getBorrowTimeoutMillis()
+                        + " ms waiting for a database connection (" + getStats() + ").");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection.", e);
+        }
+
+        try {
+            PooledConnection pooled = takeValidIdleConnection();
+            if (pooled == null) {
+                pooled = openConnection();
+            }
+            recordWait(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - waitStart));
+            pooled.markBorrowed(config.getLeakDetectionThresholdMillis() > 0);
+            borrowed.add(pooled);
+            return pooled.newHandle();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the current pool usage.
+     *
+     * @return The pool statistics.
+     */
+    public ConnectionPoolStats getStats() {
+        return new ConnectionPoolStats(borrowed.size(), idle.size(), permits.getQueueLength(), totalBorrows.get(),
+                totalWaitMillis.get(), maxWaitMillis.get(), borrowTimeouts.get(), connectionsCreated.get(),
+                connectionsClosed.get(), leaksDetected.get(), statementCacheHits.get(), statementCacheMisses.get(),
+                statementCacheEvictions.get());
+    }
+
+    /**
+     * Returns the settings this pool was created with.
+     *
+     * @return The pool configuration.
+     */
+    public ConnectionPoolConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Closes all idle connections and stops the housekeeping thread.
+     * Borrowed connections are closed as they are handed back.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            closeQuietly(pooled);
+        }
+    }
+
+    /**
+     * Takes the most recently used idle connection, validating it first if it has been idle
+     * longer than the validation interval. Invalid connections are discarded.
+     */
+    private PooledConnection takeValidIdleConnection() {
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            long idleMillis = System.currentTimeMillis() - pooled.lastReturnedAt;
+            if (idleMillis < config.getValidationIntervalMillis() || isValid(pooled)) {
+                return pooled;
+            }
+            closeQuietly(pooled);
+        }
+        return null;
+    }
+
+    private boolean isValid(PooledConnection pooled) {
+        try {
+            return pooled.physical.isValid(config.getValidationTimeoutSeconds());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private PooledConnection openConnection() throws SQLException {
+        PooledConnection pooled = new PooledConnection(source.open());
+        connectionsCreated.incrementAndGet();
+        return pooled;
+    }
+
+    private void recordWait(long waitMillis) {
+        totalBorrows.incrementAndGet();
+        totalWaitMillis.addAndGet(waitMillis);
+        maxWaitMillis.accumulateAndGet(waitMillis, Math::max);
+    }
+
+    /**
+     * Hands a connection back to the pool after its logical handle has been closed.
+     * Connections left in a transaction are rolled back; broken connections are discarded.
+     */
+    private void release(PooledConnection pooled) {
+        borrowed.remove(pooled);
+        try {
+            if (closed || pooled.physical.isClosed()) {
+                closeQuietly(pooled);
+                return;
+            }
+            if (pooled.statementCache != null) {
+                pooled.statementCache.releaseAll();
+            }
+            if (!pooled.physical.getAutoCommit()) {
+                pooled.physical.rollback();
+                pooled.physical.setAutoCommit(true);
+            }
+            pooled.lastReturnedAt = System.currentTimeMillis();
+            idle.offerFirst(pooled);
+        } catch (SQLException e) {
+            closeQuietly(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Evicts connections idle longer than the idle timeout (keeping the minimum size),
+     * tops the pool back up to its minimum size and reports connections held past the leak threshold.
+     */
+    private void housekeep() {
+        long now = System.currentTimeMillis();
+
+        Iterator<PooledConnection> oldestFirst = idle.descendingIterator();
+        while (oldestFirst.hasNext() && idle.size() + borrowed.size() > config.getMinSize()) {
+            PooledConnection pooled = oldestFirst.next();
+            if (now - pooled.lastReturnedAt > config.getIdleTimeoutMillis() && idle.remove(pooled)) {
+                closeQuietly(pooled);
+            }
+        }
+
+        fillToMinimum();
+
+        long leakThreshold = config.getLeakDetectionThresholdMillis();
+        if (leakThreshold > 0) {
+            for (PooledConnection pooled : borrowed) {
+                if (!pooled.leakReported && now - pooled.borrowedAt > leakThreshold) {
+                    pooled.leakReported = true;
+                    leaksDetected.incrementAndGet();
+                    System.err.println("Possible connection leak: connection borrowed " + (now - pooled.borrowedAt)
+                            + " ms ago has not been returned to the pool.");
+                    if (pooled.borrowSite != null) {
+                        pooled.borrowSite.printStackTrace();
+                    }
+                }
+            }
+        }
+    }
+
+    private void fillToMinimum() {
+        while (!closed && idle.size() + borrowed.size() < config.getMinSize()) {
+            try {
+                PooledConnection pooled = openConnection();
+                pooled.lastReturnedAt = System.currentTimeMillis();
+                idle.offerLast(pooled);
+            } catch (SQLException e) {
+                e.printStackTrace();
+                return;
+            }
+        }
+    }
+
+    private void closeQuietly(PooledConnection pooled) {
+        if (pooled.statementCache != null) {
+            pooled.statementCache.close();
+        }
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            // The connection is being discarded anyway
+        }
+        connectionsClosed.incrementAndGet();
+    }
+
+    /**
+     * A physical connection owned by the pool, together with its bookkeeping.
+     */
+    private final class PooledConnection {
+        private final Connection physical;
+        private final StatementCache statementCache; // Null when statement caching is disabled
+        private volatile long lastReturnedAt;
+        private volatile long borrowedAt;
+        private volatile boolean leakReported;
+        private volatile Throwable borrowSite; // Captured only when leak detection is enabled
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.statementCache = config.getStatementCacheSize() > 0
+                    ? new StatementCache(physical, config.getStatementCacheSize(), statementCacheHits, statementCacheMisses, statementCacheEvictions)
+                    : null;
+        }
+
+        private void markBorrowed(boolean captureBorrowSite) {
+            borrowedAt = System.currentTimeMillis();
+            leakReported = false;
+            borrowSite = captureBorrowSite ? new Throwable("Connection borrowed here") : null;
+        }
+
+        /**
+         * Creates the logical connection handed to callers. Every call is forwarded to the physical
+         * connection except close(), which returns the connection to the pool exactly once, and
+         * prepareStatement(sql) / prepareStatement(sql, autoGeneratedKeys), which go through the statement cache.
+         */
+        private Connection newHandle() {
+            InvocationHandler handler = new InvocationHandler() {
+                private boolean handleClosed;
+
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    switch (method.getName()) {
+                        case "close":
+                            if (!handleClosed) {
+                                handleClosed = true;
+                                release(PooledConnection.this);
+                            }
+                            return null;
+                        case "isClosed":
+                            return handleClosed || physical.isClosed();
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "PooledConnection[" + physical + "]";
+                        default:
+                            if (handleClosed) {
+                                throw new SQLException("Connection has already been returned to the pool.");
+                            }
+                            if (statementCache != null && isCacheablePrepare(method)) {
+                                int autoGeneratedKeys = args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+                                return statementCache.prepare((String) args[0], autoGeneratedKeys, (Connection) proxy);
+                            }
+                            try {
+                                return method.invoke(physical, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                    }
+                }
+            };
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+        }
+
+        private boolean isCacheablePrepare(Method method) {
+            if (!method.getName().equals("prepareStatement")) {
+                return false;
+            }
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            return parameterTypes.length == 1 || (parameterTypes.length == 2 && parameterTypes[1] == int.class);
+        }
+    }
+}
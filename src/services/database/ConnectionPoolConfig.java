@@ -0,0 +1,96 @@
+package services.database;
+
+/**
+ * Immutable sizing and timing settings for the database connection pool.
+ * Author: Ghazala Anjum
+ */
+public class ConnectionPoolConfig {
+    private final int minSize; // Number of connections kept open even when idle
+    private final int maxSize; // Upper bound on open connections
+    private final long idleTimeoutMillis; // Idle time after which surplus connections are closed
+    private final long borrowTimeoutMillis; // Maximum time a caller waits for a free connection
+    private final long validationIntervalMillis; // Idle time after which a connection is validated before reuse
+    private final int validationTimeoutSeconds; // Timeout passed to Connection.isValid
+    private final long leakDetectionThresholdMillis; // Borrow duration after which a leak is reported (0 disables)
+    private final int statementCacheSize; // Prepared statements cached per connection (0 disables)
+
+    /**
+     * Constructor for ConnectionPoolConfig class.
+     * @param minSize The number of connections kept open even when idle.
+     * @param maxSize The maximum number of open connections.
+     * @param idleTimeoutMillis The idle time after which surplus connections are closed.
+     * @param borrowTimeoutMillis The maximum time a caller waits for a free connection.
+     * @param validationIntervalMillis The idle time after which a connection is validated before reuse.
+     * @param validationTimeoutSeconds The timeout used when validating a connection.
+     * @param leakDetectionThresholdMillis The borrow duration after which a leak is reported, or 0 to disable.
+     * @param statementCacheSize The number of prepared statements cached per connection, or 0 to disable.
+     */
+    public ConnectionPoolConfig(int minSize, int maxSize, long idleTimeoutMillis, long borrowTimeoutMillis,
+                                long validationIntervalMillis, int validationTimeoutSeconds, long leakDetectionThresholdMillis,
+                                int statementCacheSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool max size must be at least 1.");
+        }
+        if (minSize < 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Pool min size must be between 0 and max size.");
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.validationIntervalMillis = validationIntervalMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+        this.statementCacheSize = Math.max(0, statementCacheSize);
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public long getBorrowTimeoutMillis() {
+        return borrowTimeoutMillis;
+    }
+
+    public long getValidationIntervalMillis() {
+        return validationIntervalMillis;
+    }
+
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+
+    public long getLeakDetectionThresholdMillis() {
+        return leakDetectionThresholdMillis;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    /**
+     * Override toString method to provide a string representation of the pool settings.
+     * @return A string representation of the ConnectionPoolConfig object.
+     */
+    @Override
+    public String toString() {
+        return "ConnectionPoolConfig{" +
+                "minSize=" + minSize +
+                ", maxSize=" + maxSize +
+                ", idleTimeoutMillis=" + idleTimeoutMillis +
+                ", borrowTimeoutMillis=" + borrowTimeoutMillis +
+                ", validationIntervalMillis=" + validationIntervalMillis +
+                ", validationTimeoutSeconds=" + validationTimeoutSeconds +
+                ", leakDetectionThresholdMillis=" + leakDetectionThresholdMillis +
+                ", statementCacheSize=" + statementCacheSize +
+                '}';
+    }
+}
@@ -0,0 +1,148 @@
+package services.database;
+
+/**
+ * Point-in-time snapshot of connection pool usage, used to size the pool under real load.
+ * Author: Ghazala Anjum
+ */
+public class ConnectionPoolStats {
+    private final int activeConnections; // Connections currently borrowed
+    private final int idleConnections; // Open connections waiting in the pool
+    private final int waitingThreads; // Callers blocked waiting for a connection
+    private final long totalBorrows; // Successful borrows since the pool started
+    private final long totalWaitMillis; // Accumulated time callers spent waiting to borrow
+    private final long maxWaitMillis; // Longest single wait to borrow
+    private final long borrowTimeouts; // Borrows that gave up after the borrow timeout
+    private final long connectionsCreated; // Physical connections opened
+    private final long connectionsClosed; // Physical connections closed (evicted, invalid or on shutdown)
+    private final long leaksDetected; // Borrows held longer than the leak detection threshold
+    private final long statementCacheHits; // Prepared statements reused from a connection's statement cache
+    private final long statementCacheMisses; // Prepared statements that had to be prepared on the server
+    private final long statementCacheEvictions; // Cached statements closed to make room for newer ones
+
+    /**
+     * Constructor for ConnectionPoolStats class.
+     * @param activeConnections The number of connections currently borrowed.
+     * @param idleConnections The number of open connections waiting in the pool.
+     * @param waitingThreads The number of callers blocked waiting for a connection.
+     * @param totalBorrows The number of successful borrows since the pool started.
+     * @param totalWaitMillis The accumulated time callers spent waiting to borrow.
+     * @param maxWaitMillis The longest single wait to borrow.
+     * @param borrowTimeouts The number of borrows that timed out.
+     * @param connectionsCreated The number of physical connections opened.
+     * @param connectionsClosed The number of physical connections closed.
+     * @param leaksDetected The number of borrows reported as possible leaks.
+     * @param statementCacheHits The number of prepared statements reused from a statement cache.
+     * @param statementCacheMisses The number of prepared statements prepared on the server.
+     * @param statementCacheEvictions The number of cached statements evicted.
+     */
+    public ConnectionPoolStats(int activeConnections, int idleConnections, int waitingThreads, long totalBorrows,
+                               long totalWaitMillis, long maxWaitMillis, long borrowTimeouts, long connectionsCreated,
+                               long connectionsClosed, long leaksDetected, long statementCacheHits,
+                               long statementCacheMisses, long statementCacheEvictions) {
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.waitingThreads = waitingThreads;
+        this.totalBorrows = totalBorrows;
+        this.totalWaitMillis = totalWaitMillis;
+        this.maxWaitMillis = maxWaitMillis;
+        this.borrowTimeouts = borrowTimeouts;
+        this.connectionsCreated = connectionsCreated;
+        this.connectionsClosed = connectionsClosed;
+        this.leaksDetected = leaksDetected;
+        this.statementCacheHits = statementCacheHits;
+        this.statementCacheMisses = statementCacheMisses;
+        this.statementCacheEvictions = statementCacheEvictions;
+    }
+
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    public int getWaitingThreads() {
+        return waitingThreads;
+    }
+
+    public long getTotalBorrows() {
+        return totalBorrows;
+    }
+
+    public long getTotalWaitMillis() {
+        return totalWaitMillis;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    public long getBorrowTimeouts() {
+        return borrowTimeouts;
+    }
+
+    public long getConnectionsCreated() {
+        return connectionsCreated;
+    }
+
+    public long getConnectionsClosed() {
+        return connectionsClosed;
+    }
+
+    public long getLeaksDetected() {
+        return leaksDetected;
+    }
+
+    public long getStatementCacheHits() {
+        return statementCacheHits;
+    }
+
+    public long getStatementCacheMisses() {
+        return statementCacheMisses;
+    }
+
+    public long getStatementCacheEvictions() {
+        return statementCacheEvictions;
+    }
+
+    /**
+     * Get the fraction of prepared statements served from a statement cache.
+     * @return The hit ratio between 0 and 1, or 0 if no statement has been prepared yet.
+     */
+    public double getStatementCacheHitRatio() {
+        long total = statementCacheHits + statementCacheMisses;
+        return total == 0 ? 0.0 : (double) statementCacheHits / total;
+    }
+
+    /**
+     * Get the average time a borrow waited for a connection.
+     * @return The average wait in milliseconds, or 0 if nothing has been borrowed yet.
+     */
+    public double getAverageWaitMillis() {
+        return totalBorrows == 0 ? 0.0 : (double) totalWaitMillis / totalBorrows;
+    }
+
+    /**
+     * Override toString method to provide a string representation of the pool statistics.
+     * @return A string representation of the ConnectionPoolStats object.
+     */
+    @Override
+    public String toString() {
+        return "ConnectionPoolStats{" +
+                "active=" + activeConnections +
+                ", idle=" + idleConnections +
+                ", waiters=" + waitingThreads +
+                ", borrows=" + totalBorrows +
+                ", avgWaitMillis=" + String.format("%.2f", getAverageWaitMillis()) +
+                ", maxWaitMillis=" + maxWaitMillis +
+                ", timeouts=" + borrowTimeouts +
+                ", created=" + connectionsCreated +
+                ", closed=" + connectionsClosed +
+                ", leaks=" + leaksDetected +
+                ", statementCacheHits=" + statementCacheHits +
+                ", statementCacheMisses=" + statementCacheMisses +
+                ", statementCacheEvictions=" + statementCacheEvictions +
+                '}';
+    }
+}
@@ -5,15 +5,45 @@ import entities.Customer;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import populators.CustomerPopulator;
+import services.index.CustomerUniquenessIndex;
+import services.index.FuzzyIndex;
+import services.index.TrigramIndex;
+
+import static constants.CarRentalManagementSystemConstants.ENTITY_CACHE.*;
+import static constants.CarRentalManagementSystemConstants.SEARCH.*;
 
 /**
  * Data access object for managing customer-related operations in the database.
  * Author: Amisha Nakrani
  */
 public class CustomerDAO {
+    // Read-through cache in front of getCustomerById; login verifies a customer and then loads it again
+    private static final EntityCache<Customer> CACHE = new EntityCache<>("customers",
+            DatabasePropertiesLoader.getConfiguration().getInt(CUSTOMER_MAX_SIZE, DEFAULT_CUSTOMER_MAX_SIZE),
+            DatabasePropertiesLoader.getConfiguration().getLong(CUSTOMER_TTL_MS, DEFAULT_CUSTOMER_TTL_MS),
+            Customer::new);
+
+    // Emails and contact numbers of active customers, loaded on the first duplicate check
+    private static final CustomerUniquenessIndex UNIQUENESS_INDEX = new CustomerUniquenessIndex();
+    private static volatile boolean uniquenessIndexLoaded;
+
+    // Customer IDs, emails and contact numbers of every customer, loaded on the first search
+    private static final TrigramIndex SEARCH_INDEX = new TrigramIndex();
+    private static volatile boolean searchIndexLoaded;
+    private static final int SEARCH_FETCH_BATCH = 500; // Matching customers read per query, well below SQL Server's parameter limit
+
+    // Typo-tolerant index over the same fields behind searchCustomerApproximate, loaded and updated with SEARCH_INDEX
+    private static final FuzzyIndex FUZZY_INDEX = new FuzzyIndex(DatabasePropertiesLoader.getConfiguration()
+            .getInt(APPROXIMATE_VISIT_BUDGET, DEFAULT_APPROXIMATE_VISIT_BUDGET));
+    private static final int APPROXIMATE_LIMIT = DatabasePropertiesLoader.getConfiguration()
+            .getInt(APPROXIMATE_RESULT_LIMIT, DEFAULT_APPROXIMATE_RESULT_LIMIT);
 
     /**
      * Adds a new customer to the database.
@@ -21,8 +51,11 @@ public class CustomerDAO {
      * @param customer The customer object to be added.
      */
     public static void addCustomer(Customer customer) {
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             PreparedStatement statement = connection.prepareStatement("INSERT INTO Customer (first_name, last_name, address, email, contact_no, is_removed, password) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+        // The ID comes from the column default, so it is read back for the search index
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "INSERT INTO Customer (first_name, last_name, address, email, contact_no, is_removed, password) " +
+                     "OUTPUT INSERTED.customer_id VALUES (?, ?, ?, ?, ?, ?, ?)")) {
             statement.setString(1, customer.getFirstName());
             statement.setString(2, customer.getLastName());
             statement.setString(3, customer.getAddress());
@@ -30,7 +63,13 @@ public class CustomerDAO {
             statement.setLong(5, customer.getContactNo());
             statement.setBoolean(6, false); // Initially not removed
             statement.setString(7, customer.getPassword());
-            statement.executeUpdate();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    String customerId = resultSet.getString("customer_id");
+                    updateSearchIndex(() -> indexForSearch(customerId, customer.getEmail(), customer.getContactNo()));
+                }
+            }
+            updateUniquenessIndex(index -> index.add(customer.getEmail(), customer.getContactNo()));
             System.out.println("Customer added successfully.");
         } catch (SQLException e) {
             e.printStackTrace();
@@ -44,18 +83,22 @@ public class CustomerDAO {
      */
 
     public static void removeCustomer(String customerId) {
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
+        Customer previous = uniquenessIndexLoaded ? getCustomerById(customerId) : null;
+        try (Connection connection = ConnectionManager.getConnection();
              PreparedStatement statement = connection.prepareStatement("UPDATE Customer SET is_removed = ? WHERE customer_id = ?")) {
             statement.setBoolean(1, true);
             statement.setString(2, customerId);
             int rowsUpdated = statement.executeUpdate();
             if (rowsUpdated > 0) {
+                updateUniquenessIndex(index -> index.remove(previous));
                 System.out.println("Customer removed successfully.");
             } else {
                 System.out.println("No customer found with the given ID.");
             }
         } catch (SQLException e) {
             e.printStackTrace();
+        } finally {
+            CACHE.invalidate(customerId);
         }
     }
 
@@ -66,7 +109,8 @@ public class CustomerDAO {
      * @param customer The updated customer object.
      */
     public static void editCustomer(Customer customer) {
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
+        Customer previous = uniquenessIndexLoaded ? getCustomerById(customer.getCustomerId()) : null;
+        try (Connection connection = ConnectionManager.getConnection();
              PreparedStatement statement = connection.prepareStatement("UPDATE Customer SET first_name = ?, last_name = ?, address = ?, email = ?, contact_no = ?, is_removed = ?, password = ? WHERE customer_id = ?")) {
             statement.setString(1, customer.getFirstName()); // Added attribute
             statement.setString(2, customer.getLastName()); // Added attribute
@@ -78,11 +122,17 @@ public class CustomerDAO {
             statement.setString(8, customer.getCustomerId());
             int rowsUpdated = statement.executeUpdate();
             if (rowsUpdated > 0) {
+                // Keep the cached customer in step with the row just written
+                CACHE.put(customer.getCustomerId(), customer);
+                updateUniquenessIndex(index -> index.replace(previous, customer));
+                updateSearchIndex(() -> indexForSearch(customer.getCustomerId(), customer.getEmail(), customer.getContactNo()));
                 System.out.println("Customer information updated successfully.");
             } else {
+                CACHE.invalidate(customer.getCustomerId());
                 System.out.println("No customer found with the given ID.");
             }
         } catch (SQLException e) {
+            CACHE.invalidate(customer.getCustomerId());
             e.printStackTrace();
         }
     }
@@ -94,14 +144,20 @@ public class CustomerDAO {
      * @return The customer object retrieved from the database.
      */
     public static Customer getCustomerById(String customerId) {
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
+        return CACHE.get(customerId, CustomerDAO::loadCustomerById);
+    }
+
+    /**
+     * Reads a customer from the database, bypassing the cache. A missing customer is returned as null
+     * without any console output, since the read may run on a background thread; interactive callers report it.
+     */
+    private static Customer loadCustomerById(String customerId) {
+        try (Connection connection = ConnectionManager.getConnection();
              PreparedStatement statement = connection.prepareStatement("SELECT * FROM Customer WHERE customer_id = ?")) {
             statement.setString(1, customerId);
             try (ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
                     return CustomerPopulator.populateFromResultSet(resultSet);
-                } else {
-                    System.out.println("No customer found with the given ID.");
                 }
             }
         } catch (SQLException e) {
@@ -111,106 +167,266 @@ public class CustomerDAO {
     }
 
     /**
-     * Searches for customers in the database based on a keyword.
+     * Searches for customers based on a keyword. The matching customer IDs come from the in-memory trigram
+     * index instead of LIKE scans, one of them on the converted contact number column; only the matching
+     * rows are then read, by primary key.
      *
      * @param keyword The keyword to search for in customer IDs, emails, and contact numbers.
-     * @return A list of customers matching the search criteria.
+     * @return A list of customers matching the search criteria, exact matches first, then prefixes, then other substrings.
      */
     public static List<Customer> searchCustomer(String keyword) {
-        List<Customer> customers = new ArrayList<>();
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             PreparedStatement statement = connection.prepareStatement("SELECT * FROM Customer WHERE customer_id LIKE ? OR email LIKE ? OR contact_no LIKE ?")) {
-            statement.setString(1, "%" + keyword + "%");
-            statement.setString(2, "%" + keyword + "%");
-            statement.setString(3, "%" + keyword + "%");
+        return customersOf(searchIndex().search(keyword == null ? "" : keyword.trim()));
+    }
+
+    /**
+     * Searches for customers with an ID, email or contact number close to the keyword, for when the exact
+     * search finds nothing because of a typo. Each word of the keyword may be one edit off, or two for words
+     * longer than five characters.
+     *
+     * @param keyword The possibly mistyped customer ID, email or contact number.
+     * @return The closest matching customers, closest first, at most the configured number of them.
+     */
+    public static List<Customer> searchCustomerApproximate(String keyword) {
+        searchIndex();
+        return customersOf(FUZZY_INDEX.search(keyword, APPROXIMATE_LIMIT));
+    }
+
+    /**
+     * Reads the customers with the given IDs in batches, keeping the order of the IDs.
+     */
+    private static List<Customer> customersOf(List<String> customerIds) {
+        List<Customer> customers = new ArrayList<>(customerIds.size());
+        for (int from = 0; from < customerIds.size(); from += SEARCH_FETCH_BATCH) {
+            List<String> batch = customerIds.subList(from, Math.min(customerIds.size(), from + SEARCH_FETCH_BATCH));
+            Map<String, Customer> found = getCustomersByIds(batch);
+            if (found == null) {
+                break;
+            }
+            for (String customerId : batch) {
+                Customer customer = found.get(customerId);
+                if (customer != null) {
+                    customers.add(customer);
+                }
+            }
+        }
+        return customers;
+    }
+
+    /**
+     * Reads the customers with the given IDs in one query.
+     *
+     * @return The customers by customer ID, or null if the query failed.
+     */
+    private static Map<String, Customer> getCustomersByIds(List<String> customerIds) {
+        Map<String, Customer> customers = new HashMap<>();
+        String placeholders = String.join(", ", Collections.nCopies(customerIds.size(), "?"));
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT * FROM Customer WHERE customer_id IN (" + placeholders + ")")) {
+            for (int i = 0; i < customerIds.size(); i++) {
+                statement.setString(i + 1, customerIds.get(i));
+            }
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
-                    customers.add(CustomerPopulator.populateFromResultSet(resultSet));
+                    Customer customer = CustomerPopulator.populateFromResultSet(resultSet);
+                    customers.put(customer.getCustomerId(), customer);
                 }
             }
         } catch (SQLException e) {
             e.printStackTrace();
+            return null;
         }
         return customers;
     }
 
     /**
-     * Retrieves all customers from the database.
+     * Checks whether a customer with the given ID exists, using a primary key lookup instead of reading every ID.
      *
-     * @return A list of all customers stored in the database.
+     * @param customerId The ID to look for.
+     * @return true if a customer with the ID exists, whether or not it has been removed.
      */
-    public static List<Customer> getAllCustomers() {
-        List<Customer> customers = new ArrayList<>();
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             Statement statement = connection.createStatement();
-             ResultSet resultSet = statement.executeQuery("SELECT * FROM Customer")) {
-            while (resultSet.next()) {
-                customers.add(CustomerPopulator.populateFromResultSet(resultSet));
+    public static boolean customerExists(String customerId) {
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT TOP (1) 1 FROM Customer WHERE customer_id = ?")) {
+            statement.setString(1, customerId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return customers;
+        return false;
     }
 
     /**
-     * Retrieves all customer IDs from the database.
+     * Checks whether an email is already held by another active customer, using the uniqueness index.
      *
-     * @return A list of all customer IDs stored in the database.
+     * @param email      The email to check.
+     * @param customerId The customer being edited, whose own email does not count, or null for a new customer.
+     * @return true if the email would duplicate another customer's.
      */
+    public static boolean isEmailInUse(String email, String customerId) {
+        return uniquenessIndex().containsEmail(email)
+                && !CustomerUniquenessIndex.holdsEmail(customerId == null ? null : getCustomerById(customerId), email);
+    }
 
-    public static List<String> getAllCustomerIds() {
-        List<String> customerIds = new ArrayList<>();
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             Statement statement = connection.createStatement();
-             ResultSet resultSet = statement.executeQuery("SELECT customer_id FROM Customer")) {
-            while (resultSet.next()) {
-                customerIds.add(resultSet.getString("customer_id"));
+    /**
+     * Checks whether a contact number is already held by another active customer, using the uniqueness index.
+     *
+     * @param contactNo  The contact number to check.
+     * @param customerId The customer being edited, whose own number does not count, or null for a new customer.
+     * @return true if the contact number would duplicate another customer's.
+     */
+    public static boolean isContactNoInUse(long contactNo, String customerId) {
+        return uniquenessIndex().containsContactNo(contactNo)
+                && !CustomerUniquenessIndex.holdsContactNo(customerId == null ? null : getCustomerById(customerId), contactNo);
+    }
+
+    /**
+     * Fills the customer cache with the active customers and loads the uniqueness and search indexes, for the startup warm-up.
+     *
+     * @return The number of active customers read.
+     */
+    public static int warmUp() {
+        List<Customer> customers = new ArrayList<>();
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT * FROM Customer WHERE is_removed = 0")) {
+            statement.setFetchSize(DatabasePropertiesLoader.getConfiguration().getFetchSize());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    customers.add(CustomerPopulator.populateFromResultSet(resultSet));
+                }
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return customerIds;
+        CACHE.warm(() -> customers, Customer::getCustomerId);
+        uniquenessIndex();
+        searchIndex();
+        return customers.size();
     }
 
     /**
-     * Retrieves all customer emails from the database.
-     *
-     * @return A list of all customer emails stored in the database.
-     */
-    public static List<String> getAllCustomerEmails() {
-        List<String> emails = new ArrayList<>();
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             Statement statement = connection.createStatement();
-             ResultSet resultSet = statement.executeQuery("SELECT email FROM Customer")) {
-            while (resultSet.next()) {
-                emails.add(resultSet.getString("email"));
+     * Returns the uniqueness index, streaming the emails and contact numbers of active customers into it on first use.
+     */
+    private static CustomerUniquenessIndex uniquenessIndex() {
+        if (!uniquenessIndexLoaded) {
+            synchronized (UNIQUENESS_INDEX) {
+                if (!uniquenessIndexLoaded) {
+                    try (Connection connection = ConnectionManager.getConnection();
+                         PreparedStatement statement = connection.prepareStatement(
+                                 "SELECT email, contact_no FROM Customer WHERE is_removed = 0")) {
+                        statement.setFetchSize(DatabasePropertiesLoader.getConfiguration().getFetchSize());
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                UNIQUENESS_INDEX.add(resultSet.getString("email"), resultSet.getLong("contact_no"));
+                            }
+                        }
+                        uniquenessIndexLoaded = true;
+                    } catch (SQLException e) {
+                        UNIQUENESS_INDEX.clear();
+                        e.printStackTrace();
+                    }
+                }
+            }
+        }
+        return UNIQUENESS_INDEX;
+    }
+
+    /**
+     * Applies a write to the uniqueness index once it has been loaded. Before that the write needs no
+     * tracking, since loading reads the committed rows. Holding the index lock means a write that lands
+     * while the index is loading is applied after the load instead of being lost.
+     */
+    private static void updateUniquenessIndex(Consumer<CustomerUniquenessIndex> change) {
+        synchronized (UNIQUENESS_INDEX) {
+            if (uniquenessIndexLoaded) {
+                change.accept(UNIQUENESS_INDEX);
+            }
+        }
+    }
+
+    /**
+     * Returns the search index, streaming the customer ID, email and contact number of every customer into it and
+     * the fuzzy index on first use. Removed customers are kept, as the search has always listed them.
+     */
+    private static TrigramIndex searchIndex() {
+        if (!searchIndexLoaded) {
+            synchronized (SEARCH_INDEX) {
+                if (!searchIndexLoaded) {
+                    try (Connection connection = ConnectionManager.getConnection();
+                         PreparedStatement statement = connection.prepareStatement(
+                                 "SELECT customer_id, email, contact_no FROM Customer")) {
+                        statement.setFetchSize(DatabasePropertiesLoader.getConfiguration().getFetchSize());
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                indexForSearch(resultSet.getString("customer_id"), resultSet.getString("email"),
+                                        resultSet.getLong("contact_no"));
+                            }
+                        }
+                        searchIndexLoaded = true;
+                    } catch (SQLException e) {
+                        SEARCH_INDEX.clear();
+                        FUZZY_INDEX.clear();
+                        e.printStackTrace();
+                    }
+                }
+            }
+        }
+        return SEARCH_INDEX;
+    }
+
+    /**
+     * Applies a write to the search indexes once they have been loaded, under the same rule as the uniqueness index.
+     */
+    private static void updateSearchIndex(Runnable change) {
+        synchronized (SEARCH_INDEX) {
+            if (searchIndexLoaded) {
+                change.run();
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
         }
-        return emails;
+    }
+
+    private static void indexForSearch(String customerId, String email, long contactNo) {
+        String normalizedEmail = CustomerUniquenessIndex.normalizeEmail(email);
+        SEARCH_INDEX.put(customerId, customerId, normalizedEmail, Long.toString(contactNo));
+        FUZZY_INDEX.put(customerId, customerId, normalizedEmail, Long.toString(contactNo));
     }
 
     /**
-     * Retrieves all customer contact numbers from the database.
+     * Retrieves one page of customers ordered by customer ID, starting after the given customer ID.
+     * The page seeks on the primary key instead of skipping rows, so every page costs the same however deep it is.
      *
-     * @return A list of all customer contact numbers stored in the database.
-     */
-    public static List<Long> getAllCustomerContactNumbers() {
-        List<Long> contactNumbers = new ArrayList<>();
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             Statement statement = connection.createStatement();
-             ResultSet resultSet = statement.executeQuery("SELECT contact_no FROM Customer")) {
-            while (resultSet.next()) {
-                contactNumbers.add(resultSet.getLong("contact_no"));
+     * @param afterCustomerId The last customer ID of the previous page, or null for the first page.
+     * @param pageSize        The maximum number of customers on the page.
+     * @return The page of customers.
+     */
+    public static Page<Customer> getCustomersPage(String afterCustomerId, int pageSize) {
+        List<Customer> customers = new ArrayList<>();
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT TOP (?) * FROM Customer WHERE customer_id > ? ORDER BY customer_id")) {
+            statement.setInt(1, pageSize + 1);
+            statement.setString(2, afterCustomerId == null ? "" : afterCustomerId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    customers.add(CustomerPopulator.populateFromResultSet(resultSet));
+                }
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return contactNumbers;
+        return Page.of(customers, pageSize, Customer::getCustomerId);
     }
 
-}
-
+    /**
+     * Get the hit, miss and eviction counters of the customer cache.
+     *
+     * @return A snapshot of the customer cache statistics.
+     */
+    public static EntityCacheStats getCacheStats() {
+        return CACHE.getStats();
+    }
 
+    static EntityCache<Customer> cache() {
+        return CACHE;
+    }
+}
@@ -0,0 +1,231 @@
+package services.database;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static constants.CarRentalManagementSystemConstants.CONNECTION_POOL.*;
+import static constants.CarRentalManagementSystemConstants.DATABASE.*;
+
+/**
+ * Immutable snapshot of the database settings, resolved once from the properties file,
+ * system properties and environment variables.
+ * Author: Ghazala Anjum
+ */
+public final class DatabaseConfiguration {
+    private final Map<String, String> values; // Resolved setting values keyed by property name
+    private final Map<String, String> environment; // DB_* environment variables for settings absent from the file
+    private final String jdbcUrl; // JDBC URL derived from the settings
+    private final ConnectionPoolConfig poolConfig; // Pool settings derived from the settings
+
+    /**
+     * Constructor for DatabaseConfiguration class.
+     * @param values      The resolved settings keyed by property name.
+     * @param environment The DB_* environment variables captured when the configuration was resolved.
+     */
+    private DatabaseConfiguration(Map<String, String> values, Map<String, String> environment) {
+        this.values = Collections.unmodifiableMap(new HashMap<>(values));
+        this.environment = Collections.unmodifiableMap(new HashMap<>(environment));
+        this.jdbcUrl = buildJdbcUrl();
+        this.poolConfig = buildPoolConfig();
+    }
+
+    /**
+     * Resolves a configuration from the given file properties. For every setting, a JVM system property
+     * with the same name takes precedence, followed by an environment variable named after the setting in
+     * upper case with dots replaced by underscores (for example DB_NAME or DB_POOL_MAXSIZE).
+     *
+     * @param fileProperties The properties read from the database properties file.
+     * @return The resolved configuration.
+     */
+    public static DatabaseConfiguration resolve(Properties fileProperties) {
+        Map<String, String> environment = new HashMap<>();
+        for (Map.Entry<String, String> entry : System.getenv().entrySet()) {
+            if (entry.getKey().startsWith(ENVIRONMENT_PREFIX)) {
+                environment.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        Map<String, String> resolved = new HashMap<>();
+        for (String key : fileProperties.stringPropertyNames()) {
+            resolved.put(key, environment.getOrDefault(toEnvironmentName(key), fileProperties.getProperty(key)));
+        }
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith(PROPERTY_PREFIX)) {
+                resolved.put(key, System.getProperty(key));
+            }
+        }
+        return new DatabaseConfiguration(resolved, environment);
+    }
+
+    /**
+     * Checks that a configuration read while the application runs can replace the current one: the connection
+     * settings must be present, and every setting the current configuration holds as a number must still be one,
+     * so a half-written or mistyped file is rejected instead of failing later where the setting is read.
+     *
+     * @param current The configuration in use.
+     * @throws IllegalArgumentException if a required setting is missing or a numeric setting is not a number.
+     */
+    public void validateReplacing(DatabaseConfiguration current) {
+        if (getProperty(DB_URL, null) == null && getProperty(DB_NAME, null) == null) {
+            throw new IllegalArgumentException("Missing setting " + DB_NAME + " or " + DB_URL);
+        }
+        for (String name : new String[]{DB_USERNAME, DB_PASSWORD}) {
+            if (getProperty(name, null) == null) {
+                throw new IllegalArgumentException("Missing setting " + name);
+            }
+        }
+        for (Map.Entry<String, String> entry : current.values.entrySet()) {
+            String value = getProperty(entry.getKey(), null);
+            if (isNumber(entry.getValue()) && value != null && !isNumber(value)) {
+                throw new IllegalArgumentException("Setting " + entry.getKey() + " is not a number: " + value);
+            }
+        }
+    }
+
+    private static boolean isNumber(String value) {
+        return value != null && value.trim().matches("-?\\d+");
+    }
+
+    /**
+     * Converts a setting name such as db.pool.maxSize into its environment variable name DB_POOL_MAXSIZE.
+     */
+    private static String toEnvironmentName(String name) {
+        return name.toUpperCase().replace('.', '_');
+    }
+
+    /**
+     * Retrieves the value of a setting.
+     *
+     * @param name The name of the setting.
+     * @return The value, or null if the setting is not present.
+     */
+    public String getProperty(String name) {
+        String value = values.get(name);
+        return value != null ? value : environment.get(toEnvironmentName(name));
+    }
+
+    /**
+     * Retrieves the value of a setting, falling back to a default.
+     *
+     * @param name         The name of the setting.
+     * @param defaultValue The value to use when the setting is not present.
+     * @return The value of the setting.
+     */
+    public String getProperty(String name, String defaultValue) {
+        String value = getProperty(name);
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+
+    /**
+     * Retrieves an integer setting, falling back to a default.
+     *
+     * @param name         The name of the setting.
+     * @param defaultValue The value to use when the setting is not present.
+     * @return The value of the setting.
+     */
+    public int getInt(String name, int defaultValue) {
+        return Integer.parseInt(getProperty(name, String.valueOf(defaultValue)));
+    }
+
+    /**
+     * Retrieves a long setting, falling back to a default.
+     *
+     * @param name         The name of the setting.
+     * @param defaultValue The value to use when the setting is not present.
+     * @return The value of the setting.
+     */
+    public long getLong(String name, long defaultValue) {
+        return Long.parseLong(getProperty(name, String.valueOf(defaultValue)));
+    }
+
+    /**
+     * Retrieves a boolean setting, falling back to a default.
+     *
+     * @param name         The name of the setting.
+     * @param defaultValue The value to use when the setting is not present.
+     * @return The value of the setting.
+     */
+    public boolean getBoolean(String name, boolean defaultValue) {
+        return Boolean.parseBoolean(getProperty(name, String.valueOf(defaultValue)));
+    }
+
+    public String getDatabaseName() {
+        return getProperty(DB_NAME);
+    }
+
+    public String getUsername() {
+        return getProperty(DB_USERNAME);
+    }
+
+    public String getPassword() {
+        return getProperty(DB_PASSWORD);
+    }
+
+    public String getJdbcUrl() {
+        return jdbcUrl;
+    }
+
+    public ConnectionPoolConfig getPoolConfig() {
+        return poolConfig;
+    }
+
+    /**
+     * Get the number of rows the driver should fetch per round trip for streaming reads.
+     * @return The fetch size from db.fetchSize, or the default when not set.
+     */
+    public int getFetchSize() {
+        return getInt(FETCH_SIZE, DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * Get the number of rows shown per page in the paginated listings.
+     * @return The page size from db.pageSize, or the default when not set.
+     */
+    public int getPageSize() {
+        return Math.max(1, getInt(PAGE_SIZE, DEFAULT_PAGE_SIZE));
+    }
+
+    /**
+     * Get the maximum number of asynchronous data access calls allowed to run at the same time.
+     * @return The limit from db.async.maxConcurrency, or the default when not set.
+     */
+    public int getAsyncMaxConcurrency() {
+        return Math.max(1, getInt(ASYNC_MAX_CONCURRENCY, DEFAULT_ASYNC_MAX_CONCURRENCY));
+    }
+
+    /**
+     * Check whether the caches are warmed in the background at startup.
+     * @return The flag from db.warmup.enabled, or the default when not set.
+     */
+    public boolean isWarmUpEnabled() {
+        return getBoolean(WARMUP_ENABLED, DEFAULT_WARMUP_ENABLED);
+    }
+
+    /**
+     * Builds the JDBC URL, using the explicit db.url setting when present.
+     */
+    private String buildJdbcUrl() {
+        String explicitUrl = getProperty(DB_URL);
+        if (explicitUrl != null && !explicitUrl.trim().isEmpty()) {
+            return explicitUrl.trim();
+        }
+        return JDBC_BASE_URL + getDatabaseName() + ";encrypt=false;";
+    }
+
+    /**
+     * Builds the connection pool settings, falling back to the defaults for any setting that is not present.
+     */
+    private ConnectionPoolConfig buildPoolConfig() {
+        return new ConnectionPoolConfig(
+                getInt(MIN_SIZE, DEFAULT_MIN_SIZE),
+                getInt(MAX_SIZE, DEFAULT_MAX_SIZE),
+                getLong(IDLE_TIMEOUT_MS, DEFAULT_IDLE_TIMEOUT_MS),
+                getLong(BORROW_TIMEOUT_MS, DEFAULT_BORROW_TIMEOUT_MS),
+                getLong(VALIDATION_INTERVAL_MS, DEFAULT_VALIDATION_INTERVAL_MS),
+                getInt(VALIDATION_TIMEOUT_SECONDS, DEFAULT_VALIDATION_TIMEOUT_SECONDS),
+                getLong(LEAK_DETECTION_THRESHOLD_MS, DEFAULT_LEAK_DETECTION_THRESHOLD_MS),
+                getInt(STATEMENT_CACHE_SIZE, DEFAULT_STATEMENT_CACHE_SIZE));
+    }
+}
@@ -1,17 +1,44 @@
 package services.database;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static constants.CarRentalManagementSystemConstants.DATABASE.*;
 
 /**
  * Utility class to load database properties from a configuration file.
+ * The file is read once into an immutable {@link DatabaseConfiguration} snapshot. When db.config.watch
+ * is enabled, the file is watched and a new snapshot is swapped in atomically whenever it changes.
  * Author: Ghazala Anjum
  */
 public class DatabasePropertiesLoader {
+    private static final Path PROPERTIES_FILE = resolvePropertiesFile();
+    private static final AtomicReference<DatabaseConfiguration> CONFIGURATION = new AtomicReference<>(load());
+
+    static {
+        if (CONFIGURATION.get().getBoolean(CONFIG_WATCH, false)) {
+            startWatching();
+        }
+    }
+
+    /**
+     * Retrieves the current configuration snapshot.
+     *
+     * @return The current database configuration.
+     */
+    public static DatabaseConfiguration getConfiguration() {
+        return CONFIGURATION.get();
+    }
 
     /**
      * Retrieves the JDBC URL for connecting to the database.
@@ -19,8 +46,7 @@ public class DatabasePropertiesLoader {
      * @return The JDBC URL string.
      */
     public static String getJdbcUrl() {
-        String dbName = getDatabaseName();
-        return JDBC_BASE_URL + dbName + ";encrypt=false;";
+        return getConfiguration().getJdbcUrl();
     }
 
     /**
@@ -29,7 +55,7 @@ public class DatabasePropertiesLoader {
      * @return The name of the database.
      */
     public static String getDatabaseName() {
-        return getProperty(DB_NAME);
+        return getConfiguration().getDatabaseName();
     }
 
     /**
@@ -38,7 +64,7 @@ public class DatabasePropertiesLoader {
      * @return The database username.
      */
     public static String getUsername() {
-        return getProperty(DB_USERNAME);
+        return getConfiguration().getUsername();
     }
 
     /**
@@ -47,33 +73,118 @@ public class DatabasePropertiesLoader {
      * @return The database password.
      */
     public static String getPassword() {
-        return getProperty(DB_PASSWORD);
+        return getConfiguration().getPassword();
     }
 
     /**
-     * Retrieves the value of a specified property from the properties file.
+     * Retrieves the connection pool settings, falling back to the defaults for any setting that is not present.
+     * Pool sizing is read when the pool is first created, so changes to it require a restart.
      *
-     * @param propertyName The name of the property to retrieve.
-     * @return The value of the specified property.
+     * @return The connection pool configuration.
+     */
+    public static ConnectionPoolConfig getPoolConfig() {
+        return getConfiguration().getPoolConfig();
+    }
+
+    /**
+     * Re-reads the properties file and atomically replaces the current snapshot.
+     * The previous snapshot is kept if the file cannot be read or holds missing or invalid settings,
+     * so a mistyped edit is reported without stopping the reloads that follow it.
+     */
+    public static void reload() {
+        try {
+            DatabaseConfiguration reloaded = DatabaseConfiguration.resolve(readProperties(PROPERTIES_FILE));
+            reloaded.validateReplacing(CONFIGURATION.get());
+            CONFIGURATION.set(reloaded);
+            System.out.println("Database configuration reloaded from " + PROPERTIES_FILE + ".");
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Failed to reload database configuration; keeping the previous settings.");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Determines the location of the properties file: the db.properties.file system property,
+     * then the DB_PROPERTIES_FILE environment variable, then the default path inside the project.
      */
-    private static String getProperty(String propertyName) {
-        Properties properties = loadProperties(DATABASE_PROPERTIES);
-        return properties.getProperty(propertyName);
+    private static Path resolvePropertiesFile() {
+        String location = System.getProperty(DATABASE_PROPERTIES_FILE_PROPERTY);
+        if (location == null || location.trim().isEmpty()) {
+            location = System.getenv(DATABASE_PROPERTIES_FILE_ENVIRONMENT);
+        }
+        if (location == null || location.trim().isEmpty()) {
+            location = DATABASE_PROPERTIES;
+        }
+        return Paths.get(location.trim()).toAbsolutePath();
+    }
+
+    /**
+     * Loads the initial configuration. A missing file is reported but not fatal, since every
+     * setting can also be supplied through system properties or environment variables.
+     */
+    private static DatabaseConfiguration load() {
+        Properties properties = new Properties();
+        try {
+            properties = readProperties(PROPERTIES_FILE);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return DatabaseConfiguration.resolve(properties);
     }
 
     /**
      * Loads the properties from the specified file.
      *
-     * @param fileName The name of the properties file.
+     * @param file The path of the properties file.
      * @return The Properties object containing the loaded properties.
+     * @throws IOException if the file cannot be read.
      */
-    private static Properties loadProperties(String fileName) {
+    private static Properties readProperties(Path file) throws IOException {
         Properties properties = new Properties();
-        try (InputStream input = new FileInputStream(fileName)) {
+        try (InputStream input = Files.newInputStream(file)) {
             properties.load(input);
+        }
+        return properties;
+    }
+
+    /**
+     * Starts a daemon thread that reloads the configuration whenever the properties file is modified.
+     */
+    private static void startWatching() {
+        Path directory = PROPERTIES_FILE.getParent();
+        Path fileName = PROPERTIES_FILE.getFileName();
+        WatchService watchService;
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
         } catch (IOException e) {
+            System.out.println("Unable to watch " + PROPERTIES_FILE + " for changes.");
             e.printStackTrace();
+            return;
         }
-        return properties;
+
+        Thread watcher = new Thread(() -> {
+            try {
+                while (true) {
+                    WatchKey key = watchService.take();
+                    boolean changed = false;
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (fileName.equals(event.context())) {
+                            changed = true;
+                        }
+                    }
+                    if (changed) {
+                        reload();
+                    }
+                    if (!key.reset()) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                // Watching stops with the application
+            }
+        }, "database-config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
     }
 }
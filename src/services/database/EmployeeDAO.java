@@ -4,15 +4,31 @@ import entities.Employee;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import populators.EmployeePopulator;
+import services.index.PrefixIndex;
+
+import static constants.CarRentalManagementSystemConstants.ENTITY_CACHE.*;
+import static constants.CarRentalManagementSystemConstants.SEARCH.*;
 
 /**
  * Data access object for managing employee-related operations in the database.
  * Author: Arshdeep Singh
  */
 public class EmployeeDAO {
+    // Read-through cache in front of getEmployeeById, which every booking and employee login goes through
+    private static final EntityCache<Employee> CACHE = new EntityCache<>("employees",
+            DatabasePropertiesLoader.getConfiguration().getInt(EMPLOYEE_MAX_SIZE, DEFAULT_EMPLOYEE_MAX_SIZE),
+            DatabasePropertiesLoader.getConfiguration().getLong(EMPLOYEE_TTL_MS, DEFAULT_EMPLOYEE_TTL_MS),
+            Employee::new);
+
+    // Names, emails, IDs and phone numbers of every employee, loaded on the first search
+    private static final PrefixIndex SEARCH_INDEX = new PrefixIndex();
+    private static volatile boolean searchIndexLoaded;
 
     /**
      * Adds a new employee to the database.
@@ -20,8 +36,11 @@ public class EmployeeDAO {
      * @param employee The employee object to be added.
      */
     public static void addEmployee(Employee employee) {
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             PreparedStatement statement = connection.prepareStatement("INSERT INTO Employee (first_name, last_name, address, email, phone_number, date_of_birth, hire_date, is_removed, is_manager, password) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+        // The ID comes from the column default, so it is read back for the search index
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "INSERT INTO Employee (first_name, last_name, address, email, phone_number, date_of_birth, hire_date, is_removed, is_manager, password) " +
+                     "OUTPUT INSERTED.employee_id VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
             statement.setString(1, employee.getFirstName());
             statement.setString(2, employee.getLastName());
             statement.setString(3, employee.getAddress());
@@ -32,7 +51,13 @@ public class EmployeeDAO {
             statement.setBoolean(8, employee.isRemoved());
             statement.setBoolean(9, employee.isManager());
             statement.setString(10, employee.getPassword());
-            statement.executeUpdate();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    String employeeId = resultSet.getString("employee_id");
+                    updateSearchIndex(index -> indexForSearch(index, employeeId, employee.getFirstName(),
+                            employee.getLastName(), employee.getEmail(), employee.getPhoneNumber()));
+                }
+            }
             System.out.println("Employee added successfully.");
         } catch (SQLException e) {
             e.printStackTrace();
@@ -45,7 +70,7 @@ public class EmployeeDAO {
      * @param employeeId The ID of the employee to be removed.
      */
     public static void removeEmployee(String employeeId) {
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
+        try (Connection connection = ConnectionManager.getConnection();
              PreparedStatement statement = connection.prepareStatement("UPDATE Employee SET is_removed = ? WHERE employee_id = ?")) {
             statement.setBoolean(1, true);
             statement.setString(2, employeeId);
@@ -57,6 +82,8 @@ public class EmployeeDAO {
             }
         } catch (SQLException e) {
             e.printStackTrace();
+        } finally {
+            CACHE.invalidate(employeeId);
         }
     }
 
@@ -66,7 +93,7 @@ public class EmployeeDAO {
      * @param employee The updated employee object.
      */
     public static void editEmployee(Employee employee) {
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
+        try (Connection connection = ConnectionManager.getConnection();
              PreparedStatement statement = connection.prepareStatement("UPDATE Employee SET address = ?, email = ?, phone_number = ?, date_of_birth = ?, hire_date = ?, is_removed = ?, is_manager = ?, password = ?, first_name = ?, last_name = ? WHERE employee_id = ?")) {
             statement.setString(1, employee.getAddress());
             statement.setString(2, employee.getEmail());
@@ -81,11 +108,16 @@ public class EmployeeDAO {
             statement.setString(11, employee.getEmployeeId());
             int rowsUpdated = statement.executeUpdate();
             if (rowsUpdated > 0) {
+                CACHE.put(employee.getEmployeeId(), employee);
+                updateSearchIndex(index -> indexForSearch(index, employee.getEmployeeId(), employee.getFirstName(),
+                        employee.getLastName(), employee.getEmail(), employee.getPhoneNumber()));
                 System.out.println("Employee information updated successfully.");
             } else {
+                CACHE.invalidate(employee.getEmployeeId());
                 System.out.println("No employee found with the given ID.");
             }
         } catch (SQLException e) {
+            CACHE.invalidate(employee.getEmployeeId());
             e.printStackTrace();
         }
     }
@@ -97,14 +129,20 @@ public class EmployeeDAO {
      * @return The employee object retrieved from the database.
      */
     public static Employee getEmployeeById(String employeeId) {
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
+        return CACHE.get(employeeId, EmployeeDAO::loadEmployeeById);
+    }
+
+    /**
+     * Reads an employee from the database, bypassing the cache. A missing employee is returned as null
+     * without any console output, since the read may run on a background thread; interactive callers report it.
+     */
+    private static Employee loadEmployeeById(String employeeId) {
+        try (Connection connection = ConnectionManager.getConnection();
              PreparedStatement statement = connection.prepareStatement("SELECT * FROM Employee WHERE employee_id = ?")) {
             statement.setString(1, employeeId);
             try (ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
                     return EmployeePopulator.populateFromResultSet(resultSet);
-                } else {
-                    System.out.println("No employee found with the given ID.");
                 }
             }
         } catch (SQLException e) {
@@ -114,26 +152,20 @@ public class EmployeeDAO {
     }
 
     /**
-     * Searches for employees in the database based on a keyword.
+     * Searches for employees based on a keyword, answered by the in-memory prefix index instead of a LIKE scan.
+     * Only the best matches, up to db.search.employee.resultLimit, are returned.
      *
-     * @param keyword The keyword to search for in employee IDs, emails, and phone numbers.
-     * @return A list of employees matching the search criteria.
+     * @param keyword The start of an employee's first name, last name, email, ID or phone number, or of a word in them.
+     * @return A list of employees matching the search criteria, best match first.
      */
-
     public static List<Employee> searchEmployee(String keyword) {
+        int limit = DatabasePropertiesLoader.getConfiguration().getInt(EMPLOYEE_RESULT_LIMIT, DEFAULT_EMPLOYEE_RESULT_LIMIT);
         List<Employee> employees = new ArrayList<>();
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             PreparedStatement statement = connection.prepareStatement("SELECT * FROM Employee WHERE employee_id LIKE ? OR email LIKE ? OR phone_number LIKE ?")) {
-            statement.setString(1, "%" + keyword + "%");
-            statement.setString(2, "%" + keyword + "%");
-            statement.setString(3, "%" + keyword + "%");
-            try (ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    employees.add(EmployeePopulator.populateFromResultSet(resultSet));
-                }
+        for (String employeeId : searchIndex().search(keyword, Math.max(1, limit))) {
+            Employee employee = getEmployeeById(employeeId);
+            if (employee != null) {
+                employees.add(employee);
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
         }
         return employees;
     }
@@ -145,7 +177,7 @@ public class EmployeeDAO {
      */
     public static List<Employee> getAllEmployees() {
         List<Employee> employees = new ArrayList<>();
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
+        try (Connection connection = ConnectionManager.getConnection();
              Statement statement = connection.createStatement();
              ResultSet resultSet = statement.executeQuery("SELECT * FROM Employee")) {
             while (resultSet.next()) {
@@ -158,23 +190,124 @@ public class EmployeeDAO {
     }
 
     /**
-     * Retrieves all employee IDs from the database.
+     * Fills the employee cache and the search index with every employee, for the startup warm-up.
      *
-     * @return A list of all employee IDs stored in the database.
+     * @return The number of employees read.
      */
-    public static List<String> getAllEmployeeIds() {
-        List<String> employeeIds = new ArrayList<>();
-        try (Connection connection = DriverManager.getConnection(DatabasePropertiesLoader.getJdbcUrl(), DatabasePropertiesLoader.getUsername(), DatabasePropertiesLoader.getPassword());
-             Statement statement = connection.createStatement();
-             ResultSet resultSet = statement.executeQuery("SELECT employee_id FROM Employee")) {
-            while (resultSet.next()) {
-                employeeIds.add(resultSet.getString("employee_id"));
+    public static int warmUp() {
+        List<Employee> employees = getAllEmployees();
+        CACHE.warm(() -> employees, Employee::getEmployeeId);
+        searchIndex();
+        return employees.size();
+    }
+
+    /**
+     * Returns the search index, reading the searchable columns of every employee into it on first use.
+     * Removed employees are kept, as the search has always listed them.
+     */
+    private static PrefixIndex searchIndex() {
+        if (!searchIndexLoaded) {
+            synchronized (SEARCH_INDEX) {
+                if (!searchIndexLoaded) {
+                    try (Connection connection = ConnectionManager.getConnection();
+                         PreparedStatement statement = connection.prepareStatement(
+                                 "SELECT employee_id, first_name, last_name, email, phone_number FROM Employee");
+                         ResultSet resultSet = statement.executeQuery()) {
+                        Map<String, String[]> fieldsByEmployeeId = new LinkedHashMap<>();
+                        while (resultSet.next()) {
+                            fieldsByEmployeeId.put(resultSet.getString("employee_id"), searchFields(resultSet.getString("employee_id"),
+                                    resultSet.getString("first_name"), resultSet.getString("last_name"),
+                                    resultSet.getString("email"), resultSet.getLong("phone_number")));
+                        }
+                        SEARCH_INDEX.load(fieldsByEmployeeId);
+                        searchIndexLoaded = true;
+                    } catch (SQLException e) {
+                        SEARCH_INDEX.clear();
+                        e.printStackTrace();
+                    }
+                }
+            }
+        }
+        return SEARCH_INDEX;
+    }
+
+    /**
+     * Applies a write to the search index once it has been loaded; a write made while it loads waits for the load.
+     */
+    private static void updateSearchIndex(Consumer<PrefixIndex> change) {
+        synchronized (SEARCH_INDEX) {
+            if (searchIndexLoaded) {
+                change.accept(SEARCH_INDEX);
+            }
+        }
+    }
+
+    private static void indexForSearch(PrefixIndex index, String employeeId, String firstName, String lastName,
+                                       String email, long phoneNumber) {
+        index.put(employeeId, searchFields(employeeId, firstName, lastName, email, phoneNumber));
+    }
+
+    /**
+     * Lists the searchable fields of an employee in ranking order: names first, as people are looked up by name.
+     */
+    private static String[] searchFields(String employeeId, String firstName, String lastName, String email, long phoneNumber) {
+        return new String[]{firstName, lastName, email, employeeId, Long.toString(phoneNumber)};
+    }
+
+    /**
+     * Checks whether an employee with the given ID exists, using a primary key lookup instead of reading every ID.
+     *
+     * @param employeeId The ID to look for.
+     * @return true if an employee with the ID exists, whether or not it has been removed.
+     */
+    public static boolean employeeExists(String employeeId) {
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT TOP (1) 1 FROM Employee WHERE employee_id = ?")) {
+            statement.setString(1, employeeId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return employeeIds;
+        return false;
     }
 
-}
+    /**
+     * Retrieves one page of employees ordered by employee ID, starting after the given employee ID.
+     * The page seeks on the primary key instead of skipping rows, so every page costs the same however deep it is.
+     *
+     * @param afterEmployeeId The last employee ID of the previous page, or null for the first page.
+     * @param pageSize        The maximum number of employees on the page.
+     * @return The page of employees.
+     */
+    public static Page<Employee> getEmployeesPage(String afterEmployeeId, int pageSize) {
+        List<Employee> employees = new ArrayList<>();
+        try (Connection connection = ConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT TOP (?) * FROM Employee WHERE employee_id > ? ORDER BY employee_id")) {
+            statement.setInt(1, pageSize + 1);
+            statement.setString(2, afterEmployeeId == null ? "" : afterEmployeeId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    employees.add(EmployeePopulator.populateFromResultSet(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return Page.of(employees, pageSize, Employee::getEmployeeId);
+    }
+
+    /**
+     * Get the hit, miss and eviction counters of the employee cache.
+     *
+     * @return A snapshot of the employee cache statistics.
+     */
+    public static EntityCacheStats getCacheStats() {
+        return CACHE.getStats();
+    }
 
+    static EntityCache<Employee> cache() {
+        return CACHE;
+    }
+}
@@ -0,0 +1,360 @@
+package services.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded read-through cache of entities keyed by their ID, evicting the least recently used entry
+ * when full and treating entries older than the time-to-live as missing.
+ * Entities are mutable, so the cache stores and hands out copies; callers can never change a cached entity.
+ * Lookups that find nothing are not cached, so a newly added row is visible without invalidation.
+ * Keys are spread over independently locked segments, each with its own share of the size bound and its
+ * own recency order, so concurrent lookups of different IDs rarely wait for each other.
+ * Concurrent misses for the same ID share one load through a {@link SingleFlight}.
+ * Author: Ghazala Anjum
+ */
+public class EntityCache<V> {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_ENTRIES_PER_SEGMENT = 16; // Small caches use fewer segments to keep LRU order meaningful
+
+    private final String name; // Shown in the statistics
+    private final int maxSize;
+    private final long ttlMillis;
+    private final UnaryOperator<V> copier; // Copies an entity going into or out of the cache
+    private final Segment<V>[] segments;
+    private final CacheMetrics metrics = new CacheMetrics();
+    private final SingleFlight<V> flights;
+
+    /**
+     * Constructor for EntityCache class.
+     * @param name      The name of the cache, shown in its statistics.
+     * @param maxSize   The maximum number of entities kept; 0 disables the cache.
+     * @param ttlMillis How long an entity may be served from the cache after it was loaded.
+     * @param copier    Creates an independent copy of an entity.
+     */
+    public EntityCache(String name, int maxSize, long ttlMillis, UnaryOperator<V> copier) {
+        this.name = name;
+        this.maxSize = Math.max(0, maxSize);
+        this.ttlMillis = ttlMillis;
+        this.copier = copier;
+        this.flights = new SingleFlight<>(copier, metrics);
+
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && segmentCount * 2 * MIN_ENTRIES_PER_SEGMENT <= this.maxSize) {
+            segmentCount *= 2;
+        }
+        @SuppressWarnings("unchecked")
+        Segment<V>[] created = (Segment<V>[]) new Segment<?>[segmentCount];
+        segments = created;
+        for (int i = 0; i < segmentCount; i++) {
+            // Spread the remainder so the segment bounds add up to maxSize exactly
+            segments[i] = new Segment<>(this.maxSize / segmentCount + (i < this.maxSize % segmentCount ? 1 : 0));
+        }
+    }
+
+    /**
+     * Returns the cached entity for a key, loading and caching it on a miss.
+     *
+     * @param key    The ID of the entity.
+     * @param loader Reads the entity from the database, returning null if it does not exist.
+     * @return A copy of the entity, or null if the loader found none.
+     */
+    public V get(String key, Function<String, V> loader) {
+        if (key == null || maxSize == 0) {
+            return flights.load(key, timed(loader));
+        }
+        Segment<V> segment = segmentFor(key);
+        long invalidationsBeforeLoad;
+        synchronized (segment) {
+            Entry<V> entry = segment.entries.get(key);
+            if (entry != null && System.currentTimeMillis() - entry.loadedAt <= ttlMillis) {
+                metrics.recordHit();
+                return copier.apply(entry.value);
+            }
+            if (entry != null) {
+                segment.entries.remove(key);
+                metrics.recordExpiration();
+            }
+            invalidationsBeforeLoad = segment.invalidations;
+        }
+        metrics.recordMiss();
+
+        // Load outside the lock so a slow query does not hold up lookups of other keys
+        V value = flights.load(key, timed(loader));
+        if (value != null) {
+            synchronized (segment) {
+                // A write to this segment during the load may have made the loaded value stale
+                if (segment.invalidations == invalidationsBeforeLoad) {
+                    metrics.recordEvictions(segment.store(key, new Entry<>(copier.apply(value), System.currentTimeMillis())));
+                } else {
+                    metrics.recordStaleRead();
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Fills the cache with entities read in bulk, such as at startup. Entities that are already cached are kept,
+     * as are keys written while the bulk read ran, since the read may predate the write. Warming never evicts:
+     * it stops adding to a segment once the segment is full.
+     *
+     * @param loader Reads the entities from the database.
+     * @param keyOf  Returns the ID of an entity.
+     * @return The number of entities added to the cache.
+     */
+    public int warm(Supplier<? extends Collection<V>> loader, Function<V, String> keyOf) {
+        if (maxSize == 0) {
+            return 0;
+        }
+        WriteMark mark = markWrites();
+        int added = 0;
+        long loadedAt = System.currentTimeMillis();
+        for (V value : loader.get()) {
+            if (fill(mark, keyOf.apply(value), value, loadedAt)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Records how many writes each segment has seen, so that a later {@link #restore} can tell which
+     * segments were written in the meantime.
+     *
+     * @return The mark of the writes made so far.
+     */
+    public WriteMark markWrites() {
+        long[] invalidations = new long[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            synchronized (segments[i]) {
+                invalidations[i] = segments[i].invalidations;
+            }
+        }
+        return new WriteMark(invalidations);
+    }
+
+    /**
+     * Puts back entries saved by {@link #entries()}, keeping their original load time so the time-to-live
+     * still counts from when they were read from the database. Like {@link #warm}, this never evicts and never
+     * replaces a cached entity, and skips segments written since the mark was taken.
+     *
+     * @param saved The saved entries, least recently used first.
+     * @param mark  A mark taken before the saved entries were checked against the database.
+     * @return The number of entries put back.
+     */
+    public int restore(Collection<CachedEntry<V>> saved, WriteMark mark) {
+        if (maxSize == 0) {
+            return 0;
+        }
+        int restored = 0;
+        long now = System.currentTimeMillis();
+        for (CachedEntry<V> entry : saved) {
+            if (now - entry.loadedAt() <= ttlMillis && fill(mark, entry.key(), entry.value(), entry.loadedAt())) {
+                restored++;
+            }
+        }
+        return restored;
+    }
+
+    /**
+     * Returns copies of the entries that have not expired, least recently used first within each segment,
+     * for saving the cache to a snapshot file.
+     *
+     * @return The cached entries with their keys and load times.
+     */
+    public List<CachedEntry<V>> entries() {
+        List<CachedEntry<V>> result = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (Segment<V> segment : segments) {
+            synchronized (segment) {
+                for (Map.Entry<String, Entry<V>> entry : segment.entries.entrySet()) {
+                    Entry<V> cached = entry.getValue();
+                    if (now - cached.loadedAt <= ttlMillis) {
+                        result.add(new CachedEntry<>(entry.getKey(), copier.apply(cached.value), cached.loadedAt));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds one bulk-loaded entity unless its key is cached, its segment was written since the mark, or its segment is full.
+     */
+    private boolean fill(WriteMark mark, String key, V value, long loadedAt) {
+        if (key == null) {
+            return false;
+        }
+        int index = segmentIndex(key);
+        Segment<V> segment = segments[index];
+        synchronized (segment) {
+            if (segment.invalidations == mark.invalidations[index] && !segment.entries.containsKey(key)
+                    && segment.entries.size() < segment.maxSize) {
+                segment.entries.put(key, new Entry<>(copier.apply(value), loadedAt));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Replaces the cached entity after the caller has written it to the database.
+     *
+     * @param key   The ID of the entity.
+     * @param value The entity as written.
+     */
+    public void put(String key, V value) {
+        if (key == null) {
+            return;
+        }
+        if (maxSize == 0) {
+            flights.forget(key);
+            return;
+        }
+        Segment<V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.invalidations++;
+            // Forget the running load under the lock, so a lookup that starts after this write cannot join it
+            flights.forget(key);
+            metrics.recordEvictions(segment.store(key, new Entry<>(copier.apply(value), System.currentTimeMillis())));
+        }
+    }
+
+    /**
+     * Drops the cached entity for a key after the caller has changed it in the database.
+     *
+     * @param key The ID of the entity.
+     */
+    public void invalidate(String key) {
+        if (key == null) {
+            return;
+        }
+        Segment<V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.invalidations++;
+            flights.forget(key);
+            segment.entries.remove(key);
+        }
+    }
+
+    /**
+     * Drops every cached entity.
+     */
+    public void clear() {
+        for (int i = 0; i < segments.length; i++) {
+            int index = i;
+            synchronized (segments[i]) {
+                segments[i].invalidations++;
+                flights.forgetIf(key -> segmentIndex(key) == index);
+                segments[i].entries.clear();
+            }
+        }
+    }
+
+    /**
+     * Get a point-in-time snapshot of the cache's counters and its size summed over all segments.
+     * @return The cache statistics.
+     */
+    public EntityCacheStats getStats() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return metrics.snapshot(name, size, maxSize);
+    }
+
+    /**
+     * Wraps a loader so that the load latency is recorded; only the caller that runs the load records it.
+     */
+    private Function<String, V> timed(Function<String, V> loader) {
+        return key -> {
+            long loadStartedAt = System.nanoTime();
+            V value = loader.apply(key);
+            metrics.recordLoad(loadStartedAt);
+            return value;
+        };
+    }
+
+    private Segment<V> segmentFor(String key) {
+        return segments[segmentIndex(key)];
+    }
+
+    private int segmentIndex(String key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16; // Mix the high bits in, since the segment count is a small power of two
+        return hash & (segments.length - 1);
+    }
+
+    /**
+     * One independently locked part of the cache, guarded by its own monitor.
+     */
+    private static final class Segment<V> {
+        private final int maxSize;
+        private final LinkedHashMap<String, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long invalidations; // Incremented by every write, so loads that raced with a write are not cached
+
+        private Segment(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Stores an entry, evicting the least recently used ones while the segment is over its bound.
+         * @return The number of entries evicted.
+         */
+        private int store(String key, Entry<V> entry) {
+            entries.put(key, entry);
+            int evicted = 0;
+            Iterator<Entry<V>> leastRecentlyUsed = entries.values().iterator();
+            while (entries.size() > maxSize && leastRecentlyUsed.hasNext()) {
+                leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+    }
+
+    /**
+     * A cached entity with its key and the time it was loaded, as saved to and restored from a snapshot file.
+     *
+     * @param key      The ID of the entity.
+     * @param value    The entity.
+     * @param loadedAt When the entity was read from the database, in epoch milliseconds.
+     */
+    public record CachedEntry<V>(String key, V value, long loadedAt) {
+    }
+
+    /**
+     * The per-segment write counts at one moment, taken by {@link #markWrites()}.
+     */
+    public static final class WriteMark {
+        private final long[] invalidations;
+
+        private WriteMark(long[] invalidations) {
+            this.invalidations = invalidations;
+        }
+    }
+
+    /**
+     * A cached entity with the time it was loaded.
+     */
+    private static final class Entry<V> {
+        private final V value;
+        private final long loadedAt;
+
+        private Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
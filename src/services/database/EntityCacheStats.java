@@ -0,0 +1,140 @@
+package services.database;
+
+/**
+ * Point-in-time snapshot of an entity cache's counters, used to check the cache pays off under load.
+ * Author: Ghazala Anjum
+ */
+public class EntityCacheStats {
+    private final String name; // Name of the cache
+    private final int size; // Entities currently cached
+    private final int maxSize; // Most entities the cache keeps, or -1 if unbounded
+    private final long hits; // Lookups served from the cache
+    private final long misses; // Lookups that went to the database
+    private final long evictions; // Entities dropped to make room for newer ones
+    private final long expirations; // Entities dropped because they outlived the time-to-live
+    private final long staleReads; // Loads that raced with a write to the same entity
+    private final long coalesced; // Lookups that shared another caller's load instead of querying
+    private final long loads; // Database loads behind the cache
+    private final double loadP50Millis; // Median load latency
+    private final double loadP95Millis; // 95th percentile load latency
+    private final double loadP99Millis; // 99th percentile load latency
+
+    /**
+     * Constructor for EntityCacheStats class.
+     * @param name The name of the cache.
+     * @param size The number of entities currently cached.
+     * @param maxSize The maximum number of entities kept, or -1 if unbounded.
+     * @param hits The number of lookups served from the cache.
+     * @param misses The number of lookups that went to the database.
+     * @param evictions The number of entities evicted to make room.
+     * @param expirations The number of entities dropped after their time-to-live.
+     * @param staleReads The number of loads that raced with a write.
+     * @param coalesced The number of lookups that shared another caller's load.
+     * @param loads The number of database loads timed.
+     * @param loadP50Millis The median load latency in milliseconds.
+     * @param loadP95Millis The 95th percentile load latency in milliseconds.
+     * @param loadP99Millis The 99th percentile load latency in milliseconds.
+     */
+    public EntityCacheStats(String name, int size, int maxSize, long hits, long misses, long evictions,
+                            long expirations, long staleReads, long coalesced, long loads, double loadP50Millis,
+                            double loadP95Millis, double loadP99Millis) {
+        this.name = name;
+        this.size = size;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.staleReads = staleReads;
+        this.coalesced = coalesced;
+        this.loads = loads;
+        this.loadP50Millis = loadP50Millis;
+        this.loadP95Millis = loadP95Millis;
+        this.loadP99Millis = loadP99Millis;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getExpirations() {
+        return expirations;
+    }
+
+    public long getStaleReads() {
+        return staleReads;
+    }
+
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    public long getLoads() {
+        return loads;
+    }
+
+    public double getLoadP50Millis() {
+        return loadP50Millis;
+    }
+
+    public double getLoadP95Millis() {
+        return loadP95Millis;
+    }
+
+    public double getLoadP99Millis() {
+        return loadP99Millis;
+    }
+
+    /**
+     * Get the fraction of lookups served from the cache.
+     * @return The hit ratio between 0 and 1, or 0 if nothing has been looked up yet.
+     */
+    public double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * Override toString method to provide a string representation of the cache statistics.
+     * @return A string representation of the EntityCacheStats object.
+     */
+    @Override
+    public String toString() {
+        return "EntityCacheStats{" +
+                "name=" + name +
+                ", size=" + size +
+                ", maxSize=" + maxSize +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", hitRatio=" + String.format("%.2f", getHitRatio()) +
+                ", evictions=" + evictions +
+                ", expirations=" + expirations +
+                ", staleReads=" + staleReads +
+                ", coalesced=" + coalesced +
+                ", loads=" + loads +
+                ", loadP50Millis=" + String.format("%.3f", loadP50Millis) +
+                ", loadP95Millis=" + String.format("%.3f", loadP95Millis) +
+                ", loadP99Millis=" + String.format("%.3f", loadP99Millis) +
+                '}';
+    }
+}
@@ -0,0 +1,258 @@
+package services.database;
+
+import entities.Car;
+import entities.CarStatus;
+import entities.FuelType;
+import entities.TransmissionType;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static constants.CarRentalManagementSystemConstants.SEARCH.RENTAL_PRICE_BAND_WIDTH;
+
+/**
+ * Bitmap indexes over the car positions of a {@link FleetSnapshot}: one bitmap per fuel type, transmission
+ * type, car status, number of seats and rental price band, plus one for availability and one for the cars
+ * not removed. A filter is the bitwise AND of the bitmaps it selects, and a facet count is the number of
+ * bits left when one more bitmap is ANDed in, so neither looks at the cars themselves.
+ * Like the snapshot, the facets are never modified. A write that keeps a car at its position produces new
+ * facets sharing every bitmap the write does not touch.
+ * Author: Aashika Vachhani
+ */
+final class FleetFacets {
+    private final int size; // Number of car positions
+    private final Map<FuelType, long[]> fuelTypes;
+    private final Map<TransmissionType, long[]> transmissionTypes;
+    private final Map<CarStatus, long[]> carStatuses;
+    private final SortedMap<Integer, long[]> seats; // By number of passengers
+    private final SortedMap<Integer, long[]> priceBands; // By band number, the rental price divided by the band width
+    private final long[] available;
+    private final long[] active; // Cars not removed
+
+    private FleetFacets(int size, Map<FuelType, long[]> fuelTypes, Map<TransmissionType, long[]> transmissionTypes,
+                        Map<CarStatus, long[]> carStatuses, SortedMap<Integer, long[]> seats,
+                        SortedMap<Integer, long[]> priceBands, long[] available, long[] active) {
+        this.size = size;
+        this.fuelTypes = fuelTypes;
+        this.transmissionTypes = transmissionTypes;
+        this.carStatuses = carStatuses;
+        this.seats = seats;
+        this.priceBands = priceBands;
+        this.available = available;
+        this.active = active;
+    }
+
+    /**
+     * Builds the facets of the cars of a snapshot.
+     *
+     * @param cars The cars in snapshot order.
+     * @return The facets.
+     */
+    static FleetFacets of(Car[] cars) {
+        int words = wordsFor(cars.length);
+        FleetFacets facets = new FleetFacets(cars.length, new EnumMap<>(FuelType.class), new EnumMap<>(TransmissionType.class),
+                new EnumMap<>(CarStatus.class), new TreeMap<>(), new TreeMap<>(), new long[words], new long[words]);
+        for (int position = 0; position < cars.length; position++) {
+            Car car = cars[position];
+            setIn(facets.fuelTypes, car.getFuelType(), position, words);
+            setIn(facets.transmissionTypes, car.getTransmissionType(), position, words);
+            setIn(facets.carStatuses, car.getCarStatus(), position, words);
+            setIn(facets.seats, car.getNoOfPassengers(), position, words);
+            setIn(facets.priceBands, priceBandOf(car.getRentalPrice()), position, words);
+            if (car.isAvailable()) {
+                set(facets.available, position);
+            }
+            if (!car.isRemoved()) {
+                set(facets.active, position);
+            }
+        }
+        return facets;
+    }
+
+    /**
+     * Returns the facets after the car at one position was replaced. Only the bitmaps whose bit changes are copied.
+     *
+     * @param position The position of the car.
+     * @param before   The car as it was.
+     * @param after    The car as it is now.
+     * @return The patched facets.
+     */
+    FleetFacets withReplaced(int position, Car before, Car after) {
+        int words = wordsFor(size);
+        Map<FuelType, long[]> patchedFuelTypes = new EnumMap<>(fuelTypes);
+        moveIn(patchedFuelTypes, before.getFuelType(), after.getFuelType(), position, words);
+        Map<TransmissionType, long[]> patchedTransmissionTypes = new EnumMap<>(transmissionTypes);
+        moveIn(patchedTransmissionTypes, before.getTransmissionType(), after.getTransmissionType(), position, words);
+        Map<CarStatus, long[]> patchedCarStatuses = new EnumMap<>(carStatuses);
+        moveIn(patchedCarStatuses, before.getCarStatus(), after.getCarStatus(), position, words);
+        SortedMap<Integer, long[]> patchedSeats = new TreeMap<>(seats);
+        moveIn(patchedSeats, before.getNoOfPassengers(), after.getNoOfPassengers(), position, words);
+        SortedMap<Integer, long[]> patchedPriceBands = new TreeMap<>(priceBands);
+        moveIn(patchedPriceBands, priceBandOf(before.getRentalPrice()), priceBandOf(after.getRentalPrice()), position, words);
+        return new FleetFacets(size, patchedFuelTypes, patchedTransmissionTypes, patchedCarStatuses, patchedSeats,
+                patchedPriceBands, withBit(available, position, after.isAvailable()), withBit(active, position, !after.isRemoved()));
+    }
+
+    /**
+     * Finds the cars matching a filter and counts every facet under the other criteria.
+     *
+     * @param filter The criteria.
+     * @param cars   The cars in snapshot order, used to copy the matches and to split the band holding the price limit.
+     * @return The matching cars and the facet counts.
+     */
+    CarFilterResult filter(CarFilter filter, Car[] cars) {
+        long[] empty = new long[wordsFor(size)];
+        long[][] criteria = {
+                filter.getFuelType() == null ? null : fuelTypes.getOrDefault(filter.getFuelType(), empty),
+                filter.getTransmissionType() == null ? null : transmissionTypes.getOrDefault(filter.getTransmissionType(), empty),
+                filter.getCarStatus() == null ? null : carStatuses.getOrDefault(filter.getCarStatus(), empty),
+                filter.getNoOfPassengers() == null ? null : seats.getOrDefault(filter.getNoOfPassengers(), empty),
+                filter.getMaxRentalPrice() == null ? null : pricedUpTo(filter.getMaxRentalPrice(), cars),
+                filter.isAvailableOnly() ? available : null};
+
+        long[] matches = intersect(criteria, -1);
+        List<Car> matchingCars = new ArrayList<>(count(matches, null));
+        for (int word = 0; word < matches.length; word++) {
+            for (long bits = matches[word]; bits != 0; bits &= bits - 1) {
+                matchingCars.add(new Car(cars[word * Long.SIZE + Long.numberOfTrailingZeros(bits)]));
+            }
+        }
+
+        SortedMap<Double, Integer> priceBandCounts = new TreeMap<>();
+        countIn(priceBands, intersect(criteria, 4)).forEach((band, count) -> priceBandCounts.put(band * RENTAL_PRICE_BAND_WIDTH, count));
+        return new CarFilterResult(matchingCars,
+                countIn(fuelTypes, intersect(criteria, 0), new EnumMap<>(FuelType.class), FuelType.values()),
+                countIn(transmissionTypes, intersect(criteria, 1), new EnumMap<>(TransmissionType.class), TransmissionType.values()),
+                countIn(carStatuses, intersect(criteria, 2), new EnumMap<>(CarStatus.class), CarStatus.values()),
+                countIn(seats, intersect(criteria, 3)),
+                priceBandCounts,
+                count(intersect(criteria, 5), available));
+    }
+
+    /**
+     * Builds the bitmap of the cars whose rental price is at most the limit: whole bands below the limit's band
+     * are ORed in, and only the cars of the limit's own band are compared with it.
+     */
+    private long[] pricedUpTo(double maxRentalPrice, Car[] cars) {
+        long[] result = new long[wordsFor(size)];
+        int limitBand = priceBandOf(maxRentalPrice);
+        for (Map.Entry<Integer, long[]> band : priceBands.headMap(limitBand).entrySet()) {
+            or(result, band.getValue());
+        }
+        long[] boundary = priceBands.get(limitBand);
+        if (boundary != null) {
+            for (int word = 0; word < boundary.length; word++) {
+                for (long bits = boundary[word]; bits != 0; bits &= bits - 1) {
+                    int position = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                    if (cars[position].getRentalPrice() <= maxRentalPrice) {
+                        set(result, position);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * ANDs the cars not removed with every criterion that is set, except the one at skip.
+     */
+    private long[] intersect(long[][] criteria, int skip) {
+        long[] result = active.clone();
+        for (int c = 0; c < criteria.length; c++) {
+            if (c != skip && criteria[c] != null) {
+                for (int word = 0; word < result.length; word++) {
+                    result[word] &= criteria[c][word];
+                }
+            }
+        }
+        return result;
+    }
+
+    private static <K> Map<K, Integer> countIn(Map<K, long[]> bitmaps, long[] base, Map<K, Integer> counts, K[] keys) {
+        for (K key : keys) {
+            counts.put(key, count(base, bitmaps.get(key)));
+        }
+        return counts;
+    }
+
+    private static <K> SortedMap<K, Integer> countIn(SortedMap<K, long[]> bitmaps, long[] base) {
+        SortedMap<K, Integer> counts = new TreeMap<>();
+        bitmaps.forEach((key, bitmap) -> counts.put(key, count(base, bitmap)));
+        return counts;
+    }
+
+    /**
+     * Counts the bits set in both bitmaps, or in the first one if the second is null.
+     */
+    private static int count(long[] bitmap, long[] and) {
+        int count = 0;
+        for (int word = 0; word < bitmap.length; word++) {
+            count += Long.bitCount(and == null ? bitmap[word] : bitmap[word] & and[word]);
+        }
+        return count;
+    }
+
+    private static int priceBandOf(double rentalPrice) {
+        return (int) Math.floor(rentalPrice / RENTAL_PRICE_BAND_WIDTH);
+    }
+
+    private static <K> void setIn(Map<K, long[]> bitmaps, K key, int position, int words) {
+        if (key != null) {
+            set(bitmaps.computeIfAbsent(key, k -> new long[words]), position);
+        }
+    }
+
+    /**
+     * Moves a position from one key's bitmap to another's in a copied map, copying the two bitmaps instead of
+     * changing the shared ones. A bitmap left empty is dropped, so a seat count no car has stops being a facet.
+     */
+    private static <K> void moveIn(Map<K, long[]> bitmaps, K before, K after, int position, int words) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        if (before != null && bitmaps.containsKey(before)) {
+            long[] cleared = withBit(bitmaps.get(before), position, false);
+            if (count(cleared, null) == 0) {
+                bitmaps.remove(before);
+            } else {
+                bitmaps.put(before, cleared);
+            }
+        }
+        if (after != null) {
+            long[] bitmap = bitmaps.get(after);
+            bitmaps.put(after, withBit(bitmap == null ? new long[words] : bitmap, position, true));
+        }
+    }
+
+    /**
+     * Returns the bitmap with one bit changed, copying it only if the bit actually changes.
+     */
+    private static long[] withBit(long[] bitmap, int position, boolean value) {
+        boolean current = (bitmap[position >>> 6] & (1L << position)) != 0;
+        if (current == value) {
+            return bitmap;
+        }
+        long[] copy = bitmap.clone();
+        copy[position >>> 6] ^= 1L << position;
+        return copy;
+    }
+
+    private static void set(long[] bitmap, int position) {
+        bitmap[position >>> 6] |= 1L << position;
+    }
+
+    private static void or(long[] target, long[] bitmap) {
+        for (int word = 0; word < target.length; word++) {
+            target[word] |= bitmap[word];
+        }
+    }
+
+    private static int wordsFor(int size) {
+        return (size + Long.SIZE - 1) / Long.SIZE;
+    }
+}
@@ -0,0 +1,215 @@
+package services.database;
+
+import entities.Car;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable point-in-time view of the whole fleet, ordered by car ID. Readers share a snapshot without
+ * locking; a change produces a new snapshot with a higher version instead of modifying this one, so a
+ * clerk paging through a snapshot sees the fleet exactly as it was when the listing started.
+ * Cars are mutable, so the snapshot hands out copies.
+ * Author: Aashika Vachhani
+ */
+public final class FleetSnapshot {
+    private static final Comparator<Car> BY_CAR_ID = Comparator.comparing(Car::getCarId);
+
+    private final long version; // Incremented by every change
+    private final long createdAt; // When the cars were read from the database
+    private final Car[] cars; // Sorted by car ID, never modified after construction
+    private volatile FleetFacets facets; // Built by the first filter, then carried over by patches that keep every car's position
+
+    private FleetSnapshot(long version, long createdAt, Car[] cars, FleetFacets facets) {
+        this.version = version;
+        this.createdAt = createdAt;
+        this.cars = cars;
+        this.facets = facets;
+    }
+
+    /**
+     * Creates a snapshot of the given cars.
+     *
+     * @param version The version of the snapshot.
+     * @param cars    The cars of the fleet, in any order; they are copied.
+     * @return The snapshot.
+     */
+    public static FleetSnapshot of(long version, Collection<Car> cars) {
+        return of(version, System.currentTimeMillis(), cars);
+    }
+
+    /**
+     * Creates a snapshot of cars read at an earlier time, such as one restored from a snapshot file.
+     *
+     * @param version   The version of the snapshot.
+     * @param createdAt When the cars were read from the database, in epoch milliseconds.
+     * @param cars      The cars of the fleet, in any order; they are copied.
+     * @return The snapshot.
+     */
+    public static FleetSnapshot of(long version, long createdAt, Collection<Car> cars) {
+        Car[] copies = new Car[cars.size()];
+        int i = 0;
+        for (Car car : cars) {
+            copies[i++] = new Car(car);
+        }
+        Arrays.sort(copies, BY_CAR_ID);
+        return new FleetSnapshot(version, createdAt, copies, null);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public int size() {
+        return cars.length;
+    }
+
+    /**
+     * Returns a copy of the car with the given ID.
+     *
+     * @param carId The ID of the car.
+     * @return A copy of the car, or null if it is not in the snapshot.
+     */
+    public Car getCar(String carId) {
+        int position = indexOf(carId);
+        return position < 0 ? null : new Car(cars[position]);
+    }
+
+    /**
+     * Returns copies of every car in car ID order.
+     *
+     * @return The cars of the fleet.
+     */
+    public List<Car> getCars() {
+        List<Car> result = new ArrayList<>(cars.length);
+        for (Car car : cars) {
+            result.add(new Car(car));
+        }
+        return result;
+    }
+
+    /**
+     * Returns one page of cars in car ID order, starting after the given car ID.
+     *
+     * @param afterCarId The last car ID of the previous page, or null for the first page.
+     * @param pageSize   The maximum number of cars on the page.
+     * @return The page of cars.
+     */
+    public Page<Car> page(String afterCarId, int pageSize) {
+        int from = 0;
+        if (afterCarId != null) {
+            int position = indexOf(afterCarId);
+            from = position >= 0 ? position + 1 : -position - 1;
+        }
+        int to = (int) Math.min(cars.length, (long) from + pageSize + 1);
+        List<Car> rows = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            rows.add(new Car(cars[i]));
+        }
+        return Page.of(rows, pageSize, Car::getCarId);
+    }
+
+    /**
+     * Finds the cars matching a filter using the snapshot's bitmap facets, and counts how many cars each facet
+     * value would give under the rest of the filter.
+     *
+     * @param filter The criteria.
+     * @return Copies of the matching cars in car ID order, with the facet counts.
+     */
+    public CarFilterResult filter(CarFilter filter) {
+        FleetFacets current = facets;
+        if (current == null) {
+            current = FleetFacets.of(cars); // Two threads may both build them; either result is the same
+            facets = current;
+        }
+        return current.filter(filter, cars);
+    }
+
+    /**
+     * Returns a new snapshot in which the given car is added or replaced.
+     *
+     * @param car The car as written to the database.
+     * @return The patched snapshot, one version newer.
+     */
+    public FleetSnapshot withCar(Car car) {
+        int position = indexOf(car.getCarId());
+        Car[] patched;
+        FleetFacets patchedFacets = null; // An added car shifts the positions, so the facets are rebuilt when next needed
+        if (position >= 0) {
+            patched = cars.clone();
+            patched[position] = new Car(car);
+            FleetFacets current = facets;
+            if (current != null) {
+                patchedFacets = current.withReplaced(position, cars[position], patched[position]);
+            }
+        } else {
+            int insertAt = -position - 1;
+            patched = new Car[cars.length + 1];
+            System.arraycopy(cars, 0, patched, 0, insertAt);
+            patched[insertAt] = new Car(car);
+            System.arraycopy(cars, insertAt, patched, insertAt + 1, cars.length - insertAt);
+        }
+        return new FleetSnapshot(version + 1, createdAt, patched, patchedFacets);
+    }
+
+    /**
+     * Returns a new snapshot in which one car's availability is changed.
+     *
+     * @param carId     The ID of the car.
+     * @param available The new availability.
+     * @return The patched snapshot, or this snapshot if the car is not in it.
+     */
+    public FleetSnapshot withAvailability(String carId, boolean available) {
+        int position = indexOf(carId);
+        if (position < 0) {
+            return this;
+        }
+        Car car = new Car(cars[position]);
+        car.setAvailable(available);
+        return withCar(car);
+    }
+
+    /**
+     * Returns a new snapshot in which one car is marked as removed.
+     *
+     * @param carId The ID of the car.
+     * @return The patched snapshot, or this snapshot if the car is not in it.
+     */
+    public FleetSnapshot withRemoved(String carId) {
+        int position = indexOf(carId);
+        if (position < 0) {
+            return this;
+        }
+        Car car = new Car(cars[position]);
+        car.setRemoved(true);
+        return withCar(car);
+    }
+
+    /**
+     * Binary search on car ID.
+     * @return The position of the car, or -(insertion point) - 1 if it is not in the snapshot.
+     */
+    private int indexOf(String carId) {
+        int low = 0;
+        int high = cars.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = cars[mid].getCarId().compareTo(carId);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+}
@@ -0,0 +1,88 @@
+package services.database;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of durations for estimating percentiles. Each power of two is split into four buckets,
+ * so a reported percentile is at most 25% above the true value, and recording is a single atomic increment
+ * with a fixed footprint however many durations are recorded.
+ * Author: Ghazala Anjum
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS; // Buckets per power of two
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos The duration in nanoseconds; negative values are counted as zero.
+     */
+    public void record(long nanos) {
+        counts.incrementAndGet(bucketOf(Math.max(0, nanos)));
+    }
+
+    /**
+     * Get the number of durations recorded.
+     * @return The count of all buckets.
+     */
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Estimates a percentile of the recorded durations.
+     *
+     * @param percentile The percentile between 0 and 100, such as 95.
+     * @return The upper bound of the bucket holding the percentile, in milliseconds, or 0 if nothing was recorded.
+     */
+    public double getPercentileMillis(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0.0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return upperBoundOf(i) / 1_000_000.0;
+            }
+        }
+        return upperBoundOf(BUCKET_COUNT - 1) / 1_000_000.0;
+    }
+
+    /**
+     * Maps a duration to its bucket: values below four have a bucket each, larger values go by their
+     * highest set bit and the two bits below it.
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long top = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        long bound = ((top + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+        return bound < 0 ? Long.MAX_VALUE : bound; // The last bucket runs to the largest long
+    }
+}
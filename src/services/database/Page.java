@@ -0,0 +1,64 @@
+package services.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. The next page is requested with {@link #getLastKey()},
+ * so reading a page costs the same however deep into the listing it is.
+ * Author: Ghazala Anjum
+ *
+ * @param <T> The type of the rows on the page.
+ */
+public class Page<T> {
+    private final List<T> items; // Rows on this page, in key order
+    private final String lastKey; // Key of the last row on this page, or null if the page is empty
+    private final boolean hasNext; // Whether more rows follow this page
+
+    /**
+     * Constructor for Page class.
+     * @param items   The rows on this page, in key order.
+     * @param lastKey The key of the last row on this page, or null if the page is empty.
+     * @param hasNext Whether more rows follow this page.
+     */
+    public Page(List<T> items, String lastKey, boolean hasNext) {
+        this.items = Collections.unmodifiableList(items);
+        this.lastKey = lastKey;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * Builds a page from up to pageSize + 1 rows read in key order; the extra row, when present,
+     * only signals that another page follows and is dropped.
+     *
+     * @param rows     The rows read, at most pageSize + 1.
+     * @param pageSize The number of rows per page.
+     * @param keyOf    Extracts the key of a row.
+     * @param <T>      The type of the rows.
+     * @return The page.
+     */
+    public static <T> Page<T> of(List<T> rows, int pageSize, Function<T, String> keyOf) {
+        boolean hasNext = rows.size() > pageSize;
+        List<T> items = hasNext ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        String lastKey = items.isEmpty() ? null : keyOf.apply(items.get(items.size() - 1));
+        return new Page<>(items, lastKey, hasNext);
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getLastKey() {
+        return lastKey;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
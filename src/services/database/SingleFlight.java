@@ -0,0 +1,102 @@
+package services.database;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the database query and every caller that
+ * asks for the key while it runs waits for that query instead of issuing its own. This keeps a burst of
+ * lookups after an invalidation, or from parallel report tasks, down to one query per key.
+ * Entities are mutable, so the callers that joined a load each receive their own copy of its result.
+ * Author: Ghazala Anjum
+ */
+public class SingleFlight<V> {
+    private final ConcurrentHashMap<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final UnaryOperator<V> copier; // Copies the shared result for each caller that joined a load
+    private final CacheMetrics metrics; // Counts the lookups that joined a load instead of running their own
+
+    /**
+     * Constructor for SingleFlight class.
+     * @param copier  Creates an independent copy of a loaded value.
+     * @param metrics The statistics of the cache or lookup the loads belong to.
+     */
+    public SingleFlight(UnaryOperator<V> copier, CacheMetrics metrics) {
+        this.copier = copier;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Loads the value for a key, joining the load already running for it if there is one.
+     *
+     * @param key    The ID of the entity.
+     * @param loader Reads the entity from the database.
+     * @return The loaded value; a caller that joined another's load gets a copy.
+     */
+    public V load(String key, Function<String, V> loader) {
+        if (key == null) {
+            return loader.apply(null);
+        }
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, load);
+        if (running != null) {
+            metrics.recordCoalesced();
+            return copyOf(await(running));
+        }
+        try {
+            V value = loader.apply(key);
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    /**
+     * Stops later lookups of a key from joining the load running for it, after the caller has written the entity.
+     * The running load may have read the row before the write, so only callers already waiting for it get its result.
+     *
+     * @param key The ID of the entity.
+     */
+    public void forget(String key) {
+        if (key != null) {
+            inFlight.remove(key);
+        }
+    }
+
+    /**
+     * Stops later lookups of the matching keys from joining the loads running for them.
+     *
+     * @param keys Selects the keys to forget.
+     */
+    public void forgetIf(Predicate<String> keys) {
+        inFlight.keySet().removeIf(keys);
+    }
+
+    private V copyOf(V value) {
+        return value == null ? null : copier.apply(value);
+    }
+
+    /**
+     * Waits for another caller's load, rethrowing its failure unwrapped.
+     */
+    private static <V> V await(CompletableFuture<V> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
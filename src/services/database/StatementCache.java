@@ -0,0 +1,212 @@
+package services.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Least-recently-used cache of prepared statements belonging to one pooled connection.
+ * Statements are keyed by their SQL text, so each hot DAO statement is prepared on the server
+ * once per connection instead of once per call. Closing a statement handed out by the cache
+ * returns it to the cache instead of closing it.
+ * Author: Ghazala Anjum
+ */
+class StatementCache {
+    private final Connection physical;
+    private final int maxSize;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final AtomicLong evictions;
+    private final LinkedHashMap<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Constructor for StatementCache class.
+     * @param physical  The physical connection the statements are prepared on.
+     * @param maxSize   The maximum number of statements kept prepared.
+     * @param hits      Pool-wide counter of statements served from a cache.
+     * @param misses    Pool-wide counter of statements prepared on the server.
+     * @param evictions Pool-wide counter of statements evicted from a cache.
+     */
+    StatementCache(Connection physical, int maxSize, AtomicLong hits, AtomicLong misses, AtomicLong evictions) {
+        this.physical = physical;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    /**
+     * Returns a prepared statement for the given SQL, reusing a cached one when it is not already in use.
+     *
+     * @param sql               The SQL text of the statement.
+     * @param autoGeneratedKeys Statement.RETURN_GENERATED_KEYS or Statement.NO_GENERATED_KEYS.
+     * @param owner             The logical connection returned by the statement's getConnection().
+     * @return A statement handle; closing it returns the statement to the cache.
+     * @throws SQLException if the statement cannot be prepared.
+     */
+    PreparedStatement prepare(String sql, int autoGeneratedKeys, Connection owner) throws SQLException {
+        String key = autoGeneratedKeys + ":" + sql;
+        CachedStatement cached = statements.get(key);
+        if (cached != null && !cached.inUse) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            PreparedStatement statement = physical.prepareStatement(sql, autoGeneratedKeys);
+            if (cached != null) {
+                // The cached statement is still open elsewhere on this connection; hand out an uncached one
+                return statement;
+            }
+            cached = new CachedStatement(statement);
+            statements.put(key, cached);
+            evictIfFull();
+        }
+        cached.inUse = true;
+        return cached.newHandle(owner);
+    }
+
+    /**
+     * Marks every statement as free again when the connection goes back to the pool,
+     * closing any result sets the caller left open.
+     */
+    void releaseAll() {
+        for (CachedStatement cached : statements.values()) {
+            if (cached.inUse) {
+                cached.reset();
+            }
+        }
+    }
+
+    /**
+     * Closes all cached statements.
+     */
+    void close() {
+        for (CachedStatement cached : statements.values()) {
+            closeQuietly(cached.statement);
+        }
+        statements.clear();
+    }
+
+    /**
+     * Closes least recently used statements that are not in use until the cache is within its bound.
+     */
+    private void evictIfFull() {
+        Iterator<CachedStatement> leastRecentlyUsed = statements.values().iterator();
+        while (statements.size() > maxSize && leastRecentlyUsed.hasNext()) {
+            CachedStatement cached = leastRecentlyUsed.next();
+            if (!cached.inUse) {
+                leastRecentlyUsed.remove();
+                closeQuietly(cached.statement);
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private static void closeQuietly(Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            // The statement is being discarded anyway
+        }
+    }
+
+    /**
+     * A prepared statement kept open in the cache, with the settings it was created with
+     * so that they can be restored when it is handed back.
+     */
+    private static final class CachedStatement {
+        private final PreparedStatement statement;
+        private final int defaultFetchSize;
+        private final int defaultMaxRows;
+        private ResultSet openResultSet; // Last result set produced through the current handle
+        private boolean inUse;
+        private long generation; // Incremented on every hand-out so stale handles cannot touch a reused statement
+
+        private CachedStatement(PreparedStatement statement) throws SQLException {
+            this.statement = statement;
+            this.defaultFetchSize = statement.getFetchSize();
+            this.defaultMaxRows = statement.getMaxRows();
+        }
+
+        /**
+         * Clears the parameters and per-use settings so the next caller starts from a clean statement.
+         */
+        private void reset() {
+            inUse = false;
+            try {
+                if (openResultSet != null && !openResultSet.isClosed()) {
+                    openResultSet.close();
+                }
+                openResultSet = null;
+                statement.clearParameters();
+                statement.clearWarnings();
+                if (statement.getFetchSize() != defaultFetchSize) {
+                    statement.setFetchSize(defaultFetchSize);
+                }
+                if (statement.getMaxRows() != defaultMaxRows) {
+                    statement.setMaxRows(defaultMaxRows);
+                }
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+
+        /**
+         * Creates the handle given to callers. Every call is forwarded to the cached statement
+         * except close(), which hands the statement back to the cache exactly once.
+         */
+        private PreparedStatement newHandle(Connection owner) {
+            long handleGeneration = ++generation;
+            InvocationHandler handler = new InvocationHandler() {
+                private boolean handleClosed;
+
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    switch (method.getName()) {
+                        case "close":
+                            if (!handleClosed) {
+                                handleClosed = true;
+                                if (inUse && generation == handleGeneration) {
+                                    reset();
+                                }
+                            }
+                            return null;
+                        case "isClosed":
+                            return handleClosed || generation != handleGeneration || statement.isClosed();
+                        case "getConnection":
+                            return owner;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "CachedStatement[" + statement + "]";
+                        default:
+                            if (handleClosed || generation != handleGeneration || !inUse) {
+                                throw new SQLException("Statement has already been closed.");
+                            }
+                            try {
+                                Object result = method.invoke(statement, args);
+                                if (result instanceof ResultSet) {
+                                    openResultSet = (ResultSet) result;
+                                }
+                                return result;
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                    }
+                }
+            };
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, handler);
+        }
+    }
+}
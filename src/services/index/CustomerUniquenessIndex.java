@@ -0,0 +1,132 @@
+package services.index;
+
+import entities.Customer;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * In-process index of the emails and contact numbers held by active customers, answering duplicate
+ * checks with a hash probe instead of reading the whole column. Emails are compared trimmed and
+ * case-insensitively; contact numbers are kept unboxed in a {@link LongHashSet}.
+ * Removed customers release their email and contact number. The index assumes the stored customers
+ * are already unique, which is what it enforces for new and edited ones.
+ * Author: Amisha Nakrani
+ */
+public class CustomerUniquenessIndex {
+    private final Set<String> emails = new HashSet<>(); // Normalized emails of active customers
+    private final LongHashSet contactNumbers = new LongHashSet(); // Contact numbers of active customers
+
+    /**
+     * Normalizes an email for comparison.
+     *
+     * @param email The email as entered.
+     * @return The trimmed, lower-case email, or null for null.
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Records an email and contact number as taken.
+     *
+     * @param email     The customer's email.
+     * @param contactNo The customer's contact number.
+     */
+    public synchronized void add(String email, long contactNo) {
+        if (email != null) {
+            emails.add(normalizeEmail(email));
+        }
+        contactNumbers.add(contactNo);
+    }
+
+    /**
+     * Records an active customer's email and contact number as taken. Removed customers are ignored.
+     *
+     * @param customer The customer that was added.
+     */
+    public void add(Customer customer) {
+        if (customer != null && !customer.isRemoved()) {
+            add(customer.getEmail(), customer.getContactNo());
+        }
+    }
+
+    /**
+     * Releases a customer's email and contact number.
+     *
+     * @param customer The customer as it was before being removed or edited.
+     */
+    public synchronized void remove(Customer customer) {
+        if (customer == null || customer.isRemoved()) {
+            return;
+        }
+        if (customer.getEmail() != null) {
+            emails.remove(normalizeEmail(customer.getEmail()));
+        }
+        contactNumbers.remove(customer.getContactNo());
+    }
+
+    /**
+     * Moves a customer's entries from its old values to its new ones.
+     *
+     * @param previous The customer before the edit, or null if unknown.
+     * @param updated  The customer after the edit.
+     */
+    public synchronized void replace(Customer previous, Customer updated) {
+        remove(previous);
+        add(updated);
+    }
+
+    /**
+     * Checks whether an email is held by an active customer.
+     *
+     * @param email The email to check.
+     * @return true if the email is taken.
+     */
+    public synchronized boolean containsEmail(String email) {
+        return email != null && emails.contains(normalizeEmail(email));
+    }
+
+    /**
+     * Checks whether a contact number is held by an active customer.
+     *
+     * @param contactNo The contact number to check.
+     * @return true if the contact number is taken.
+     */
+    public synchronized boolean containsContactNo(long contactNo) {
+        return contactNumbers.contains(contactNo);
+    }
+
+    /**
+     * Checks whether a customer itself holds an email, so that saving its own email is not a duplicate.
+     *
+     * @param customer The customer being edited, or null for a new customer.
+     * @param email    The email to check.
+     * @return true if the customer is active and its email matches.
+     */
+    public static boolean holdsEmail(Customer customer, String email) {
+        return customer != null && !customer.isRemoved() && email != null
+                && normalizeEmail(email).equals(normalizeEmail(customer.getEmail()));
+    }
+
+    /**
+     * Checks whether a customer itself holds a contact number, so that saving its own number is not a duplicate.
+     *
+     * @param customer  The customer being edited, or null for a new customer.
+     * @param contactNo The contact number to check.
+     * @return true if the customer is active and its contact number matches.
+     */
+    public static boolean holdsContactNo(Customer customer, long contactNo) {
+        return customer != null && !customer.isRemoved() && customer.getContactNo() == contactNo;
+    }
+
+    public synchronized int size() {
+        return emails.size();
+    }
+
+    public synchronized void clear() {
+        emails.clear();
+        contactNumbers.clear();
+    }
+}
@@ -0,0 +1,299 @@
+package services.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Typo-tolerant index that finds keys whose words are within a small edit distance of the searched words,
+ * for when an exact search finds nothing. Every distinct word is a node of a BK-tree, where each child hangs
+ * under its Levenshtein distance from the parent. By the triangle inequality a search within distance k only
+ * has to descend into the children between d - k and d + k of every node at distance d, which skips most of
+ * the tree.
+ * Matches are judged by a distance that also counts a swap of adjacent characters as one edit, so "Toyta" and
+ * "Tyoota" are both one edit from "toyota". A swap costs two Levenshtein edits, so the tree is searched one
+ * edit wider than the allowed distance, which finds every word with at most one swap among its edits.
+ * Words of up to two characters must match exactly, words of up to five may be one edit off and longer words two.
+ * A search examines at most the given number of words however large the index grows, so its latency is
+ * bounded; on a very large index the closest matches may then be missed.
+ * Author: Ghazala Anjum
+ */
+public class FuzzyIndex {
+    private final int visitBudget; // Most words one searched word is compared with
+    private final Map<String, Node> nodes = new HashMap<>(); // Node of each word
+    private final Map<String, Set<String>> wordsByKey = new HashMap<>(); // Words of each key, to take them out again
+    private Node root;
+    private int unusedNodes; // Nodes whose every key has been removed, reclaimed by rebuild()
+
+    /**
+     * Constructor for FuzzyIndex class.
+     * @param visitBudget The most words compared with each searched word, which bounds the search time.
+     */
+    public FuzzyIndex(int visitBudget) {
+        this.visitBudget = visitBudget;
+    }
+
+    /**
+     * Adds a key or replaces the fields of an existing one. Fields are split into words on white space.
+     *
+     * @param key         The key, such as a car ID.
+     * @param fieldValues The fields to search; null fields are skipped.
+     */
+    public synchronized void put(String key, String... fieldValues) {
+        remove(key);
+        Set<String> words = new LinkedHashSet<>();
+        for (String field : fieldValues) {
+            words.addAll(wordsOf(field));
+        }
+        for (String word : words) {
+            Node node = nodes.get(word);
+            if (node == null) {
+                node = insert(word);
+            } else if (node.keys.isEmpty()) {
+                unusedNodes--;
+            }
+            node.keys.add(key);
+        }
+        wordsByKey.put(key, words);
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key The key to remove.
+     */
+    public synchronized void remove(String key) {
+        Set<String> words = wordsByKey.remove(key);
+        if (words == null) {
+            return;
+        }
+        for (String word : words) {
+            Node node = nodes.get(word);
+            if (node.keys.remove(key) && node.keys.isEmpty()) {
+                unusedNodes++;
+            }
+        }
+        if (unusedNodes > nodes.size() / 2) {
+            rebuild();
+        }
+    }
+
+    public synchronized void clear() {
+        nodes.clear();
+        wordsByKey.clear();
+        root = null;
+        unusedNodes = 0;
+    }
+
+    public synchronized int size() {
+        return wordsByKey.size();
+    }
+
+    /**
+     * Finds the keys having, for every word of the query, a word within the allowed edit distance of it.
+     *
+     * @param query The words to look for.
+     * @param limit The maximum number of keys to return.
+     * @return The matching keys, closest first, then by key.
+     */
+    public synchronized List<String> search(String query, int limit) {
+        List<String> queryWords = new ArrayList<>(new LinkedHashSet<>(wordsOf(query)));
+        if (queryWords.isEmpty() || root == null) {
+            return new ArrayList<>();
+        }
+
+        // A key's distance is the sum over the query words of its closest word to each
+        Map<String, Integer> distances = null;
+        for (String queryWord : queryWords) {
+            Map<String, Integer> wordDistances = closeKeys(queryWord, maxDistanceFor(queryWord));
+            if (distances == null) {
+                distances = wordDistances;
+            } else {
+                distances.keySet().retainAll(wordDistances.keySet());
+                distances.replaceAll((key, distance) -> distance + wordDistances.get(key));
+            }
+            if (distances.isEmpty()) {
+                break;
+            }
+        }
+
+        List<Map.Entry<String, Integer>> matches = new ArrayList<>(distances.entrySet());
+        matches.sort(Map.Entry.<String, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+        List<String> result = new ArrayList<>(Math.min(matches.size(), Math.max(0, limit)));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            result.add(matches.get(i).getKey());
+        }
+        return result;
+    }
+
+    /**
+     * Get the edit distance allowed for a searched word.
+     *
+     * @param word The normalized word.
+     * @return 0 for up to two characters, 1 for up to five, 2 for longer words.
+     */
+    public static int maxDistanceFor(String word) {
+        return word.length() <= 2 ? 0 : word.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Computes the edit distance between two words, counting a swap of adjacent characters as one edit.
+     *
+     * @param left  The first word.
+     * @param right The second word.
+     * @return The number of edits turning one word into the other.
+     */
+    public static int distance(String left, String right) {
+        int[] twoBack = new int[right.length() + 1];
+        int[] previous = new int[right.length() + 1];
+        int[] current = new int[right.length() + 1];
+        for (int j = 0; j <= right.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= left.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= right.length(); j++) {
+                int cost = left.charAt(i - 1) == right.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && left.charAt(i - 1) == right.charAt(j - 2) && left.charAt(i - 2) == right.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], twoBack[j - 2] + 1);
+                }
+            }
+            int[] recycled = twoBack;
+            twoBack = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[right.length()];
+    }
+
+    /**
+     * Plain Levenshtein distance, which unlike the distance with swaps obeys the triangle inequality the tree relies on.
+     */
+    private static int levenshtein(String left, String right) {
+        int[] previous = new int[right.length() + 1];
+        int[] current = new int[right.length() + 1];
+        for (int j = 0; j <= right.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= left.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= right.length(); j++) {
+                int cost = left.charAt(i - 1) == right.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[right.length()];
+    }
+
+    /**
+     * Walks the BK-tree for the keys having a word within maxDistance of the searched word, stopping after the
+     * visit budget.
+     */
+    private Map<String, Integer> closeKeys(String queryWord, int maxDistance) {
+        Map<String, Integer> distances = new HashMap<>();
+        int radius = maxDistance + 1; // Room for one swap, which Levenshtein counts as two edits
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        for (int visited = 0; !pending.isEmpty() && visited < visitBudget; visited++) {
+            Node node = pending.pop();
+            int levenshtein = levenshtein(queryWord, node.word);
+            if (levenshtein <= radius && !node.keys.isEmpty()) {
+                int distance = levenshtein <= maxDistance ? levenshtein : distance(queryWord, node.word);
+                if (distance <= maxDistance) {
+                    for (String key : node.keys) {
+                        distances.merge(key, distance, Math::min);
+                    }
+                }
+            }
+            // Push the farthest subtrees first, so the ones nearest the searched word are popped first and are
+            // not the ones left unvisited when the budget runs out
+            for (int offset = radius; offset >= 0; offset--) {
+                pushChild(pending, node, levenshtein + offset);
+                if (offset > 0) {
+                    pushChild(pending, node, levenshtein - offset);
+                }
+            }
+        }
+        return distances;
+    }
+
+    private static void pushChild(Deque<Node> pending, Node node, int distance) {
+        if (distance >= 0 && distance < node.children.length && node.children[distance] != null) {
+            pending.push(node.children[distance]);
+        }
+    }
+
+    private Node insert(String word) {
+        Node added = new Node(word);
+        nodes.put(word, added);
+        if (root == null) {
+            root = added;
+            return added;
+        }
+        Node node = root;
+        while (true) {
+            int distance = levenshtein(word, node.word);
+            if (distance >= node.children.length) {
+                node.children = Arrays.copyOf(node.children, distance + 1);
+            }
+            if (node.children[distance] == null) {
+                node.children[distance] = added;
+                return added;
+            }
+            node = node.children[distance];
+        }
+    }
+
+    /**
+     * Rebuilds the tree from the words still in use once more than half of the nodes have no keys left.
+     */
+    private void rebuild() {
+        Map<String, Set<String>> keysByWord = new HashMap<>();
+        for (Node node : nodes.values()) {
+            if (!node.keys.isEmpty()) {
+                keysByWord.put(node.word, node.keys);
+            }
+        }
+        nodes.clear();
+        root = null;
+        unusedNodes = 0;
+        keysByWord.forEach((word, keys) -> insert(word).keys.addAll(keys));
+    }
+
+    private static List<String> wordsOf(String text) {
+        List<String> words = new ArrayList<>();
+        if (text != null) {
+            for (String word : text.toLowerCase(Locale.ROOT).trim().split("\\s+")) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+
+    /**
+     * One distinct word, the keys having it, and the subtrees by their distance from it.
+     */
+    private static final class Node {
+        private final String word;
+        private final Set<String> keys = new HashSet<>();
+        private Node[] children = new Node[0];
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+}
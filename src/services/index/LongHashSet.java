@@ -0,0 +1,150 @@
+package services.index;
+
+/**
+ * Set of primitive long values backed by a single open-addressing array, so each value costs
+ * 8 bytes of table space instead of a boxed Long and a list or hash map entry.
+ * Not thread-safe; callers synchronize access.
+ * Author: Ghazala Anjum
+ */
+public class LongHashSet {
+    private static final long EMPTY = 0L; // Marks a free slot; the value 0 itself is tracked by hasZero
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] table;
+    private int size; // Non-zero values stored in the table
+    private boolean hasZero;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Constructor for LongHashSet class.
+     * @param expectedSize The number of values the set should hold without resizing.
+     */
+    public LongHashSet(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * 2 / 3 < expectedSize) {
+            capacity <<= 1;
+        }
+        table = new long[capacity];
+    }
+
+    /**
+     * Adds a value to the set.
+     *
+     * @param value The value to add.
+     * @return true if the value was not already present.
+     */
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            boolean added = !hasZero;
+            hasZero = true;
+            return added;
+        }
+        int mask = table.length - 1;
+        int slot = slot(value, mask);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+        if (++size > table.length * 2 / 3) {
+            resize(table.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a value is in the set.
+     *
+     * @param value The value to look for.
+     * @return true if the value is present.
+     */
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return hasZero;
+        }
+        int mask = table.length - 1;
+        int slot = slot(value, mask);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Removes a value from the set.
+     *
+     * @param value The value to remove.
+     * @return true if the value was present.
+     */
+    public boolean remove(long value) {
+        if (value == EMPTY) {
+            boolean removed = hasZero;
+            hasZero = false;
+            return removed;
+        }
+        int mask = table.length - 1;
+        int slot = slot(value, mask);
+        while (table[slot] != value) {
+            if (table[slot] == EMPTY) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        // Shift later entries of the probe run back so that lookups never stop early at the freed slot
+        int free = slot;
+        int next = (free + 1) & mask;
+        while (table[next] != EMPTY) {
+            int home = slot(table[next], mask);
+            boolean movable = free <= next ? (home <= free || home > next) : (home <= free && home > next);
+            if (movable) {
+                table[free] = table[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[free] = EMPTY;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size + (hasZero ? 1 : 0);
+    }
+
+    public void clear() {
+        table = new long[MIN_CAPACITY];
+        size = 0;
+        hasZero = false;
+    }
+
+    private void resize(int capacity) {
+        long[] old = table;
+        table = new long[capacity];
+        int mask = capacity - 1;
+        for (long value : old) {
+            if (value != EMPTY) {
+                int slot = slot(value, mask);
+                while (table[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = value;
+            }
+        }
+    }
+
+    /**
+     * Spreads the bits of a value over the table so that sequential numbers do not cluster.
+     */
+    private static int slot(long value, int mask) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
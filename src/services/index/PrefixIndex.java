@@ -0,0 +1,216 @@
+package services.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Sorted-array prefix index for type-ahead searches over a few short text fields per key, such as names.
+ * Each field is indexed from its start and from the start of every word inside it, where a word begins
+ * after a character that is not a letter or digit or where letters change to digits, so "smith" finds
+ * "john.smith@example.com" and "0042" finds "EMP0042". A search is a binary search to the first term with
+ * the prefix followed by a scan of the terms sharing it.
+ * The terms are held in one array that is replaced, never modified, on every change, so searches run
+ * without locking while writes, which are rare, pay for the copy.
+ * Results are ranked: a field equal to the search before a field starting with it before a word inside a
+ * field starting with it, an earlier field before a later one, and then by key.
+ * Author: Ghazala Anjum
+ */
+public class PrefixIndex {
+    private static final Comparator<Term> ORDER = PrefixIndex::compare;
+
+    private final Map<String, Term[]> termsByKey = new HashMap<>(); // Terms of each key, to take them out again; guarded by this
+    private volatile Term[] terms = new Term[0]; // Every term sorted by text, replaced on each change
+
+    /**
+     * Normalizes text the way the index compares it.
+     *
+     * @param text The text as stored or entered.
+     * @return The trimmed, lower-case text, or an empty string for null.
+     */
+    public static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds a key or replaces the fields of an existing one.
+     *
+     * @param key         The key, such as an employee ID.
+     * @param fieldValues The fields to search, in ranking order; null fields are skipped.
+     */
+    public synchronized void put(String key, String... fieldValues) {
+        Term[] added = termsOf(key, fieldValues);
+        Term[] previous = termsByKey.put(key, added);
+        terms = replace(terms, previous == null ? new Term[0] : previous, added);
+    }
+
+    /**
+     * Replaces the whole index with the given keys, sorting once instead of once per key.
+     *
+     * @param fieldsByKey The fields of every key, in ranking order.
+     */
+    public synchronized void load(Map<String, String[]> fieldsByKey) {
+        termsByKey.clear();
+        List<Term> all = new ArrayList<>();
+        for (Map.Entry<String, String[]> entry : fieldsByKey.entrySet()) {
+            Term[] keyTerms = termsOf(entry.getKey(), entry.getValue());
+            termsByKey.put(entry.getKey(), keyTerms);
+            all.addAll(Arrays.asList(keyTerms));
+        }
+        Term[] sorted = all.toArray(new Term[0]);
+        Arrays.sort(sorted, ORDER);
+        terms = sorted;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key The key to remove.
+     */
+    public synchronized void remove(String key) {
+        Term[] previous = termsByKey.remove(key);
+        if (previous != null) {
+            terms = replace(terms, previous, new Term[0]);
+        }
+    }
+
+    public synchronized void clear() {
+        termsByKey.clear();
+        terms = new Term[0];
+    }
+
+    public synchronized int size() {
+        return termsByKey.size();
+    }
+
+    /**
+     * Finds the best keys with a field or a word in a field starting with the prefix, ignoring case.
+     *
+     * @param prefix The prefix to search for; empty matches every key.
+     * @param limit  The maximum number of keys to return.
+     * @return The keys of the best matches, best first.
+     */
+    public List<String> search(String prefix, int limit) {
+        Term[] snapshot = terms;
+        String normalized = normalize(prefix);
+
+        Map<String, Integer> bestRanks = new HashMap<>();
+        for (int i = lowerBound(snapshot, normalized); i < snapshot.length && snapshot[i].text().startsWith(normalized); i++) {
+            Term term = snapshot[i];
+            int quality = term.wordStart() ? 2 : term.text().length() == normalized.length() ? 0 : 1;
+            bestRanks.merge(term.key(), quality << 16 | term.field(), Math::min);
+        }
+
+        List<Map.Entry<String, Integer>> matches = new ArrayList<>(bestRanks.entrySet());
+        matches.sort(Map.Entry.<String, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+        List<String> result = new ArrayList<>(Math.min(matches.size(), Math.max(0, limit)));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            result.add(matches.get(i).getKey());
+        }
+        return result;
+    }
+
+    /**
+     * Builds the sorted terms of one key: each field from its start and from the start of every word in it.
+     */
+    private static Term[] termsOf(String key, String[] fieldValues) {
+        List<Term> keyTerms = new ArrayList<>();
+        for (int field = 0; field < fieldValues.length; field++) {
+            String text = normalize(fieldValues[field]);
+            if (text.isEmpty()) {
+                continue;
+            }
+            keyTerms.add(new Term(text, key, field, false));
+            for (int i = 1; i < text.length(); i++) {
+                if (startsWord(text, i)) {
+                    keyTerms.add(new Term(text.substring(i), key, field, true));
+                }
+            }
+        }
+        keyTerms.sort(ORDER);
+
+        // Keep one term per text, the best ranked, so every term in the index is unique
+        List<Term> unique = new ArrayList<>(keyTerms.size());
+        for (Term term : keyTerms) {
+            Term last = unique.isEmpty() ? null : unique.get(unique.size() - 1);
+            if (last == null || !last.text().equals(term.text())) {
+                unique.add(term);
+            } else if (term.wordStart() == last.wordStart() ? term.field() < last.field() : !term.wordStart()) {
+                unique.set(unique.size() - 1, term);
+            }
+        }
+        return unique.toArray(new Term[0]);
+    }
+
+    private static boolean startsWord(String text, int i) {
+        char current = text.charAt(i);
+        char before = text.charAt(i - 1);
+        if (!Character.isLetterOrDigit(current)) {
+            return false;
+        }
+        return !Character.isLetterOrDigit(before) || (Character.isDigit(current) && Character.isLetter(before));
+    }
+
+    /**
+     * Copies the sorted terms with some taken out and others put in. Each position is found by binary search
+     * and the runs in between are copied whole, so a change costs one array copy rather than a comparison per term.
+     */
+    private static Term[] replace(Term[] from, Term[] removed, Term[] added) {
+        Term[] result = new Term[from.length - removed.length + added.length];
+        int source = 0;
+        int target = 0;
+        int r = 0;
+        int a = 0;
+        while (r < removed.length || a < added.length) {
+            int removeAt = r < removed.length ? Arrays.binarySearch(from, removed[r], ORDER) : Integer.MAX_VALUE;
+            int insertAt = a < added.length ? -Arrays.binarySearch(from, added[a], ORDER) - 1 : Integer.MAX_VALUE;
+            if (insertAt < 0) {
+                insertAt = -insertAt - 1; // The same term is already there, so it is being removed as well
+            }
+            int until = Math.min(removeAt, insertAt);
+            System.arraycopy(from, source, result, target, until - source);
+            target += until - source;
+            source = until;
+            if (insertAt <= removeAt) {
+                result[target++] = added[a++];
+            } else {
+                source++;
+                r++;
+            }
+        }
+        System.arraycopy(from, source, result, target, from.length - source);
+        return result;
+    }
+
+    private static int compare(Term left, Term right) {
+        int byText = left.text().compareTo(right.text());
+        return byText != 0 ? byText : left.key().compareTo(right.key());
+    }
+
+    /**
+     * Binary search for the first term not sorting before the prefix.
+     */
+    private static int lowerBound(Term[] sorted, String prefix) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].text().compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * One indexed text: a whole field, or the rest of a field from the start of a word inside it.
+     */
+    private record Term(String text, String key, int field, boolean wordStart) {
+    }
+}
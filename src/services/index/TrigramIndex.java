@@ -0,0 +1,295 @@
+package services.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * In-memory trigram inverted index for case-insensitive substring searches over a few text fields per key.
+ * Every run of three characters in a field maps to the sorted list of documents containing it. A search
+ * intersects the lists of the term's trigrams, shortest first, and checks only the remaining candidates
+ * against their fields, so its cost follows the rarest trigram rather than the number of documents.
+ * Terms shorter than three characters have no trigram to narrow by and are checked against every document.
+ * Results are ranked: an exact field match before a field starting with the term before any other
+ * substring, an earlier field before a later one, and then by key.
+ * Author: Ghazala Anjum
+ */
+public class TrigramIndex {
+    private static final int GRAM = 3;
+    private static final int MIN_DOCUMENTS_TO_COMPACT = 64;
+
+    private final Map<Long, Postings> postings = new HashMap<>(); // Documents containing each trigram
+    private final Map<String, Integer> documentIds = new HashMap<>(); // Document ID of each key
+    private final List<String> keys = new ArrayList<>(); // Key of each document ID, null once removed
+    private final List<String[]> fields = new ArrayList<>(); // Normalized fields of each document ID, null once removed
+    private int removedDocuments; // Document IDs freed by removals, reclaimed by compact()
+
+    /**
+     * Normalizes text the way the index compares it.
+     *
+     * @param text The text as stored or entered.
+     * @return The lower-case text, or an empty string for null.
+     */
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds a document or replaces the fields of an existing one.
+     *
+     * @param key         The key of the document, such as a car ID.
+     * @param fieldValues The fields to search, in ranking order; null fields are indexed as empty.
+     */
+    public synchronized void put(String key, String... fieldValues) {
+        String[] normalized = new String[fieldValues.length];
+        for (int i = 0; i < fieldValues.length; i++) {
+            normalized[i] = normalize(fieldValues[i]);
+        }
+
+        Integer existing = documentIds.get(key);
+        int documentId;
+        if (existing != null) {
+            documentId = existing;
+            unindex(documentId, fields.get(documentId));
+            fields.set(documentId, normalized);
+        } else {
+            documentId = keys.size();
+            documentIds.put(key, documentId);
+            keys.add(key);
+            fields.add(normalized);
+        }
+        for (String field : normalized) {
+            for (int i = 0; i + GRAM <= field.length(); i++) {
+                postings.computeIfAbsent(trigram(field, i), trigram -> new Postings()).add(documentId);
+            }
+        }
+    }
+
+    /**
+     * Removes a document.
+     *
+     * @param key The key of the document.
+     */
+    public synchronized void remove(String key) {
+        Integer documentId = documentIds.remove(key);
+        if (documentId == null) {
+            return;
+        }
+        unindex(documentId, fields.get(documentId));
+        keys.set(documentId, null);
+        fields.set(documentId, null);
+        removedDocuments++;
+        if (removedDocuments >= MIN_DOCUMENTS_TO_COMPACT && removedDocuments * 2 > keys.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Removes every document.
+     */
+    public synchronized void clear() {
+        postings.clear();
+        documentIds.clear();
+        keys.clear();
+        fields.clear();
+        removedDocuments = 0;
+    }
+
+    public synchronized int size() {
+        return documentIds.size();
+    }
+
+    /**
+     * Finds every document with a field containing the term, ignoring case.
+     *
+     * @param term The term to search for; null or empty matches every document.
+     * @return The keys of the matching documents, best match first.
+     */
+    public List<String> search(String term) {
+        return search(term, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Finds the best documents with a field containing the term, ignoring case.
+     *
+     * @param term  The term to search for; null or empty matches every document.
+     * @param limit The maximum number of keys to return.
+     * @return The keys of the matching documents, best match first.
+     */
+    public synchronized List<String> search(String term, int limit) {
+        String normalized = normalize(term);
+        int[] candidates = candidatesOf(normalized);
+        int candidateCount = candidates == null ? keys.size() : candidates.length;
+
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < candidateCount; i++) {
+            int documentId = candidates == null ? i : candidates[i];
+            String[] documentFields = fields.get(documentId);
+            if (documentFields == null) {
+                continue;
+            }
+            int rank = rankOf(documentFields, normalized);
+            if (rank >= 0) {
+                matches.add(new Match(keys.get(documentId), rank));
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::rank).thenComparing(Match::key));
+
+        List<String> result = new ArrayList<>(Math.min(matches.size(), Math.max(0, limit)));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            result.add(matches.get(i).key());
+        }
+        return result;
+    }
+
+    /**
+     * Intersects the posting lists of the term's trigrams, starting from the shortest.
+     *
+     * @return The IDs of the documents holding every trigram of the term, or null if the term is too short to have any.
+     */
+    private int[] candidatesOf(String term) {
+        if (term.length() < GRAM) {
+            return null;
+        }
+        List<Postings> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM <= term.length(); i++) {
+            Postings list = postings.get(trigram(term, i));
+            if (list == null) {
+                return new int[0]; // No document has this trigram, so none can contain the term
+            }
+            if (!lists.contains(list)) {
+                lists.add(list);
+            }
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        Postings shortest = lists.get(0);
+        int[] candidates = Arrays.copyOf(shortest.ids, shortest.size);
+        int count = candidates.length;
+        for (int l = 1; l < lists.size() && count > 0; l++) {
+            Postings list = lists.get(l);
+            int kept = 0;
+            int from = 0;
+            for (int c = 0; c < count; c++) {
+                // Candidates are ascending, so each lookup continues from where the previous one stopped
+                int position = Arrays.binarySearch(list.ids, from, list.size, candidates[c]);
+                if (position >= 0) {
+                    candidates[kept++] = candidates[c];
+                    from = position + 1;
+                } else {
+                    from = -position - 1;
+                }
+            }
+            count = kept;
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * Ranks how well a document matches: lower is better, and negative means it does not match at all.
+     */
+    private static int rankOf(String[] documentFields, String term) {
+        int best = -1;
+        for (int f = 0; f < documentFields.length; f++) {
+            String field = documentFields[f];
+            int quality;
+            if (field.equals(term)) {
+                quality = 0;
+            } else if (field.startsWith(term)) {
+                quality = 1;
+            } else if (field.contains(term)) {
+                quality = 2;
+            } else {
+                continue;
+            }
+            int rank = quality * documentFields.length + f;
+            if (best < 0 || rank < best) {
+                best = rank;
+            }
+        }
+        return best;
+    }
+
+    private void unindex(int documentId, String[] documentFields) {
+        for (String field : documentFields) {
+            for (int i = 0; i + GRAM <= field.length(); i++) {
+                long trigram = trigram(field, i);
+                Postings list = postings.get(trigram);
+                if (list != null && list.remove(documentId) && list.size == 0) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Renumbers the documents once more than half of the document IDs have been freed by removals.
+     */
+    private void compact() {
+        List<String> liveKeys = new ArrayList<>(documentIds.size());
+        List<String[]> liveFields = new ArrayList<>(documentIds.size());
+        for (int i = 0; i < keys.size(); i++) {
+            if (keys.get(i) != null) {
+                liveKeys.add(keys.get(i));
+                liveFields.add(fields.get(i));
+            }
+        }
+        clear();
+        for (int i = 0; i < liveKeys.size(); i++) {
+            put(liveKeys.get(i), liveFields.get(i));
+        }
+    }
+
+    /**
+     * Packs three characters into one long, so a trigram is looked up without building a string.
+     */
+    private static long trigram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+
+    private record Match(String key, int rank) {
+    }
+
+    /**
+     * Ascending list of the document IDs containing one trigram.
+     */
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int documentId) {
+            if (size > 0 && ids[size - 1] >= documentId) {
+                int position = Arrays.binarySearch(ids, 0, size, documentId);
+                if (position >= 0) {
+                    return; // The trigram occurs more than once in the document
+                }
+                insertAt(-position - 1, documentId);
+            } else {
+                insertAt(size, documentId); // New documents get the highest ID, so this is the usual case
+            }
+        }
+
+        boolean remove(int documentId) {
+            int position = Arrays.binarySearch(ids, 0, size, documentId);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        private void insertAt(int position, int documentId) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = documentId;
+            size++;
+        }
+    }
+}
@@ -3,11 +3,10 @@ package services.login;
 import entities.Customer;
 import entities.Employee;
 import input.LoginInputAndValidationService;
-import services.database.CustomerDAO;
-import services.database.EmployeeDAO;
 import services.menu.LoginMenu;
 import services.menu.MainMenu;
 import services.password.PasswordHasher;
+import services.repository.Repositories;
 
 import java.util.Scanner;
 
@@ -28,7 +27,7 @@ public class LoginService {
 
         if (verifyCustomer(id, password)) {
             System.out.println("Login successful as Customer.");
-            Customer customer = CustomerDAO.getCustomerById(id);
+            Customer customer = Repositories.customers().getCustomerById(id);
             MainMenu.handleCustomerMenu(customer);
         } else {
             System.out.println("Invalid id or password.");
@@ -47,7 +46,7 @@ public class LoginService {
 
         if (verifyEmployee(id, password)) {
             System.out.println("Login successful as Employee.");
-            Employee employee = EmployeeDAO.getEmployeeById(id);
+            Employee employee = Repositories.employees().getEmployeeById(id);
             if (employee.isManager()) {
                 MainMenu.handleManagerMenu(employee);
             } else {
@@ -67,7 +66,7 @@ public class LoginService {
      * @return True if credentials are valid, false otherwise.
      */
     public static boolean verifyCustomer(String id, String password) {
-        Customer customer = CustomerDAO.getCustomerById(id);
+        Customer customer = Repositories.customers().getCustomerById(id);
         if (customer != null && !customer.isRemoved()) {
             String storedPassword = customer.getPassword();
             return PasswordHasher.verifyPassword(password, storedPassword);
@@ -84,7 +83,7 @@ public class LoginService {
      * @return True if credentials are valid, false otherwise.
      */
     public static boolean verifyEmployee(String id, String password) {
-        Employee employee = EmployeeDAO.getEmployeeById(id);
+        Employee employee = Repositories.employees().getEmployeeById(id);
         if (employee != null && !employee.isRemoved()) {
             String storedPassword = employee.getPassword();
             return PasswordHasher.verifyPassword(password, storedPassword);
@@ -101,7 +100,7 @@ public class LoginService {
      * @return The employee object if credentials are valid, null otherwise.
      */
     public Employee verifyAndReturnEmployee(String id, String password) {
-        Employee employee = EmployeeDAO.getEmployeeById(id);
+        Employee employee = Repositories.employees().getEmployeeById(id);
         String storedPassword = employee.getPassword();
         if (PasswordHasher.verifyPassword(password, storedPassword)) {
             return employee;
@@ -34,8 +34,9 @@ public class CarMenu {
         System.out.println("Customer Car Menu:");
         System.out.println("1. Search Car");
         System.out.println("2. Display Cars");
-        System.out.println("3. Main Menu");
-        System.out.println("4. Exit");
+        System.out.println("3. Filter Cars");
+        System.out.println("4. Main Menu");
+        System.out.println("5. Exit");
     }
 
     /**
@@ -158,10 +159,15 @@ public class CarMenu {
                     validChoice = true;
                     break;
                 case 3:
+                    CarDashboardService.filterCars();
                     MainMenu.handleCustomerMenu(customer);
                     validChoice = true;
                     break;
                 case 4:
+                    MainMenu.handleCustomerMenu(customer);
+                    validChoice = true;
+                    break;
+                case 5:
                     MainMenu.exitApplication();
                     break;
                 default:
@@ -4,6 +4,7 @@ import entities.Customer;
 import entities.Employee;
 import resource.ScannerManager;
 import services.dashboards.FinanceDashboardService;
+import services.dashboards.SystemDiagnosticsDashboardService;
 
 import java.util.Scanner;
 
@@ -51,7 +52,8 @@ public class MainMenu {
         System.out.println("5. Booking and Return Dashboard");
         System.out.println("6. Fleet Maintenance");
         System.out.println("7. Finance Report");
-        System.out.println("8. Exit");
+        System.out.println("8. System Diagnostics");
+        System.out.println("9. Exit");
     }
 
     /**
@@ -203,6 +205,12 @@ public class MainMenu {
                     validChoice = true;
                     break;
                 case 8:
+                    // Only managers reach this menu, but the statistics are checked again since they expose internals
+                    if (employee.isManager()) {
+                        SystemDiagnosticsDashboardService.displayDiagnostics();
+                    }
+                    break;
+                case 9:
                     exitApplication();
                     validChoice = true;
                     break;
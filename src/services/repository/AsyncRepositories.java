@@ -0,0 +1,89 @@
+package services.repository;
+
+import entities.Booking;
+import entities.Car;
+import entities.Customer;
+import entities.Employee;
+import services.database.DatabasePropertiesLoader;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous facade over {@link Repositories}. Each call runs on a background thread and returns a
+ * CompletableFuture, so screens can issue independent lookups together instead of one after another.
+ * The pool has db.async.maxConcurrency threads, which caps how many calls reach the database at the same time;
+ * calls over the cap wait in the pool's queue, in order, never on the console thread.
+ * Author: Ghazala Anjum
+ */
+public class AsyncRepositories {
+    private static final int MAX_CONCURRENCY = DatabasePropertiesLoader.getConfiguration().getAsyncMaxConcurrency();
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger(); // Numbers the pool's threads
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(MAX_CONCURRENCY, MAX_CONCURRENCY,
+            0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                // Daemon threads, so pending lookups never keep the application from exiting
+                Thread thread = new Thread(runnable, "async-repository-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * Runs a repository call on the next free pool thread.
+     *
+     * @param call The repository call to run.
+     * @param <T>  The type of the call's result.
+     * @return A future completed with the call's result, or exceptionally if the call throws.
+     */
+    public static <T> CompletableFuture<T> supply(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, EXECUTOR);
+    }
+
+    /**
+     * Runs a repository call without a result on the next free pool thread.
+     *
+     * @param call The repository call to run.
+     * @return A future completed when the call returns, or exceptionally if the call throws.
+     */
+    public static CompletableFuture<Void> run(Runnable call) {
+        return supply(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public static CompletableFuture<Car> getCarById(String carId) {
+        return supply(() -> Repositories.cars().getCarById(carId));
+    }
+
+    public static CompletableFuture<Customer> getCustomerById(String customerId) {
+        return supply(() -> Repositories.customers().getCustomerById(customerId));
+    }
+
+    public static CompletableFuture<Employee> getEmployeeById(String employeeId) {
+        return supply(() -> Repositories.employees().getEmployeeById(employeeId));
+    }
+
+    public static CompletableFuture<Booking> getBookingById(String bookingId) {
+        return supply(() -> Repositories.bookings().getBookingById(bookingId));
+    }
+
+    /**
+     * Get the configured limit on concurrent calls.
+     * @return The value of db.async.maxConcurrency.
+     */
+    public static int getMaxConcurrency() {
+        return MAX_CONCURRENCY;
+    }
+
+    /**
+     * Get the number of calls currently waiting for a free thread.
+     * @return An estimate of the calls queued behind the concurrency cap.
+     */
+    public static int getQueuedCalls() {
+        return EXECUTOR.getQueue().size();
+    }
+}
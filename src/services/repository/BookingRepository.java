@@ -0,0 +1,142 @@
+package services.repository;
+
+import entities.Booking;
+import entities.BookingListingView;
+import entities.FinanceBookingView;
+import entities.FinanceSummary;
+import services.database.Page;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Storage-independent access to bookings. Implemented over SQL Server by {@link JdbcBookingRepository}
+ * and in process memory by {@link InMemoryBookingRepository}.
+ * Author: Amisha Nakrani
+ */
+public interface BookingRepository {
+
+    /**
+     * Retrieves all bookings.
+     *
+     * @return A list of all bookings.
+     */
+    List<Booking> displayBookings();
+
+    /**
+     * Adds a new booking and marks its car as unavailable as one atomic change.
+     * The booking ID is assigned by the repository.
+     *
+     * @param booking The booking object to be added.
+     * @return true if the booking was added, false if the car was no longer available or the write failed.
+     */
+    boolean addBooking(Booking booking);
+
+    /**
+     * Updates the return date of a booking when the car is returned, and marks the car as available
+     * again as one atomic change.
+     *
+     * @param booking    The booking for which the return date is to be updated.
+     * @param returnDate The date the car was returned.
+     * @return true if the return date was updated.
+     */
+    boolean returnCar(Booking booking, Date returnDate);
+
+    /**
+     * Cancels a booking by updating its cancellation date, and marks the car as available again
+     * as one atomic change.
+     *
+     * @param booking          The booking to be canceled.
+     * @param cancellationDate The date when the booking was canceled.
+     * @return true if the cancellation date was updated.
+     */
+    boolean cancelBooking(Booking booking, Date cancellationDate);
+
+    /**
+     * Retrieves a booking by its unique identifier.
+     *
+     * @param bookingId The unique identifier of the booking to retrieve.
+     * @return The booking object if found, or null if not found.
+     */
+    Booking getBookingById(String bookingId);
+
+    /**
+     * Checks whether a booking with the given ID exists without reading every ID.
+     *
+     * @param bookingId The ID to look for.
+     * @return true if a booking with the ID exists.
+     */
+    boolean bookingExists(String bookingId);
+
+    /**
+     * Retrieves one page of the booking listing view ordered by booking ID, starting after the given booking ID.
+     *
+     * @param afterBookingId The last booking ID of the previous page, or null for the first page.
+     * @param pageSize       The maximum number of bookings on the page.
+     * @return The page of booking listings.
+     */
+    Page<BookingListingView> getBookingListingsPage(String afterBookingId, int pageSize);
+
+    /**
+     * Streams the booking listing view of all bookings associated with a specific customer.
+     *
+     * @param customerId The ID of the customer for whom bookings are streamed.
+     * @param action     The action to perform on each booking listing.
+     * @return The number of bookings streamed.
+     */
+    int forEachBookingListingByCustomerId(String customerId, Consumer<BookingListingView> action);
+
+    /**
+     * Totals the bookings whose return date falls within a date range (inclusive).
+     *
+     * @param startDate The start date of the return date range.
+     * @param endDate   The end date of the return date range.
+     * @return The booking count, rental days and revenue of the bookings.
+     */
+    FinanceSummary getFinanceSummaryByReturnDateRange(Date startDate, Date endDate);
+
+    /**
+     * Totals the bookings with a return date associated with a specific car.
+     *
+     * @param carId The ID of the car whose bookings are totalled.
+     * @return The booking count, rental days and revenue of the bookings.
+     */
+    FinanceSummary getReturnedFinanceSummaryByCarId(String carId);
+
+    /**
+     * Totals the bookings with a return date associated with a specific customer.
+     *
+     * @param customerId The ID of the customer whose bookings are totalled.
+     * @return The booking count, rental days and revenue of the bookings.
+     */
+    FinanceSummary getReturnedFinanceSummaryByCustomerId(String customerId);
+
+    /**
+     * Streams the finance view of the bookings whose return date falls within a date range (inclusive).
+     *
+     * @param startDate The start date of the return date range.
+     * @param endDate   The end date of the return date range.
+     * @param action    The action to perform on each finance view.
+     * @return The number of bookings streamed.
+     */
+    int forEachFinanceViewByReturnDateRange(Date startDate, Date endDate, Consumer<FinanceBookingView> action);
+
+    /**
+     * Streams the finance view of the bookings with a return date associated with a specific car.
+     *
+     * @param carId  The ID of the car for which bookings are streamed.
+     * @param action The action to perform on each finance view.
+     * @return The number of bookings streamed.
+     */
+    int forEachReturnedFinanceViewByCarId(String carId, Consumer<FinanceBookingView> action);
+
+    /**
+     * Streams the finance view of the bookings with a return date associated with a specific customer.
+     *
+     * @param customerId The ID of the customer for which bookings are streamed.
+     * @param action     The action to perform on each finance view.
+     * @return The number of bookings streamed.
+     */
+    int forEachReturnedFinanceViewByCustomerId(String customerId, Consumer<FinanceBookingView> action);
+}
@@ -0,0 +1,104 @@
+package services.repository;
+
+import entities.Car;
+import entities.FleetMaintenanceView;
+import services.database.FleetSnapshot;
+
+import java.util.List;
+
+/**
+ * Storage-independent access to cars. Implemented over SQL Server by {@link JdbcCarRepository}
+ * and in process memory by {@link InMemoryCarRepository}.
+ * Author: Aashika Vachhani
+ */
+public interface CarRepository {
+
+    /**
+     * Retrieves a car based on the provided car ID.
+     *
+     * @param carId The ID of the car to retrieve.
+     * @return The car with the specified ID, or null if not found.
+     */
+    Car getCarById(String carId);
+
+    /**
+     * Searches for cars based on a search term.
+     *
+     * @param searchTerm The term to search for in car IDs, brands, models or colors.
+     * @return A list of cars matching the search term.
+     */
+    List<Car> searchCar(String searchTerm);
+
+    /**
+     * Searches for cars with words within a small edit distance of the search term, for mistyped searches.
+     *
+     * @param searchTerm The possibly mistyped words to search for in car IDs, brands, models or colors.
+     * @return The closest matching cars, closest first.
+     */
+    List<Car> searchCarApproximate(String searchTerm);
+
+    /**
+     * Updates details of a car.
+     *
+     * @param car The car object containing the updated details.
+     */
+    void updateCar(Car car);
+
+    /**
+     * Marks a car as removed based on the provided car ID.
+     *
+     * @param carId The ID of the car to delete.
+     */
+    void deleteCar(String carId);
+
+    /**
+     * Adds a new car. The car ID is assigned by the repository.
+     *
+     * @param car The car object representing the new car to add.
+     */
+    void addNewCar(Car car);
+
+    /**
+     * Checks whether a car with the given ID exists without reading every ID.
+     *
+     * @param carId The ID to look for.
+     * @return true if a car with the ID exists, whether or not it has been removed.
+     */
+    boolean carExists(String carId);
+
+    /**
+     * Returns an immutable point-in-time view of the whole fleet, for listings that page or search
+     * through it without seeing changes made part-way through.
+     *
+     * @return The fleet snapshot.
+     */
+    FleetSnapshot getFleetSnapshot();
+
+    /**
+     * Retrieves the maintenance view of cars due for an oil change within the next 7 days.
+     *
+     * @return The maintenance views of the cars due for an oil change.
+     */
+    List<FleetMaintenanceView> getMaintenanceViewsDueForOilChange();
+
+    /**
+     * Retrieves the maintenance view of cars due for a washing within the next 7 days.
+     *
+     * @return The maintenance views of the cars due for a washing.
+     */
+    List<FleetMaintenanceView> getMaintenanceViewsDueForWashing();
+
+    /**
+     * Retrieves the maintenance view of cars due for an inspection within the next 7 days.
+     *
+     * @return The maintenance views of the cars due for an inspection.
+     */
+    List<FleetMaintenanceView> getMaintenanceViewsDueForInspection();
+
+    /**
+     * Retrieves the maintenance view of cars that are out of service.
+     *
+     * @return The maintenance views of the cars that are out of service.
+     */
+    List<FleetMaintenanceView> getOutOfServiceMaintenanceViews();
+}
@@ -0,0 +1,96 @@
+package services.repository;
+
+import entities.Customer;
+import services.database.Page;
+
+import java.util.List;
+
+/**
+ * Storage-independent access to customers. Implemented over SQL Server by {@link JdbcCustomerRepository}
+ * and in process memory by {@link InMemoryCustomerRepository}.
+ * Author: Amisha Nakrani
+ */
+public interface CustomerRepository {
+
+    /**
+     * Adds a new customer. The customer ID is assigned by the repository.
+     *
+     * @param customer The customer object to be added.
+     */
+    void addCustomer(Customer customer);
+
+    /**
+     * Marks a customer as removed based on the provided customer ID.
+     *
+     * @param customerId The ID of the customer to be removed.
+     */
+    void removeCustomer(String customerId);
+
+    /**
+     * Edits the information of an existing customer.
+     *
+     * @param customer The updated customer object.
+     */
+    void editCustomer(Customer customer);
+
+    /**
+     * Retrieves a customer based on the provided customer ID.
+     *
+     * @param customerId The ID of the customer to retrieve.
+     * @return The customer object, or null if not found.
+     */
+    Customer getCustomerById(String customerId);
+
+    /**
+     * Searches for customers based on a keyword.
+     *
+     * @param keyword The keyword to search for in customer IDs, emails, and contact numbers.
+     * @return A list of customers matching the search criteria.
+     */
+    List<Customer> searchCustomer(String keyword);
+
+    /**
+     * Searches for customers with an ID, email or contact number within a small edit distance of the keyword,
+     * for mistyped searches.
+     *
+     * @param keyword The possibly mistyped customer ID, email or contact number.
+     * @return The closest matching customers, closest first.
+     */
+    List<Customer> searchCustomerApproximate(String keyword);
+
+    /**
+     * Checks whether a customer with the given ID exists without reading every ID.
+     *
+     * @param customerId The ID to look for.
+     * @return true if a customer with the ID exists, whether or not it has been removed.
+     */
+    boolean customerExists(String customerId);
+
+    /**
+     * Checks whether an email is already held by another active customer. Emails are compared
+     * trimmed and case-insensitively.
+     *
+     * @param email      The email to check.
+     * @param customerId The customer being edited, whose own email does not count, or null for a new customer.
+     * @return true if the email would duplicate another customer's.
+     */
+    boolean isEmailInUse(String email, String customerId);
+
+    /**
+     * Checks whether a contact number is already held by another active customer.
+     *
+     * @param contactNo  The contact number to check.
+     * @param customerId The customer being edited, whose own number does not count, or null for a new customer.
+     * @return true if the contact number would duplicate another customer's.
+     */
+    boolean isContactNoInUse(long contactNo, String customerId);
+
+    /**
+     * Retrieves one page of customers ordered by customer ID, starting after the given customer ID.
+     *
+     * @param afterCustomerId The last customer ID of the previous page, or null for the first page.
+     * @param pageSize        The maximum number of customers on the page.
+     * @return The page of customers.
+     */
+    Page<Customer> getCustomersPage(String afterCustomerId, int pageSize);
+}
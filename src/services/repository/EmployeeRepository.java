@@ -0,0 +1,68 @@
+package services.repository;
+
+import entities.Employee;
+import services.database.Page;
+
+import java.util.List;
+
+/**
+ * Storage-independent access to employees. Implemented over SQL Server by {@link JdbcEmployeeRepository}
+ * and in process memory by {@link InMemoryEmployeeRepository}.
+ * Author: Arshdeep Singh
+ */
+public interface EmployeeRepository {
+
+    /**
+     * Adds a new employee. The employee ID is assigned by the repository.
+     *
+     * @param employee The employee object to be added.
+     */
+    void addEmployee(Employee employee);
+
+    /**
+     * Marks an employee as removed based on the provided employee ID.
+     *
+     * @param employeeId The ID of the employee to be removed.
+     */
+    void removeEmployee(String employeeId);
+
+    /**
+     * Edits the information of an existing employee.
+     *
+     * @param employee The updated employee object.
+     */
+    void editEmployee(Employee employee);
+
+    /**
+     * Retrieves an employee based on the provided employee ID.
+     *
+     * @param employeeId The ID of the employee to retrieve.
+     * @return The employee object, or null if not found.
+     */
+    Employee getEmployeeById(String employeeId);
+
+    /**
+     * Searches for employees based on a keyword.
+     *
+     * @param keyword The keyword to search for in employee IDs, emails, and phone numbers.
+     * @return A list of employees matching the search criteria.
+     */
+    List<Employee> searchEmployee(String keyword);
+
+    /**
+     * Checks whether an employee with the given ID exists without reading every ID.
+     *
+     * @param employeeId The ID to look for.
+     * @return true if an employee with the ID exists, whether or not it has been removed.
+     */
+    boolean employeeExists(String employeeId);
+
+    /**
+     * Retrieves one page of employees ordered by employee ID, starting after the given employee ID.
+     *
+     * @param afterEmployeeId The last employee ID of the previous page, or null for the first page.
+     * @param pageSize        The maximum number of employees on the page.
+     * @return The page of employees.
+     */
+    Page<Employee> getEmployeesPage(String afterEmployeeId, int pageSize);
+}
@@ -0,0 +1,309 @@
+package services.repository;
+
+import entities.Booking;
+import entities.BookingListingView;
+import entities.Car;
+import entities.Customer;
+import entities.Employee;
+import entities.FinanceBookingView;
+import entities.FinanceSummary;
+import services.database.Page;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Booking repository kept in process memory. Bookings are stored as rows of IDs and dates, like the
+ * Booking table, and joined with the in-memory cars, customers and employees when read.
+ * Secondary indexes on car ID, customer ID and return date answer the filtered reads without
+ * scanning every booking. The forEach reads materialize one booking at a time, so they hold no more than
+ * the matching booking IDs while streaming. Writes are serialized so a row, its index entries and the availability of its car always change together;
+ * reads take no locks.
+ * Author: Amisha Nakrani
+ */
+public class InMemoryBookingRepository implements BookingRepository {
+    private static final Predicate<BookingRow> ALL = row -> true;
+    private static final Predicate<BookingRow> RETURNED = row -> row.returnDate != null;
+
+    private final InMemoryCarRepository cars; // Joined in place of the Car table
+    private final InMemoryCustomerRepository customers; // Joined in place of the Customer table
+    private final InMemoryEmployeeRepository employees; // Joined in place of the Employee table
+
+    private final ConcurrentHashMap<String, BookingRow> bookings = new ConcurrentHashMap<>(); // Rows keyed by booking ID
+    private final ConcurrentSkipListSet<String> bookingIds = new ConcurrentSkipListSet<>(InMemorySupport.ID_ORDER); // Booking IDs in key order, for paging
+    private final ConcurrentHashMap<String, Set<String>> bookingIdsByCarId = new ConcurrentHashMap<>(); // Index on car_id
+    private final ConcurrentHashMap<String, Set<String>> bookingIdsByCustomerId = new ConcurrentHashMap<>(); // Index on customer_id
+    private final ConcurrentSkipListMap<Date, Set<String>> bookingIdsByReturnDate = new ConcurrentSkipListMap<>(); // Index on return_date
+    private final AtomicLong sequence = new AtomicLong(); // Equivalent of booking_seq
+
+    /**
+     * Constructor for InMemoryBookingRepository class.
+     * @param cars      The in-memory cars that bookings refer to.
+     * @param customers The in-memory customers that bookings refer to.
+     * @param employees The in-memory employees that bookings refer to.
+     */
+    public InMemoryBookingRepository(InMemoryCarRepository cars, InMemoryCustomerRepository customers,
+                                     InMemoryEmployeeRepository employees) {
+        this.cars = cars;
+        this.customers = customers;
+        this.employees = employees;
+    }
+
+    @Override
+    public List<Booking> displayBookings() {
+        return join(bookings.keySet(), ALL);
+    }
+
+    @Override
+    public synchronized boolean addBooking(Booking booking) {
+        if (!cars.updateAvailability(booking.getCar().getCarId(), true, false)) {
+            System.out.println("The car is no longer available for booking.");
+            return false;
+        }
+        insert(booking.getCar().getCarId(), booking.getCustomer().getCustomerId(),
+                booking.getEmployee().getEmployeeId(), booking.getBookingDate(), booking.getReturnDate(),
+                booking.getCancellationDate());
+        System.out.println("Booking added successfully.");
+        return true;
+    }
+
+    @Override
+    public synchronized boolean returnCar(Booking booking, Date returnDate) {
+        BookingRow row = bookings.get(booking.getBookingId());
+        if (row == null) {
+            System.out.println("Failed to update return date.");
+            return false;
+        }
+        unindexReturnDate(row);
+        BookingRow updated = new BookingRow(row.bookingId, row.carId, row.customerId, row.employeeId,
+                row.bookingDate, returnDate, row.cancellationDate);
+        bookings.put(updated.bookingId, updated);
+        indexReturnDate(updated);
+        cars.updateAvailability(row.carId, false, true);
+        System.out.println("Car returned successfully.");
+        return true;
+    }
+
+    @Override
+    public synchronized boolean cancelBooking(Booking booking, Date cancellationDate) {
+        BookingRow row = bookings.get(booking.getBookingId());
+        if (row == null) {
+            System.out.println("Failed to update cancellation date.");
+            return false;
+        }
+        bookings.put(row.bookingId, new BookingRow(row.bookingId, row.carId, row.customerId, row.employeeId,
+                row.bookingDate, row.returnDate, cancellationDate));
+        cars.updateAvailability(row.carId, false, true);
+        System.out.println("Booking canceled successfully.");
+        return true;
+    }
+
+    @Override
+    public Booking getBookingById(String bookingId) {
+        List<Booking> result = join(bookingId == null ? Set.of() : Set.of(bookingId), ALL);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    @Override
+    public boolean bookingExists(String bookingId) {
+        return bookingId != null && bookings.containsKey(bookingId);
+    }
+
+    @Override
+    public Page<BookingListingView> getBookingListingsPage(String afterBookingId, int pageSize) {
+        return InMemorySupport.page(bookingIds, afterBookingId, pageSize, this::listing, BookingListingView::bookingId);
+    }
+
+    @Override
+    public int forEachBookingListingByCustomerId(String customerId, Consumer<BookingListingView> action) {
+        return forEachRow(bookingIdsByCustomerId.getOrDefault(customerId, Set.of()), ALL,
+                row -> action.accept(listing(row.bookingId)));
+    }
+
+    @Override
+    public FinanceSummary getFinanceSummaryByReturnDateRange(Date startDate, Date endDate) {
+        return summarize(bookingIdsByReturnDate(startDate, endDate), ALL);
+    }
+
+    @Override
+    public FinanceSummary getReturnedFinanceSummaryByCarId(String carId) {
+        return summarize(bookingIdsByCarId.getOrDefault(carId, Set.of()), RETURNED);
+    }
+
+    @Override
+    public FinanceSummary getReturnedFinanceSummaryByCustomerId(String customerId) {
+        return summarize(bookingIdsByCustomerId.getOrDefault(customerId, Set.of()), RETURNED);
+    }
+
+    @Override
+    public int forEachFinanceViewByReturnDateRange(Date startDate, Date endDate, Consumer<FinanceBookingView> action) {
+        return forEachRow(bookingIdsByReturnDate(startDate, endDate), ALL, row -> action.accept(financeView(row)));
+    }
+
+    @Override
+    public int forEachReturnedFinanceViewByCarId(String carId, Consumer<FinanceBookingView> action) {
+        return forEachRow(bookingIdsByCarId.getOrDefault(carId, Set.of()), RETURNED, row -> action.accept(financeView(row)));
+    }
+
+    @Override
+    public int forEachReturnedFinanceViewByCustomerId(String customerId, Consumer<FinanceBookingView> action) {
+        return forEachRow(bookingIdsByCustomerId.getOrDefault(customerId, Set.of()), RETURNED,
+                row -> action.accept(financeView(row)));
+    }
+
+    /**
+     * Stores a booking row under the next generated booking ID and indexes it, without any console output.
+     *
+     * @return The generated booking ID.
+     */
+    synchronized String insert(String carId, String customerId, String employeeId, Date bookingDate,
+                               Date returnDate, Date cancellationDate) {
+        BookingRow row = new BookingRow(InMemorySupport.nextId("B", sequence), carId, customerId, employeeId,
+                bookingDate, returnDate, cancellationDate);
+        bookings.put(row.bookingId, row);
+        bookingIds.add(row.bookingId);
+        index(bookingIdsByCarId, row.carId, row.bookingId);
+        index(bookingIdsByCustomerId, row.customerId, row.bookingId);
+        indexReturnDate(row);
+        return row.bookingId;
+    }
+
+    /**
+     * Materializes the matching bookings in booking ID order, sharing one car, customer and employee
+     * instance per ID within the result like the joined database read does.
+     */
+    private List<Booking> join(Collection<String> bookingIds, Predicate<BookingRow> filter) {
+        List<Booking> result = new ArrayList<>();
+        Map<String, Car> joinedCars = new HashMap<>();
+        Map<String, Customer> joinedCustomers = new HashMap<>();
+        Map<String, Employee> joinedEmployees = new HashMap<>();
+        forEachRow(bookingIds, filter, row -> result.add(new Booking(row.bookingId,
+                joinedCars.computeIfAbsent(row.carId, cars::find),
+                joinedCustomers.computeIfAbsent(row.customerId, customers::find),
+                joinedEmployees.computeIfAbsent(row.employeeId, employees::find),
+                row.bookingDate, row.returnDate, row.cancellationDate)));
+        return result;
+    }
+
+    /**
+     * Visits the current rows of the given bookings that match the filter, in booking ID order.
+     */
+    private int forEachRow(Collection<String> bookingIds, Predicate<BookingRow> filter, Consumer<BookingRow> action) {
+        List<String> orderedIds = new ArrayList<>(bookingIds);
+        orderedIds.sort(InMemorySupport.ID_ORDER);
+
+        int count = 0;
+        for (String bookingId : orderedIds) {
+            BookingRow row = bookings.get(bookingId);
+            if (row != null && filter.test(row)) {
+                action.accept(row);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Looks up the IDs of the bookings whose return date falls within a range (inclusive) in the return date index.
+     */
+    private List<String> bookingIdsByReturnDate(Date startDate, Date endDate) {
+        List<String> bookingIds = new ArrayList<>();
+        if (startDate.compareTo(endDate) <= 0) {
+            for (Set<String> ids : bookingIdsByReturnDate.subMap(startDate, true, endDate, true).values()) {
+                bookingIds.addAll(ids);
+            }
+        }
+        return bookingIds;
+    }
+
+    /**
+     * Projects a stored booking onto its listing view, or returns null if it does not exist.
+     */
+    private BookingListingView listing(String bookingId) {
+        BookingRow row = bookings.get(bookingId);
+        return row == null ? null : new BookingListingView(row.bookingId, row.carId, row.customerId, row.employeeId,
+                row.bookingDate, row.returnDate, row.cancellationDate);
+    }
+
+    /**
+     * Projects a stored booking onto its finance view, taking the model and rental price from its car.
+     */
+    private FinanceBookingView financeView(BookingRow row) {
+        Car car = cars.find(row.carId);
+        return new FinanceBookingView(row.bookingId, car != null ? car.getModel() : null, row.customerId,
+                row.bookingDate, row.returnDate, car != null ? car.getRentalPrice() : 0.0);
+    }
+
+    /**
+     * Totals the matching bookings, the in-memory equivalent of the summary query.
+     */
+    private FinanceSummary summarize(Collection<String> bookingIds, Predicate<BookingRow> filter) {
+        int bookingCount = 0;
+        long rentalDays = 0;
+        double revenue = 0.0;
+        for (String bookingId : bookingIds) {
+            BookingRow row = bookings.get(bookingId);
+            if (row != null && filter.test(row)) {
+                FinanceBookingView booking = financeView(row);
+                bookingCount++;
+                rentalDays += booking.rentalDays();
+                revenue += booking.invoiceAmount();
+            }
+        }
+        return new FinanceSummary(bookingCount, rentalDays, revenue);
+    }
+
+    private static <K> void index(Map<K, Set<String>> index, K key, String bookingId) {
+        index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(bookingId);
+    }
+
+    private void indexReturnDate(BookingRow row) {
+        if (row.returnDate != null) {
+            index(bookingIdsByReturnDate, row.returnDate, row.bookingId);
+        }
+    }
+
+    private void unindexReturnDate(BookingRow row) {
+        if (row.returnDate != null) {
+            bookingIdsByReturnDate.computeIfPresent(row.returnDate, (date, ids) -> {
+                ids.remove(row.bookingId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * Immutable equivalent of a row in the Booking table; updates replace the row.
+     */
+    private static final class BookingRow {
+        private final String bookingId;
+        private final String carId;
+        private final String customerId;
+        private final String employeeId;
+        private final Date bookingDate;
+        private final Date returnDate;
+        private final Date cancellationDate;
+
+        private BookingRow(String bookingId, String carId, String customerId, String employeeId, Date bookingDate,
+                           Date returnDate, Date cancellationDate) {
+            this.bookingId = bookingId;
+            this.carId = carId;
+            this.customerId = customerId;
+            this.employeeId = employeeId;
+            this.bookingDate = bookingDate;
+            this.returnDate = returnDate;
+            this.cancellationDate = cancellationDate;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package services.repository;
+
+import entities.Car;
+import services.database.FleetSnapshot;
+import services.database.DatabasePropertiesLoader;
+import services.index.FuzzyIndex;
+import entities.CarStatus;
+import entities.FleetMaintenanceView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import static constants.CarRentalManagementSystemConstants.SEARCH.*;
+
+/**
+ * Car repository kept in process memory, for running the application, load tests and benchmarks
+ * without a database. Cars are stored and returned as copies, so callers can only change a stored
+ * car through {@link #updateCar(Car)}, just as with the database.
+ * Author: Aashika Vachhani
+ */
+public class InMemoryCarRepository implements CarRepository {
+    private static final int DUE_WITHIN_DAYS = 7; // Look-ahead used by the maintenance queries
+
+    private final ConcurrentHashMap<String, Car> cars = new ConcurrentHashMap<>(); // Cars keyed by car ID
+    private final AtomicLong sequence = new AtomicLong(); // Equivalent of car_seq
+    private final AtomicLong changes = new AtomicLong(); // Bumped by every write, used as the fleet snapshot version
+    private final int approximateVisitBudget = DatabasePropertiesLoader.getConfiguration()
+            .getInt(APPROXIMATE_VISIT_BUDGET, DEFAULT_APPROXIMATE_VISIT_BUDGET); // Most words a close-match search compares
+    private final int approximateLimit = DatabasePropertiesLoader.getConfiguration()
+            .getInt(APPROXIMATE_RESULT_LIMIT, DEFAULT_APPROXIMATE_RESULT_LIMIT); // Most close matches returned
+
+    @Override
+    public Car getCarById(String carId) {
+        return find(carId);
+    }
+
+    @Override
+    public List<Car> searchCar(String searchTerm) {
+        return select(car -> InMemorySupport.like(car.getCarId(), searchTerm)
+                || InMemorySupport.like(car.getBrand(), searchTerm)
+                || InMemorySupport.like(car.getModel(), searchTerm)
+                || InMemorySupport.like(car.getColor(), searchTerm));
+    }
+
+    @Override
+    public List<Car> searchCarApproximate(String searchTerm) {
+        // Indexed per call, which for the sizes kept in memory costs less than keeping an index in step with every write
+        FuzzyIndex index = new FuzzyIndex(approximateVisitBudget);
+        for (Car car : cars.values()) {
+            index.put(car.getCarId(), car.getCarId(), car.getBrand(), car.getModel(), car.getColor());
+        }
+        List<Car> matches = new ArrayList<>();
+        for (String carId : index.search(searchTerm, approximateLimit)) {
+            Car car = find(carId);
+            if (car != null) {
+                matches.add(car);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public void updateCar(Car car) {
+        cars.computeIfPresent(car.getCarId(), (carId, stored) -> new Car(car));
+        changes.incrementAndGet();
+    }
+
+    /**
+     * Moves a car from one availability to another, only while it still has the expected availability.
+     *
+     * @param carId     The ID of the car.
+     * @param expected  The availability the car must currently have.
+     * @param available The new availability.
+     * @return true if the car's availability changed.
+     */
+    boolean updateAvailability(String carId, boolean expected, boolean available) {
+        boolean[] changed = new boolean[1];
+        cars.computeIfPresent(carId, (id, stored) -> {
+            if (stored.isAvailable() != expected) {
+                return stored;
+            }
+            Car updated = new Car(stored);
+            updated.setAvailable(available);
+            changed[0] = true;
+            return updated;
+        });
+        changes.incrementAndGet();
+        return changed[0];
+    }
+
+    @Override
+    public void deleteCar(String carId) {
+        cars.computeIfPresent(carId, (id, stored) -> {
+            Car removed = new Car(stored);
+            removed.setRemoved(true);
+            return removed;
+        });
+        changes.incrementAndGet();
+    }
+
+    @Override
+    public void addNewCar(Car car) {
+        insert(car);
+        System.out.println("Car added successfully.");
+    }
+
+    @Override
+    public boolean carExists(String carId) {
+        return carId != null && cars.containsKey(carId);
+    }
+
+    @Override
+    public List<FleetMaintenanceView> getMaintenanceViewsDueForOilChange() {
+        return selectViews(car -> !car.isRemoved() && InMemorySupport.dueWithinDays(car.getNextOilChange(), DUE_WITHIN_DAYS));
+    }
+
+    @Override
+    public List<FleetMaintenanceView> getMaintenanceViewsDueForWashing() {
+        return selectViews(car -> !car.isRemoved() && InMemorySupport.dueWithinDays(car.getNextWashingDate(), DUE_WITHIN_DAYS));
+    }
+
+    @Override
+    public List<FleetMaintenanceView> getMaintenanceViewsDueForInspection() {
+        return selectViews(car -> !car.isRemoved() && InMemorySupport.dueWithinDays(car.getNextInspectionDate(), DUE_WITHIN_DAYS));
+    }
+
+    @Override
+    public List<FleetMaintenanceView> getOutOfServiceMaintenanceViews() {
+        return selectViews(car -> !car.isRemoved() && car.getCarStatus() == CarStatus.OUTOFSERVICE);
+    }
+
+    @Override
+    public FleetSnapshot getFleetSnapshot() {
+        // The cars are already in memory, so a snapshot is simply a sorted copy of them
+        return FleetSnapshot.of(changes.get(), cars.values());
+    }
+
+    /**
+     * Stores a copy of a car under the next generated car ID, without any console output.
+     *
+     * @param car The car to store.
+     * @return The generated car ID.
+     */
+    String insert(Car car) {
+        Car stored = new Car(car);
+        stored.setCarId(InMemorySupport.nextId("C", sequence));
+        cars.put(stored.getCarId(), stored);
+        changes.incrementAndGet();
+        return stored.getCarId();
+    }
+
+    /**
+     * Returns a copy of a stored car without any console output, for joining bookings.
+     *
+     * @param carId The ID of the car.
+     * @return A copy of the car, or null if not found.
+     */
+    Car find(String carId) {
+        Car stored = carId == null ? null : cars.get(carId);
+        return stored == null ? null : new Car(stored);
+    }
+
+    /**
+     * Projects the cars matching a filter onto their maintenance view, in car ID order, without copying whole cars.
+     */
+    private List<FleetMaintenanceView> selectViews(Predicate<Car> filter) {
+        List<FleetMaintenanceView> result = new ArrayList<>();
+        for (Car car : cars.values()) {
+            if (filter.test(car)) {
+                result.add(new FleetMaintenanceView(car.getCarId(), car.getBrand(), car.getModel(), car.getColor(),
+                        car.getCarStatus(), car.getLastOilChange(), car.getNextOilChange(), car.getLastInspectionDate()));
+            }
+        }
+        result.sort((a, b) -> InMemorySupport.ID_ORDER.compare(a.carId(), b.carId()));
+        return result;
+    }
+
+    /**
+     * Copies the cars matching a filter, in car ID order.
+     */
+    private List<Car> select(Predicate<Car> filter) {
+        List<Car> result = new ArrayList<>();
+        for (Car car : cars.values()) {
+            if (filter.test(car)) {
+                result.add(new Car(car));
+            }
+        }
+        result.sort((a, b) -> InMemorySupport.ID_ORDER.compare(a.getCarId(), b.getCarId()));
+        return result;
+    }
+}
@@ -0,0 +1,159 @@
+package services.repository;
+
+import entities.Customer;
+import services.database.DatabasePropertiesLoader;
+import services.database.Page;
+import services.index.CustomerUniquenessIndex;
+import services.index.FuzzyIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import static constants.CarRentalManagementSystemConstants.SEARCH.*;
+
+/**
+ * Customer repository kept in process memory. Customers are stored and returned as copies.
+ * Author: Amisha Nakrani
+ */
+public class InMemoryCustomerRepository implements CustomerRepository {
+    private final ConcurrentHashMap<String, Customer> customers = new ConcurrentHashMap<>(); // Customers keyed by customer ID
+    private final ConcurrentSkipListSet<String> customerIds = new ConcurrentSkipListSet<>(InMemorySupport.ID_ORDER); // Customer IDs in key order, for paging
+    private final AtomicLong sequence = new AtomicLong(); // Equivalent of customer_seq
+    private final CustomerUniquenessIndex uniquenessIndex = new CustomerUniquenessIndex(); // Emails and contact numbers of active customers
+    private final int approximateVisitBudget = DatabasePropertiesLoader.getConfiguration()
+            .getInt(APPROXIMATE_VISIT_BUDGET, DEFAULT_APPROXIMATE_VISIT_BUDGET); // Most words a close-match search compares
+    private final int approximateLimit = DatabasePropertiesLoader.getConfiguration()
+            .getInt(APPROXIMATE_RESULT_LIMIT, DEFAULT_APPROXIMATE_RESULT_LIMIT); // Most close matches returned
+
+    @Override
+    public void addCustomer(Customer customer) {
+        Customer added = new Customer(customer);
+        added.setRemoved(false); // Initially not removed
+        insert(added);
+        System.out.println("Customer added successfully.");
+    }
+
+    @Override
+    public void removeCustomer(String customerId) {
+        Customer removed = customers.computeIfPresent(customerId, (id, stored) -> {
+            Customer copy = new Customer(stored);
+            copy.setRemoved(true);
+            uniquenessIndex.remove(stored);
+            return copy;
+        });
+        if (removed != null) {
+            System.out.println("Customer removed successfully.");
+        } else {
+            System.out.println("No customer found with the given ID.");
+        }
+    }
+
+    @Override
+    public void editCustomer(Customer customer) {
+        Customer updated = customers.computeIfPresent(customer.getCustomerId(), (id, stored) -> {
+            uniquenessIndex.replace(stored, customer);
+            return new Customer(customer);
+        });
+        if (updated != null) {
+            System.out.println("Customer information updated successfully.");
+        } else {
+            System.out.println("No customer found with the given ID.");
+        }
+    }
+
+    @Override
+    public Customer getCustomerById(String customerId) {
+        return find(customerId);
+    }
+
+    @Override
+    public List<Customer> searchCustomer(String keyword) {
+        return select(customer -> InMemorySupport.like(customer.getCustomerId(), keyword)
+                || InMemorySupport.like(customer.getEmail(), keyword)
+                || InMemorySupport.like(String.valueOf(customer.getContactNo()), keyword));
+    }
+
+    @Override
+    public List<Customer> searchCustomerApproximate(String keyword) {
+        // Indexed per call, like the in-memory car search
+        FuzzyIndex index = new FuzzyIndex(approximateVisitBudget);
+        for (Customer customer : customers.values()) {
+            index.put(customer.getCustomerId(), customer.getCustomerId(),
+                    CustomerUniquenessIndex.normalizeEmail(customer.getEmail()), String.valueOf(customer.getContactNo()));
+        }
+        List<Customer> matches = new ArrayList<>();
+        for (String customerId : index.search(keyword, approximateLimit)) {
+            Customer customer = find(customerId);
+            if (customer != null) {
+                matches.add(customer);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean customerExists(String customerId) {
+        return customerId != null && customers.containsKey(customerId);
+    }
+
+    @Override
+    public boolean isEmailInUse(String email, String customerId) {
+        return uniquenessIndex.containsEmail(email)
+                && !CustomerUniquenessIndex.holdsEmail(customerId == null ? null : customers.get(customerId), email);
+    }
+
+    @Override
+    public boolean isContactNoInUse(long contactNo, String customerId) {
+        return uniquenessIndex.containsContactNo(contactNo)
+                && !CustomerUniquenessIndex.holdsContactNo(customerId == null ? null : customers.get(customerId), contactNo);
+    }
+
+    @Override
+    public Page<Customer> getCustomersPage(String afterCustomerId, int pageSize) {
+        return InMemorySupport.page(customerIds, afterCustomerId, pageSize, this::find, Customer::getCustomerId);
+    }
+
+    /**
+     * Stores a copy of a customer under the next generated customer ID, without any console output.
+     *
+     * @param customer The customer to store.
+     * @return The generated customer ID.
+     */
+    String insert(Customer customer) {
+        Customer stored = new Customer(customer);
+        stored.setCustomerId(InMemorySupport.nextId("CUS", sequence));
+        customers.put(stored.getCustomerId(), stored);
+        customerIds.add(stored.getCustomerId());
+        uniquenessIndex.add(stored);
+        return stored.getCustomerId();
+    }
+
+    /**
+     * Returns a copy of a stored customer without any console output, for joining bookings.
+     *
+     * @param customerId The ID of the customer.
+     * @return A copy of the customer, or null if not found.
+     */
+    Customer find(String customerId) {
+        Customer stored = customerId == null ? null : customers.get(customerId);
+        return stored == null ? null : new Customer(stored);
+    }
+
+    /**
+     * Copies the customers matching a filter, in customer ID order.
+     */
+    private List<Customer> select(Predicate<Customer> filter) {
+        List<Customer> result = new ArrayList<>();
+        for (Customer customer : customers.values()) {
+            if (filter.test(customer)) {
+                result.add(new Customer(customer));
+            }
+        }
+        result.sort((a, b) -> InMemorySupport.ID_ORDER.compare(a.getCustomerId(), b.getCustomerId()));
+        return result;
+    }
+}
@@ -0,0 +1,114 @@
+package services.repository;
+
+import entities.Employee;
+import services.database.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Employee repository kept in process memory. Employees are stored and returned as copies.
+ * Author: Arshdeep Singh
+ */
+public class InMemoryEmployeeRepository implements EmployeeRepository {
+    private final ConcurrentHashMap<String, Employee> employees = new ConcurrentHashMap<>(); // Employees keyed by employee ID
+    private final ConcurrentSkipListSet<String> employeeIds = new ConcurrentSkipListSet<>(InMemorySupport.ID_ORDER); // Employee IDs in key order, for paging
+    private final AtomicLong sequence = new AtomicLong(); // Equivalent of employee_seq
+
+    @Override
+    public void addEmployee(Employee employee) {
+        insert(employee);
+        System.out.println("Employee added successfully.");
+    }
+
+    @Override
+    public void removeEmployee(String employeeId) {
+        Employee removed = employees.computeIfPresent(employeeId, (id, stored) -> {
+            Employee copy = new Employee(stored);
+            copy.setRemoved(true);
+            return copy;
+        });
+        if (removed != null) {
+            System.out.println("Employee removed successfully.");
+        } else {
+            System.out.println("No employee found with the given ID.");
+        }
+    }
+
+    @Override
+    public void editEmployee(Employee employee) {
+        Employee updated = employees.computeIfPresent(employee.getEmployeeId(), (id, stored) -> new Employee(employee));
+        if (updated != null) {
+            System.out.println("Employee information updated successfully.");
+        } else {
+            System.out.println("No employee found with the given ID.");
+        }
+    }
+
+    @Override
+    public Employee getEmployeeById(String employeeId) {
+        return find(employeeId);
+    }
+
+    @Override
+    public List<Employee> searchEmployee(String keyword) {
+        return select(employee -> InMemorySupport.like(employee.getEmployeeId(), keyword)
+                || InMemorySupport.like(employee.getFirstName(), keyword)
+                || InMemorySupport.like(employee.getLastName(), keyword)
+                || InMemorySupport.like(employee.getEmail(), keyword)
+                || InMemorySupport.like(String.valueOf(employee.getPhoneNumber()), keyword));
+    }
+
+    @Override
+    public boolean employeeExists(String employeeId) {
+        return employeeId != null && employees.containsKey(employeeId);
+    }
+
+    @Override
+    public Page<Employee> getEmployeesPage(String afterEmployeeId, int pageSize) {
+        return InMemorySupport.page(employeeIds, afterEmployeeId, pageSize, this::find, Employee::getEmployeeId);
+    }
+
+    /**
+     * Stores a copy of an employee under the next generated employee ID, without any console output.
+     *
+     * @param employee The employee to store.
+     * @return The generated employee ID.
+     */
+    String insert(Employee employee) {
+        Employee stored = new Employee(employee);
+        stored.setEmployeeId(InMemorySupport.nextId("E", sequence));
+        employees.put(stored.getEmployeeId(), stored);
+        employeeIds.add(stored.getEmployeeId());
+        return stored.getEmployeeId();
+    }
+
+    /**
+     * Returns a copy of a stored employee without any console output, for joining bookings.
+     *
+     * @param employeeId The ID of the employee.
+     * @return A copy of the employee, or null if not found.
+     */
+    Employee find(String employeeId) {
+        Employee stored = employeeId == null ? null : employees.get(employeeId);
+        return stored == null ? null : new Employee(stored);
+    }
+
+    /**
+     * Copies the employees matching a filter, in employee ID order.
+     */
+    private List<Employee> select(Predicate<Employee> filter) {
+        List<Employee> result = new ArrayList<>();
+        for (Employee employee : employees.values()) {
+            if (filter.test(employee)) {
+                result.add(new Employee(employee));
+            }
+        }
+        result.sort((a, b) -> InMemorySupport.ID_ORDER.compare(a.getEmployeeId(), b.getEmployeeId()));
+        return result;
+    }
+}
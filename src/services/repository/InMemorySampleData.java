@@ -0,0 +1,57 @@
+package services.repository;
+
+import entities.Car;
+import entities.CarStatus;
+import entities.Customer;
+import entities.Employee;
+import entities.FuelType;
+import entities.TransmissionType;
+
+import java.sql.Date;
+
+/**
+ * Seeds the in-memory engine with the same sample rows that DataInstructions.sql inserts,
+ * so the in-memory application starts with the same logins, fleet and booking as a fresh database.
+ * Author: Ghazala Anjum
+ */
+final class InMemorySampleData {
+
+    private InMemorySampleData() {
+    }
+
+    /**
+     * Inserts the sample rows. IDs are generated by the repositories in insertion order,
+     * giving the same IDs as the database sequences.
+     */
+    static void seed(InMemoryCarRepository cars, InMemoryCustomerRepository customers,
+                     InMemoryEmployeeRepository employees, InMemoryBookingRepository bookings) {
+        cars.insert(car("Toyota", "Camry", "Black", FuelType.PETROL, "2023-01-01", TransmissionType.AUTOMATIC, 25000.00, 50.00));
+        cars.insert(car("Honda", "Accord", "White", FuelType.PETROL, "2022-06-15", TransmissionType.AUTOMATIC, 27000.00, 55.00));
+        cars.insert(car("Ford", "Fusion", "Silver", FuelType.DIESEL, "2021-12-20", TransmissionType.MANUAL, 23000.00, 45.00));
+
+        customers.insert(new Customer(null, "John", "Doe", "123 Main St, City, Country", "customer1@example.com", 1234567890L, false,
+                "mBCMBKTrOa8VEUTGvM+LW4j73FVWupbNexYFd031aMCxTXbs7fIggVHIM7VzNjdO"));
+        customers.insert(new Customer(null, "Jane", "Smith", "456 Elm St, City, Country", "customer2@example.com", 9876543210L, false,
+                "xS9Zb+NC9PboXyEV1VPn9roWyj5BFRy5PqEAAhqqiiHkaRryWxluzsJwNUcLwlOy"));
+        customers.insert(new Customer(null, "Alice", "Johnson", "789 Oak St, City, Country", "customer3@example.com", 1357924680L, true,
+                "0CycuCHTMXj2j5oXIwV724UuwtKTphXfwjm+aTppcINRgJlzvpmTf+1AZCpfA+Zl"));
+
+        employees.insert(new Employee(null, "John", "Doe", "123 Main St, City, Country", "employee1@example.com", 1234567890L,
+                Date.valueOf("1990-01-01"), Date.valueOf("2020-01-01"), false, false,
+                "aDQYMGhz4+twZIsUESOx+b2vS6Xqp7YAj1Ltb70S69H0dZWh7tQInFmj4Geena65"));
+        employees.insert(new Employee(null, "Jane", "Smith", "456 Elm St, City, Country", "employee2@example.com", 9876543210L,
+                Date.valueOf("1995-05-15"), Date.valueOf("2021-03-15"), false, true,
+                "pFjjyd3khpDoTZk8lZ7Hv+6CwxsHFGR8ULZuHO7Fl0lGOopCp0MCg+RapoUchYp0"));
+        employees.insert(new Employee(null, "Alice", "Johnson", "789 Oak St, City, Country", "employee3@example.com", 1357924680L,
+                Date.valueOf("1985-11-30"), Date.valueOf("2019-07-10"), false, false,
+                "0uOtsMxBofxqfYbGTN5aV/DeIkmmboblV8kijcVei6LWqga69sbhSmGnbmnXJxfL"));
+
+        bookings.insert("C0002", "CUS0002", "E0002", Date.valueOf("2024-03-21"), Date.valueOf("2024-03-25"), null);
+    }
+
+    private static Car car(String brand, String model, String color, FuelType fuelType, String purchaseDate,
+                           TransmissionType transmissionType, double carPrice, double rentalPrice) {
+        return new Car(null, brand, model, color, 5, fuelType, Date.valueOf(purchaseDate), transmissionType, true,
+                carPrice, rentalPrice, false, null, null, null, null, CarStatus.FUNCTIONAL, null, null);
+    }
+}
@@ -0,0 +1,80 @@
+package services.repository;
+
+import services.database.Page;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Helpers shared by the in-memory repositories to mirror what SQL Server does for the JDBC engine:
+ * sequence-generated IDs, primary key ordering, keyset paging and case-insensitive LIKE matching.
+ * Author: Ghazala Anjum
+ */
+final class InMemorySupport {
+
+    /**
+     * Orders IDs the way the clustered primary key does for the generated IDs ("C0002" before "C0010").
+     */
+    static final Comparator<String> ID_ORDER = Comparator.comparingInt(String::length)
+            .thenComparing(Comparator.naturalOrder());
+
+    private InMemorySupport() {
+    }
+
+    /**
+     * Generates the next ID from a sequence, formatted like the column defaults in DataInstructions.sql.
+     *
+     * @param prefix   The ID prefix, such as "C" or "CUS".
+     * @param sequence The sequence backing the table.
+     * @return The new ID, such as "C0004".
+     */
+    static String nextId(String prefix, AtomicLong sequence) {
+        return prefix + String.format("%04d", sequence.incrementAndGet());
+    }
+
+    /**
+     * Equivalent of "value LIKE '%term%'" under the default case-insensitive collation.
+     */
+    static boolean like(String value, String term) {
+        return value != null && value.toLowerCase().contains(term.toLowerCase());
+    }
+
+    /**
+     * Equivalent of "date <= DATEADD(DAY, days, GETDATE())"; null dates never match.
+     */
+    static boolean dueWithinDays(Date date, int days) {
+        return date != null && !date.toLocalDate().isAfter(LocalDate.now().plusDays(days));
+    }
+
+    /**
+     * Reads one keyset page by seeking into an ordered ID index, so the cost depends on the page size only.
+     *
+     * @param ids      The IDs of the table in key order.
+     * @param afterId  The last ID of the previous page, or null for the first page.
+     * @param pageSize The maximum number of rows on the page.
+     * @param load     Loads the row for an ID, or returns null if it no longer exists.
+     * @param keyOf    Extracts the ID of a row.
+     * @param <T>      The type of the rows.
+     * @return The page.
+     */
+    static <T> Page<T> page(NavigableSet<String> ids, String afterId, int pageSize, Function<String, T> load,
+                            Function<T, String> keyOf) {
+        List<T> rows = new ArrayList<>();
+        for (String id : ids.tailSet(afterId == null ? "" : afterId, false)) {
+            if (rows.size() > pageSize) {
+                break;
+            }
+            T row = load.apply(id);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        return Page.of(rows, pageSize, keyOf);
+    }
+}
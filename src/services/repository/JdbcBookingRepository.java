@@ -0,0 +1,89 @@
+package services.repository;
+
+import entities.Booking;
+import entities.BookingListingView;
+import entities.FinanceBookingView;
+import entities.FinanceSummary;
+import services.database.Page;
+import services.database.BookingDAO;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Booking repository backed by the SQL Server database through {@link BookingDAO}.
+ * Author: Amisha Nakrani
+ */
+public class JdbcBookingRepository implements BookingRepository {
+
+    @Override
+    public List<Booking> displayBookings() {
+        return BookingDAO.displayBookings();
+    }
+
+    @Override
+    public boolean addBooking(Booking booking) {
+        return BookingDAO.addBooking(booking);
+    }
+
+    @Override
+    public boolean returnCar(Booking booking, Date returnDate) {
+        return BookingDAO.returnCar(booking, returnDate);
+    }
+
+    @Override
+    public boolean cancelBooking(Booking booking, Date cancellationDate) {
+        return BookingDAO.cancelBooking(booking, cancellationDate);
+    }
+
+    @Override
+    public Booking getBookingById(String bookingId) {
+        return BookingDAO.getBookingById(bookingId);
+    }
+
+    @Override
+    public boolean bookingExists(String bookingId) {
+        return BookingDAO.bookingExists(bookingId);
+    }
+
+    @Override
+    public Page<BookingListingView> getBookingListingsPage(String afterBookingId, int pageSize) {
+        return BookingDAO.getBookingListingsPage(afterBookingId, pageSize);
+    }
+
+    @Override
+    public int forEachBookingListingByCustomerId(String customerId, Consumer<BookingListingView> action) {
+        return BookingDAO.forEachBookingListingByCustomerId(customerId, action);
+    }
+
+    @Override
+    public FinanceSummary getFinanceSummaryByReturnDateRange(Date startDate, Date endDate) {
+        return BookingDAO.getFinanceSummaryByReturnDateRange(startDate, endDate);
+    }
+
+    @Override
+    public FinanceSummary getReturnedFinanceSummaryByCarId(String carId) {
+        return BookingDAO.getReturnedFinanceSummaryByCarId(carId);
+    }
+
+    @Override
+    public FinanceSummary getReturnedFinanceSummaryByCustomerId(String customerId) {
+        return BookingDAO.getReturnedFinanceSummaryByCustomerId(customerId);
+    }
+
+    @Override
+    public int forEachFinanceViewByReturnDateRange(Date startDate, Date endDate, Consumer<FinanceBookingView> action) {
+        return BookingDAO.forEachFinanceViewByReturnDateRange(startDate, endDate, action);
+    }
+
+    @Override
+    public int forEachReturnedFinanceViewByCarId(String carId, Consumer<FinanceBookingView> action) {
+        return BookingDAO.forEachReturnedFinanceViewByCarId(carId, action);
+    }
+
+    @Override
+    public int forEachReturnedFinanceViewByCustomerId(String customerId, Consumer<FinanceBookingView> action) {
+        return BookingDAO.forEachReturnedFinanceViewByCustomerId(customerId, action);
+    }
+}
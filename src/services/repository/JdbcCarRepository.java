@@ -0,0 +1,75 @@
+package services.repository;
+
+import entities.Car;
+import entities.FleetMaintenanceView;
+import services.database.FleetSnapshot;
+import services.database.CarDAO;
+
+import java.util.List;
+
+/**
+ * Car repository backed by the SQL Server database through {@link CarDAO}.
+ * Author: Aashika Vachhani
+ */
+public class JdbcCarRepository implements CarRepository {
+
+    @Override
+    public Car getCarById(String carId) {
+        return CarDAO.getCarById(carId);
+    }
+
+    @Override
+    public List<Car> searchCar(String searchTerm) {
+        return CarDAO.searchCar(searchTerm);
+    }
+
+    @Override
+    public List<Car> searchCarApproximate(String searchTerm) {
+        return CarDAO.searchCarApproximate(searchTerm);
+    }
+
+    @Override
+    public void updateCar(Car car) {
+        CarDAO.updateCar(car);
+    }
+
+    @Override
+    public void deleteCar(String carId) {
+        CarDAO.deleteCar(carId);
+    }
+
+    @Override
+    public void addNewCar(Car car) {
+        CarDAO.addNewCar(car);
+    }
+
+    @Override
+    public boolean carExists(String carId) {
+        return CarDAO.carExists(carId);
+    }
+
+    @Override
+    public FleetSnapshot getFleetSnapshot() {
+        return CarDAO.getFleetSnapshot();
+    }
+
+    @Override
+    public List<FleetMaintenanceView> getMaintenanceViewsDueForOilChange() {
+        return CarDAO.getMaintenanceViewsDueForOilChange();
+    }
+
+    @Override
+    public List<FleetMaintenanceView> getMaintenanceViewsDueForWashing() {
+        return CarDAO.getMaintenanceViewsDueForWashing();
+    }
+
+    @Override
+    public List<FleetMaintenanceView> getMaintenanceViewsDueForInspection() {
+        return CarDAO.getMaintenanceViewsDueForInspection();
+    }
+
+    @Override
+    public List<FleetMaintenanceView> getOutOfServiceMaintenanceViews() {
+        return CarDAO.getOutOfServiceMaintenanceViews();
+    }
+}
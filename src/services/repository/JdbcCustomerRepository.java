@@ -0,0 +1,64 @@
+package services.repository;
+
+import entities.Customer;
+import services.database.Page;
+import services.database.CustomerDAO;
+
+import java.util.List;
+
+/**
+ * Customer repository backed by the SQL Server database through {@link CustomerDAO}.
+ * Author: Amisha Nakrani
+ */
+public class JdbcCustomerRepository implements CustomerRepository {
+
+    @Override
+    public void addCustomer(Customer customer) {
+        CustomerDAO.addCustomer(customer);
+    }
+
+    @Override
+    public void removeCustomer(String customerId) {
+        CustomerDAO.removeCustomer(customerId);
+    }
+
+    @Override
+    public void editCustomer(Customer customer) {
+        CustomerDAO.editCustomer(customer);
+    }
+
+    @Override
+    public Customer getCustomerById(String customerId) {
+        return CustomerDAO.getCustomerById(customerId);
+    }
+
+    @Override
+    public List<Customer> searchCustomer(String keyword) {
+        return CustomerDAO.searchCustomer(keyword);
+    }
+
+    @Override
+    public List<Customer> searchCustomerApproximate(String keyword) {
+        return CustomerDAO.searchCustomerApproximate(keyword);
+    }
+
+    @Override
+    public boolean customerExists(String customerId) {
+        return CustomerDAO.customerExists(customerId);
+    }
+
+    @Override
+    public boolean isEmailInUse(String email, String customerId) {
+        return CustomerDAO.isEmailInUse(email, customerId);
+    }
+
+    @Override
+    public boolean isContactNoInUse(long contactNo, String customerId) {
+        return CustomerDAO.isContactNoInUse(contactNo, customerId);
+    }
+
+    @Override
+    public Page<Customer> getCustomersPage(String afterCustomerId, int pageSize) {
+        return CustomerDAO.getCustomersPage(afterCustomerId, pageSize);
+    }
+}
@@ -0,0 +1,49 @@
+package services.repository;
+
+import entities.Employee;
+import services.database.Page;
+import services.database.EmployeeDAO;
+
+import java.util.List;
+
+/**
+ * Employee repository backed by the SQL Server database through {@link EmployeeDAO}.
+ * Author: Arshdeep Singh
+ */
+public class JdbcEmployeeRepository implements EmployeeRepository {
+
+    @Override
+    public void addEmployee(Employee employee) {
+        EmployeeDAO.addEmployee(employee);
+    }
+
+    @Override
+    public void removeEmployee(String employeeId) {
+        EmployeeDAO.removeEmployee(employeeId);
+    }
+
+    @Override
+    public void editEmployee(Employee employee) {
+        EmployeeDAO.editEmployee(employee);
+    }
+
+    @Override
+    public Employee getEmployeeById(String employeeId) {
+        return EmployeeDAO.getEmployeeById(employeeId);
+    }
+
+    @Override
+    public List<Employee> searchEmployee(String keyword) {
+        return EmployeeDAO.searchEmployee(keyword);
+    }
+
+    @Override
+    public boolean employeeExists(String employeeId) {
+        return EmployeeDAO.employeeExists(employeeId);
+    }
+
+    @Override
+    public Page<Employee> getEmployeesPage(String afterEmployeeId, int pageSize) {
+        return EmployeeDAO.getEmployeesPage(afterEmployeeId, pageSize);
+    }
+}
@@ -0,0 +1,81 @@
+package services.repository;
+
+import services.database.CacheSnapshotFile;
+import services.database.CacheWarmUp;
+import services.database.DatabasePropertiesLoader;
+
+import static constants.CarRentalManagementSystemConstants.DATABASE.*;
+
+/**
+ * Entry point to the repositories used by the application. The storage engine is chosen once at startup
+ * from the db.engine setting: "jdbc" (the default) uses the SQL Server database, "memory" keeps all data
+ * in process memory, seeded with the sample data, so the application runs without a database.
+ * Author: Ghazala Anjum
+ */
+public class Repositories {
+    private static final String ENGINE_NAME; // The engine selected at startup
+    private static final CarRepository CARS;
+    private static final BookingRepository BOOKINGS;
+    private static final CustomerRepository CUSTOMERS;
+    private static final EmployeeRepository EMPLOYEES;
+
+    static {
+        ENGINE_NAME = DatabasePropertiesLoader.getConfiguration().getProperty(ENGINE, ENGINE_JDBC).trim().toLowerCase();
+        if (ENGINE_MEMORY.equals(ENGINE_NAME)) {
+            InMemoryCarRepository cars = new InMemoryCarRepository();
+            InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+            InMemoryEmployeeRepository employees = new InMemoryEmployeeRepository();
+            CARS = cars;
+            CUSTOMERS = customers;
+            EMPLOYEES = employees;
+            InMemoryBookingRepository bookings = new InMemoryBookingRepository(cars, customers, employees);
+            BOOKINGS = bookings;
+            InMemorySampleData.seed(cars, customers, employees, bookings);
+        } else if (ENGINE_JDBC.equals(ENGINE_NAME)) {
+            CARS = new JdbcCarRepository();
+            CUSTOMERS = new JdbcCustomerRepository();
+            EMPLOYEES = new JdbcEmployeeRepository();
+            BOOKINGS = new JdbcBookingRepository();
+        } else {
+            throw new IllegalStateException("Unknown " + ENGINE + " '" + ENGINE_NAME + "', expected '"
+                    + ENGINE_JDBC + "' or '" + ENGINE_MEMORY + "'.");
+        }
+    }
+
+    /**
+     * Get the name of the storage engine selected at startup.
+     * @return "jdbc" or "memory".
+     */
+    public static String getEngine() {
+        return ENGINE_NAME;
+    }
+
+    /**
+     * Starts warming the database caches in the background when db.warmup.enabled is set, and has them saved
+     * to the snapshot file at exit either way. The in-memory engine has nothing to warm or save.
+     */
+    public static void warmUpInBackground() {
+        if (ENGINE_JDBC.equals(ENGINE_NAME)) {
+            CacheSnapshotFile.saveOnShutdown();
+            if (DatabasePropertiesLoader.getConfiguration().isWarmUpEnabled()) {
+                CacheWarmUp.start();
+            }
+        }
+    }
+
+    public static CarRepository cars() {
+        return CARS;
+    }
+
+    public static BookingRepository bookings() {
+        return BOOKINGS;
+    }
+
+    public static CustomerRepository customers() {
+        return CUSTOMERS;
+    }
+
+    public static EmployeeRepository employees() {
+        return EMPLOYEES;
+    }
+}